@@ -0,0 +1,18 @@
+#!/usr/bin/env sh
+# Prueba de carga de la capa de servicios con hilos virtuales. El informe
+# queda en results/ como texto y JSON.
+#
+#   ./carga.sh                                  H2 en memoria, etapas por defecto
+#   ./carga.sh clientes=10,50,100 tasa=2        etapas y operaciones/s por cliente
+#   ./carga.sh base=config                      base de application.properties
+#
+# Parámetros: ver edu.up.benchmarks.carga.LoadHarness.
+set -e
+cd "$(dirname "$0")"
+. ./comun.sh
+
+mvn -B -q -f ../pom.xml install -DskipTests
+mvn -B -q package
+
+# ARGS_JVM sin comillas: son varias opciones separadas por espacios
+java $ARGS_JVM -cp target/benchmarks.jar edu.up.benchmarks.carga.LoadHarness "$@"
@@ -0,0 +1,11 @@
+# Opciones de la JVM comunes a run.sh y carga.sh (se incluye con ". ./comun.sh").
+#
+# Sin ventanas: los benchmarks de la tabla crean componentes Swing. El log va
+# a archivo y no a consola: escribir en la terminal mediría la terminal. Son
+# propiedades de sistema, que el Logger lee por encima de application.properties.
+ARGS_JVM="-Djava.awt.headless=true \
+-Dlogger.console.enabled=false \
+-Dlogger.file.enabled=true \
+-Dlogger.file.path=target/bench-logs/bench.log \
+-Dlogger.file.compress=false \
+-Dlogger.file.maxHistory=2"
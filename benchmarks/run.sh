@@ -0,0 +1,20 @@
+#!/usr/bin/env sh
+# Corre los benchmarks JMH y deja los resultados en results/ como JSON.
+#
+#   ./run.sh                      todos los benchmarks
+#   ./run.sh LoggerBenchmark      solo los que coinciden con la expresión
+#   ./run.sh -p filas=1000        cualquier otra opción de JMH
+#
+# Para comparar dos versiones, correr en cada una y comparar los JSON (por
+# ejemplo con https://jmh.morethan.io).
+set -e
+cd "$(dirname "$0")"
+. ./comun.sh
+
+mvn -B -q -f ../pom.xml install -DskipTests
+mvn -B -q package
+
+mkdir -p results
+RESULTADO="results/jmh-$(git rev-parse --short HEAD 2>/dev/null || echo local)-$(date +%Y%m%d-%H%M%S).json"
+java -jar target/benchmarks.jar -jvmArgsAppend "$ARGS_JVM" -rf json -rff "$RESULTADO" "$@"
+echo "Resultados en benchmarks/$RESULTADO"
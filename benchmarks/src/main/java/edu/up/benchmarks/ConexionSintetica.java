@@ -0,0 +1,87 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.infrastructure.IDBConnection;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import org.h2.tools.SimpleResultSet;
+import org.h2.tools.SimpleRowSource;
+
+/**
+ * Origen de conexiones sin base de datos: toda consulta devuelve las mismas
+ * filas de la tabla medicos desde memoria. Sirve para medir solo el mapeo de
+ * los DAOs, sin red ni motor SQL.
+ *
+ * Connection y PreparedStatement son proxies que ignoran todo salvo
+ * executeQuery y close; el ResultSet es un SimpleResultSet de H2.
+ */
+final class ConexionSintetica implements IDBConnection {
+    private final Object[][] filas;
+
+    ConexionSintetica(Object[][] filas) {
+        this.filas = filas;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+            case "prepareStatement", "createStatement" -> statement();
+            default -> porDefecto(method.getReturnType());
+        });
+    }
+
+    private PreparedStatement statement() {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "executeQuery" -> resultSet();
+            default -> porDefecto(method.getReturnType());
+        });
+    }
+
+    private ResultSet resultSet() {
+        SimpleResultSet rs = new SimpleResultSet(new SimpleRowSource() {
+            private int siguiente;
+
+            @Override
+            public Object[] readRow() {
+                return siguiente < filas.length ? filas[siguiente++] : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void reset() {
+                siguiente = 0;
+            }
+        });
+        rs.addColumn("id", Types.BIGINT, 19, 0);
+        rs.addColumn("nombre", Types.VARCHAR, 100, 0);
+        rs.addColumn("apellido", Types.VARCHAR, 100, 0);
+        rs.addColumn("dni", Types.VARCHAR, 20, 0);
+        rs.addColumn("usuario", Types.VARCHAR, 50, 0);
+        rs.addColumn("contrasena", Types.VARCHAR, 255, 0);
+        return rs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ConexionSintetica.class.getClassLoader(), new Class<?>[] {tipo}, handler);
+    }
+
+    private static Object porDefecto(Class<?> tipo) {
+        if (tipo == boolean.class) {
+            return false;
+        }
+        if (tipo == int.class) {
+            return 0;
+        }
+        if (tipo == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.MedicController;
+import edu.up.controllers.dto.MedicoDTO;
+import edu.up.controllers.service.IMedicService;
+import edu.up.models.projections.PersonaResumen;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversión de resúmenes a DTOs en MedicController.obtenerTodosMedicos.
+ * El servicio devuelve siempre la misma lista ya armada, así que se mide
+ * solo el controlador (conversión, log y timer de métricas).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ControllerConversionBenchmark {
+
+    @Param({"1000", "100000"})
+    private int medicos;
+
+    private MedicController controller;
+
+    @Setup
+    public void setup() {
+        List<PersonaResumen> resumenes = DatosSinteticos.resumenes(medicos);
+        IMedicService servicio = (IMedicService) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {IMedicService.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllResumen")) {
+                        return resumenes;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        controller = new MedicController(servicio);
+    }
+
+    @Benchmark
+    public List<MedicoDTO> obtenerTodosMedicos() {
+        return controller.obtenerTodosMedicos();
+    }
+}
@@ -0,0 +1,52 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.dao.MedicDAOImpl;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mapeo de filas a entidades y a resúmenes en MedicDAOImpl, sobre un
+ * ResultSet en memoria. Incluye el log de cada consulta, como en la
+ * aplicación.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DaoMappingBenchmark {
+
+    @Param({"100", "10000"})
+    private int filas;
+
+    private MedicDAOImpl dao;
+
+    @Setup
+    public void setup() {
+        dao = new MedicDAOImpl(new ConexionSintetica(DatosSinteticos.filasMedicos(filas)));
+    }
+
+    @Benchmark
+    public List<MedicoEntity> findAll() {
+        return dao.findAll();
+    }
+
+    @Benchmark
+    public List<PersonaResumen> findAllResumen() {
+        return dao.findAllResumen();
+    }
+}
@@ -0,0 +1,130 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.dto.MedicoDTO;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.entities.PacienteEntity;
+import edu.up.models.projections.PersonaResumen;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Datos de médicos y pacientes para los benchmarks y la prueba de carga. La
+ * semilla es fija para que dos corridas midan exactamente los mismos datos.
+ */
+public final class DatosSinteticos {
+    private static final long SEMILLA = 42L;
+    // Con el formato de PasswordHasher, para que las filas tengan el largo real
+    private static final String CONTRASENA_FICTICIA =
+            "pbkdf2$210000$c2FsdHNhbHRzYWx0c2FsdA$aGFzaGhhc2hoYXNoaGFzaGhhc2hoYXNoaGFzaGhhc2g";
+
+    private static final String[] NOMBRES = {
+        "Juan", "María", "Carlos", "Ana", "Luis", "Laura", "Jorge", "Sofía", "Pedro", "Lucía",
+        "Martín", "Valentina", "Diego", "Camila", "Javier", "Florencia", "Pablo", "Julieta"
+    };
+    private static final String[] APELLIDOS = {
+        "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Pérez", "Gómez",
+        "Díaz", "Sánchez", "Romero", "Sosa", "Álvarez", "Torres", "Ruiz", "Ramírez", "Acosta"
+    };
+
+    /**
+     * Tablas de database_setup.sql para H2 en modo MySQL: mismas columnas e
+     * índices de listado, sin las opciones propias de MySQL.
+     */
+    public static final String[] ESQUEMA_H2 = {
+        "DROP TABLE IF EXISTS medicos",
+        "DROP TABLE IF EXISTS pacientes",
+        "CREATE TABLE medicos (id BIGINT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(100) NOT NULL, "
+                + "apellido VARCHAR(100) NOT NULL, dni VARCHAR(20) NOT NULL UNIQUE, usuario VARCHAR(50) UNIQUE, "
+                + "contrasena VARCHAR(255))",
+        "CREATE INDEX idx_medicos_nombre ON medicos (apellido, nombre, id, dni)",
+        "CREATE TABLE pacientes (id BIGINT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(100) NOT NULL, "
+                + "apellido VARCHAR(100) NOT NULL, dni VARCHAR(20) NOT NULL UNIQUE, usuario VARCHAR(50) UNIQUE, "
+                + "contrasena VARCHAR(255))",
+        "CREATE INDEX idx_pacientes_nombre ON pacientes (apellido, nombre, id, dni)"
+    };
+
+    private DatosSinteticos() {
+    }
+
+    /**
+     * Filas de la tabla medicos: id, nombre, apellido, dni, usuario, contrasena.
+     */
+    public static Object[][] filasMedicos(int cantidad) {
+        Random random = new Random(SEMILLA);
+        Object[][] filas = new Object[cantidad][];
+        for (int i = 0; i < cantidad; i++) {
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)];
+            String apellido = APELLIDOS[random.nextInt(APELLIDOS.length)];
+            filas[i] = new Object[] {
+                (long) i + 1, nombre, apellido, dni(i), usuario(i), CONTRASENA_FICTICIA
+            };
+        }
+        return filas;
+    }
+
+    /**
+     * Médicos sin ID, listos para insertar.
+     */
+    public static List<MedicoEntity> medicos(int cantidad) {
+        return medicos(cantidad, CONTRASENA_FICTICIA);
+    }
+
+    /**
+     * Médicos sin ID con usuario medicoN y la contraseña (ya hasheada) dada.
+     */
+    public static List<MedicoEntity> medicos(int cantidad, String contrasena) {
+        List<MedicoEntity> medicos = new ArrayList<>(cantidad);
+        for (Object[] fila : filasMedicos(cantidad)) {
+            medicos.add(new MedicoEntity((String) fila[1], (String) fila[2], (String) fila[3],
+                    (String) fila[4], contrasena));
+        }
+        return medicos;
+    }
+
+    /**
+     * Pacientes sin ID con usuario pacienteN y la contraseña (ya hasheada) dada.
+     */
+    public static List<PacienteEntity> pacientes(int cantidad, String contrasena) {
+        Random random = new Random(SEMILLA + 1);
+        List<PacienteEntity> pacientes = new ArrayList<>(cantidad);
+        for (int i = 0; i < cantidad; i++) {
+            pacientes.add(new PacienteEntity(NOMBRES[random.nextInt(NOMBRES.length)],
+                    APELLIDOS[random.nextInt(APELLIDOS.length)], String.valueOf(30_000_000 + i),
+                    "paciente" + i, contrasena));
+        }
+        return pacientes;
+    }
+
+    /**
+     * Un nombre de los que usan los datos generados, para búsquedas.
+     */
+    public static String nombreAlAzar(Random random) {
+        return random.nextBoolean() ? NOMBRES[random.nextInt(NOMBRES.length)]
+                : APELLIDOS[random.nextInt(APELLIDOS.length)];
+    }
+
+    public static List<PersonaResumen> resumenes(int cantidad) {
+        List<PersonaResumen> resumenes = new ArrayList<>(cantidad);
+        for (Object[] fila : filasMedicos(cantidad)) {
+            resumenes.add(new PersonaResumen((Long) fila[0], (String) fila[1], (String) fila[2], (String) fila[3]));
+        }
+        return resumenes;
+    }
+
+    public static List<MedicoDTO> dtos(int cantidad) {
+        List<MedicoDTO> dtos = new ArrayList<>(cantidad);
+        for (Object[] fila : filasMedicos(cantidad)) {
+            dtos.add(new MedicoDTO((Long) fila[0], (String) fila[1], (String) fila[2], (String) fila[3]));
+        }
+        return dtos;
+    }
+
+    private static String dni(int i) {
+        return String.valueOf(20_000_000 + i);
+    }
+
+    private static String usuario(int i) {
+        return "medico" + i;
+    }
+}
@@ -0,0 +1,75 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.dao.MedicDAOImpl;
+import edu.up.controllers.infrastructure.ConnectionPool;
+import edu.up.controllers.infrastructure.ConnectionPoolConfig;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * findAll de punta a punta: pool de conexiones, caché de sentencias, motor
+ * SQL y mapeo. La base es H2 en memoria en modo MySQL en lugar del MySQL
+ * real, así que no hay red; sirve para comparar cambios en el camino de la
+ * aplicación, no para estimar tiempos de producción.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FindAllEndToEndBenchmark {
+    private static final String URL = "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Param({"100", "10000"})
+    private int filas;
+
+    private ConnectionPool pool;
+    private MedicDAOImpl dao;
+
+    @Setup
+    public void setup() throws SQLException {
+        pool = new ConnectionPool(() -> DriverManager.getConnection(URL, "sa", ""),
+                new ConnectionPoolConfig(4, 1, 300_000, 1_800_000, 5_000, 2, 30_000, 64));
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            for (String sql : DatosSinteticos.ESQUEMA_H2) {
+                stmt.execute(sql);
+            }
+        }
+        dao = new MedicDAOImpl(pool);
+        dao.saveAll(DatosSinteticos.medicos(filas));
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+    }
+
+    @Benchmark
+    public List<MedicoEntity> findAll() {
+        return dao.findAll();
+    }
+
+    @Benchmark
+    public List<PersonaResumen> findAllResumen() {
+        return dao.findAllResumen();
+    }
+}
@@ -0,0 +1,73 @@
+package edu.up.benchmarks;
+
+import edu.up.utils.Logger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput del Logger con varios hilos escribiendo a la vez.
+ *
+ * El log va a archivo (ver comun.sh). Con la política BLOCK, una vez
+ * lleno el buffer se mide lo que el hilo escritor llega a volcar, que es el
+ * throughput sostenido real. Los mensajes deshabilitados miden el costo de
+ * un debug que no se escribe.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggerBenchmark {
+    private static final String CLASE = "LoggerBenchmark";
+
+    @Benchmark
+    public void infoConcatenado(Contador contador) {
+        Logger.info(CLASE, "Buscando médico con id: " + contador.siguiente());
+    }
+
+    @Benchmark
+    public void infoSupplier(Contador contador) {
+        long id = contador.siguiente();
+        Logger.info(CLASE, () -> "Buscando médico con id: " + id);
+    }
+
+    @Benchmark
+    public void debugDeshabilitado(Contador contador) {
+        long id = contador.siguiente();
+        Logger.debug(CLASE, () -> "Buscando médico con id: " + id);
+    }
+
+    /**
+     * Vacía el buffer al final de cada iteración para que lo pendiente no
+     * se cuente en la siguiente.
+     */
+    @TearDown(Level.Iteration)
+    public void vaciar() {
+        Logger.flush(10_000);
+    }
+
+    /**
+     * Contador propio de cada hilo, para que los mensajes no sean constantes.
+     */
+    @State(Scope.Thread)
+    public static class Contador {
+        private long valor;
+
+        long siguiente() {
+            return ++valor;
+        }
+    }
+}
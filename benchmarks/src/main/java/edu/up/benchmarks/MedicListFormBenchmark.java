@@ -0,0 +1,68 @@
+package edu.up.benchmarks;
+
+import edu.up.controllers.dto.MedicoDTO;
+import edu.up.ui.forms.medic.MedicListForm;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Carga de la tabla de médicos con MedicListForm.cargarMedicosDTO.
+ *
+ * Corre sin pantalla (java.awt.headless) y fuera del EDT: mide el modelo y
+ * la reacción del JTable al cambio de datos, no el pintado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MedicListFormBenchmark {
+
+    @Param({"1000", "50000"})
+    private int medicos;
+
+    private MedicListForm form;
+    private List<MedicoDTO> dtos;
+
+    @Setup
+    public void setup() {
+        form = new MedicListForm();
+        dtos = DatosSinteticos.dtos(medicos);
+    }
+
+    @Benchmark
+    public JTable cargarMedicosDTO() {
+        form.cargarMedicosDTO(dtos);
+        return form.getTable();
+    }
+
+    /**
+     * Lectura de todas las celdas, como al pintar la tabla completa.
+     */
+    @Benchmark
+    public int cargarYRecorrer() {
+        form.cargarMedicosDTO(dtos);
+        JTable tabla = form.getTable();
+        int hash = 0;
+        for (int fila = 0; fila < tabla.getRowCount(); fila++) {
+            for (int columna = 0; columna < tabla.getColumnCount(); columna++) {
+                Object valor = tabla.getValueAt(fila, columna);
+                hash += valor == null ? 0 : valor.hashCode();
+            }
+        }
+        return hash;
+    }
+}
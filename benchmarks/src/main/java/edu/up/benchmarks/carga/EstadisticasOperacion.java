@@ -0,0 +1,74 @@
+package edu.up.benchmarks.carga;
+
+import edu.up.utils.Histogram;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias de una operación durante una etapa, en nanosegundos.
+ *
+ * La latencia corregida se cuenta desde el momento en que la operación
+ * debía empezar según la tasa de llegadas, no desde que un cliente libre la
+ * empezó: si el sistema se atrasa, la espera en cola queda incluida (la
+ * corrección de "coordinated omission"). La de servicio es solo la duración
+ * de la llamada y sirve para ver cuánto de la latencia es cola.
+ */
+public final class EstadisticasOperacion {
+    private final String nombre;
+    private final Histogram corregida = new Histogram();
+    private final Histogram servicio = new Histogram();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder sinAtender = new LongAdder();
+    private final AtomicReference<String> primerError = new AtomicReference<>();
+
+    EstadisticasOperacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    void registrar(long previsto, long inicio, long fin) {
+        corregida.record(fin - previsto);
+        servicio.record(fin - inicio);
+    }
+
+    void registrarError(Exception e) {
+        errores.increment();
+        primerError.compareAndSet(null, e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    /**
+     * Operación que debía empezar antes del fin de la etapa y no llegó a
+     * ejecutarse. Se registra con la espera acumulada hasta el fin, que es
+     * una cota inferior de su latencia real.
+     */
+    void registrarSinAtender(long previsto, long fin) {
+        corregida.record(fin - previsto);
+        sinAtender.increment();
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public Histogram getCorregida() {
+        return corregida;
+    }
+
+    public Histogram getServicio() {
+        return servicio;
+    }
+
+    public long getErrores() {
+        return errores.sum();
+    }
+
+    public long getSinAtender() {
+        return sinAtender.sum();
+    }
+
+    /**
+     * Mensaje del primer error de la etapa, o null si no hubo.
+     */
+    public String getPrimerError() {
+        return primerError.get();
+    }
+}
@@ -0,0 +1,127 @@
+package edu.up.benchmarks.carga;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Genera carga de lazo abierto con N clientes, cada uno en un hilo virtual.
+ *
+ * Cada cliente representa una recepcionista: tiene su propio calendario de
+ * llegadas a la tasa pedida (constante o Poisson) y las atiende de a una,
+ * en orden. El calendario no espera a que termine la operación anterior, así
+ * que si el sistema se atrasa las llegadas se acumulan y esa espera se mide
+ * (ver EstadisticasOperacion). Al terminar la etapa, las llegadas vencidas
+ * que nadie atendió se registran como sin atender.
+ */
+public final class GeneradorCarga {
+    private final MezclaOperaciones mezcla;
+    private final double tasaPorCliente;
+    private final boolean poisson;
+    private final long calentamientoNanos;
+    private final long duracionNanos;
+    private final long semilla;
+
+    /**
+     * @param mezcla            operaciones y su proporción
+     * @param tasaPorCliente    operaciones por segundo de cada cliente
+     * @param poisson           llegadas con intervalos exponenciales en lugar de constantes
+     * @param calentamientoMs   tiempo inicial que se ejecuta pero no se mide
+     * @param duracionMs        tiempo medido
+     * @param semilla           semilla de la elección de operaciones y de las llegadas
+     */
+    public GeneradorCarga(MezclaOperaciones mezcla, double tasaPorCliente, boolean poisson,
+                          long calentamientoMs, long duracionMs, long semilla) {
+        if (tasaPorCliente <= 0) {
+            throw new IllegalArgumentException("La tasa por cliente debe ser mayor a cero");
+        }
+        if (duracionMs <= 0) {
+            throw new IllegalArgumentException("La duración debe ser mayor a cero");
+        }
+        this.mezcla = mezcla;
+        this.tasaPorCliente = tasaPorCliente;
+        this.poisson = poisson;
+        this.calentamientoNanos = Math.max(0L, calentamientoMs) * 1_000_000L;
+        this.duracionNanos = duracionMs * 1_000_000L;
+        this.semilla = semilla;
+    }
+
+    /**
+     * Ejecuta una etapa completa y espera a que terminen todos los clientes.
+     */
+    public ResultadoEtapa ejecutar(int clientes) {
+        if (clientes <= 0) {
+            throw new IllegalArgumentException("La cantidad de clientes debe ser mayor a cero");
+        }
+        List<EstadisticasOperacion> estadisticas = new ArrayList<>(mezcla.size());
+        for (String nombre : mezcla.getNombres()) {
+            estadisticas.add(new EstadisticasOperacion(nombre));
+        }
+        EstadisticasOperacion total = new EstadisticasOperacion("(total)");
+
+        double intervalo = 1_000_000_000.0 / tasaPorCliente;
+        // Margen para crear los hilos antes de la primera llegada
+        long origen = System.nanoTime() + 50_000_000L;
+        long inicioMedicion = origen + calentamientoNanos;
+        long fin = inicioMedicion + duracionNanos;
+
+        SplittableRandom raiz = new SplittableRandom(semilla);
+        try (ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                // Desfasados para que no lleguen todos a la vez
+                long primera = origen + (long) (intervalo * i / clientes);
+                SplittableRandom random = raiz.split();
+                ejecutor.execute(() -> cliente(random, primera, intervalo, inicioMedicion, fin, estadisticas, total));
+            }
+        }
+        long terminada = System.nanoTime();
+        return new ResultadoEtapa(clientes, clientes * tasaPorCliente, duracionNanos, terminada - fin,
+                estadisticas, total);
+    }
+
+    private void cliente(SplittableRandom random, long primera, double intervalo, long inicioMedicion, long fin,
+                         List<EstadisticasOperacion> estadisticas, EstadisticasOperacion total) {
+        double desplazamiento = 0;
+        long previsto = primera;
+        while (previsto < fin) {
+            int indice = mezcla.elegir(random.nextDouble());
+            EstadisticasOperacion op = estadisticas.get(indice);
+            boolean medida = previsto >= inicioMedicion;
+            if (System.nanoTime() >= fin) {
+                // Se terminó el tiempo con llegadas pendientes
+                if (medida) {
+                    op.registrarSinAtender(previsto, fin);
+                    total.registrarSinAtender(previsto, fin);
+                }
+            } else {
+                esperarHasta(previsto);
+                long inicio = System.nanoTime();
+                try {
+                    mezcla.getOperacion(indice).ejecutar();
+                    long terminada = System.nanoTime();
+                    if (medida) {
+                        op.registrar(previsto, inicio, terminada);
+                        total.registrar(previsto, inicio, terminada);
+                    }
+                } catch (Exception e) {
+                    if (medida) {
+                        op.registrarError(e);
+                        total.registrarError(e);
+                    }
+                }
+            }
+            desplazamiento += poisson ? -Math.log(1.0 - random.nextDouble()) * intervalo : intervalo;
+            previsto = primera + (long) desplazamiento;
+        }
+    }
+
+    private static void esperarHasta(long momento) {
+        long espera;
+        while ((espera = momento - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(espera);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package edu.up.benchmarks.carga;
+
+import edu.up.utils.Histogram;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Informe de una prueba de carga: una línea por etapa, el detalle por
+ * operación y la mayor cantidad de clientes que cumplió el objetivo de
+ * latencia. Se escribe como texto y como JSON.
+ */
+public final class InformeCarga {
+    private static final String SEPARADOR = "-".repeat(110);
+
+    private final Map<String, String> parametros = new LinkedHashMap<>();
+    private final List<ResultadoEtapa> etapas = new ArrayList<>();
+    private final double objetivoP99Ms;
+
+    /**
+     * @param objetivoP99Ms p99 corregido máximo aceptable, en milisegundos
+     */
+    public InformeCarga(double objetivoP99Ms) {
+        this.objetivoP99Ms = objetivoP99Ms;
+    }
+
+    public void parametro(String nombre, Object valor) {
+        parametros.put(nombre, String.valueOf(valor));
+    }
+
+    public void agregar(ResultadoEtapa etapa) {
+        etapas.add(etapa);
+    }
+
+    /**
+     * Si una etapa cumplió el objetivo: p99 corregido dentro del límite, sin
+     * errores y sin llegadas sin atender.
+     */
+    public boolean cumple(ResultadoEtapa etapa) {
+        EstadisticasOperacion total = etapa.getTotal();
+        return total.getErrores() == 0 && total.getSinAtender() == 0
+                && ms(total.getCorregida().getValueAtPercentile(99)) <= objetivoP99Ms;
+    }
+
+    /**
+     * Mayor cantidad de clientes de las etapas que cumplieron el objetivo
+     * sin que fallara ninguna etapa menor, o 0 si ya la primera falló.
+     */
+    public int getCapacidad() {
+        int capacidad = 0;
+        for (ResultadoEtapa etapa : etapas) {
+            if (!cumple(etapa)) {
+                break;
+            }
+            capacidad = etapa.getClientes();
+        }
+        return capacidad;
+    }
+
+    /**
+     * Línea de una etapa, para ir mostrando el avance.
+     */
+    public static String encabezadoEtapas() {
+        return String.format(Locale.ROOT, "%8s %10s %10s %9s %9s %9s %9s %9s %11s %8s %8s",
+                "clientes", "obj(op/s)", "real(op/s)", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)",
+                "p99 serv.", "errores", "sin at.");
+    }
+
+    public static String lineaEtapa(ResultadoEtapa etapa) {
+        EstadisticasOperacion total = etapa.getTotal();
+        Histogram corregida = total.getCorregida();
+        return String.format(Locale.ROOT, "%8d %10.1f %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f %11.1f %8d %8d",
+                etapa.getClientes(), etapa.getTasaObjetivo(), etapa.getTasaLograda(),
+                ms(corregida.getValueAtPercentile(50)), ms(corregida.getValueAtPercentile(90)),
+                ms(corregida.getValueAtPercentile(99)), ms(corregida.getValueAtPercentile(99.9)),
+                ms(corregida.getMax()), ms(total.getServicio().getValueAtPercentile(99)),
+                total.getErrores(), total.getSinAtender());
+    }
+
+    public String texto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Prueba de carga").append(System.lineSeparator());
+        parametros.forEach((k, v) -> sb.append("  ").append(k).append(": ").append(v).append(System.lineSeparator()));
+        sb.append(System.lineSeparator())
+                .append("Latencia corregida (desde la llegada prevista); p99 serv. es solo la llamada")
+                .append(System.lineSeparator())
+                .append(SEPARADOR).append(System.lineSeparator())
+                .append(encabezadoEtapas()).append(System.lineSeparator())
+                .append(SEPARADOR).append(System.lineSeparator());
+        for (ResultadoEtapa etapa : etapas) {
+            sb.append(lineaEtapa(etapa)).append(cumple(etapa) ? "" : "  *").append(System.lineSeparator());
+        }
+        sb.append(SEPARADOR).append(System.lineSeparator());
+        int capacidad = getCapacidad();
+        sb.append(String.format(Locale.ROOT, "Objetivo p99 <= %.0f ms sin errores: ", objetivoP99Ms))
+                .append(capacidad > 0 ? "se cumple hasta " + capacidad + " clientes"
+                        : "no se cumple con ninguna cantidad de clientes probada")
+                .append(" (* = etapa que no cumple)").append(System.lineSeparator());
+
+        for (ResultadoEtapa etapa : etapas) {
+            sb.append(System.lineSeparator()).append("Etapa de ").append(etapa.getClientes()).append(" clientes")
+                    .append(String.format(Locale.ROOT, " (cierre %.0f ms)", ms(etapa.getDemoraCierreNanos())))
+                    .append(System.lineSeparator())
+                    .append(String.format(Locale.ROOT, "  %-22s %9s %9s %9s %9s %9s %11s %8s %8s",
+                            "operación", "cantidad", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "p99 serv.",
+                            "errores", "sin at."))
+                    .append(System.lineSeparator());
+            for (EstadisticasOperacion op : etapa.getOperaciones()) {
+                Histogram corregida = op.getCorregida();
+                sb.append(String.format(Locale.ROOT, "  %-22s %9d %9.1f %9.1f %9.1f %9.1f %11.1f %8d %8d",
+                        op.getNombre(), op.getServicio().getCount(),
+                        ms(corregida.getValueAtPercentile(50)), ms(corregida.getValueAtPercentile(99)),
+                        ms(corregida.getValueAtPercentile(99.9)), ms(corregida.getMax()),
+                        ms(op.getServicio().getValueAtPercentile(99)), op.getErrores(), op.getSinAtender()))
+                        .append(System.lineSeparator());
+                if (op.getPrimerError() != null) {
+                    sb.append("    primer error: ").append(op.getPrimerError()).append(System.lineSeparator());
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    public String json() {
+        StringBuilder sb = new StringBuilder("{\n  \"parametros\": {");
+        String separador = "";
+        for (Map.Entry<String, String> p : parametros.entrySet()) {
+            sb.append(separador).append("\n    ").append(texto(p.getKey())).append(": ").append(texto(p.getValue()));
+            separador = ",";
+        }
+        sb.append("\n  },\n  \"objetivoP99Ms\": ").append(numero(objetivoP99Ms))
+                .append(",\n  \"capacidadClientes\": ").append(getCapacidad())
+                .append(",\n  \"etapas\": [");
+        separador = "";
+        for (ResultadoEtapa etapa : etapas) {
+            sb.append(separador).append("\n    {\"clientes\": ").append(etapa.getClientes())
+                    .append(", \"tasaObjetivo\": ").append(numero(etapa.getTasaObjetivo()))
+                    .append(", \"tasaLograda\": ").append(numero(etapa.getTasaLograda()))
+                    .append(", \"cumple\": ").append(cumple(etapa))
+                    .append(",\n      \"total\": ").append(json(etapa.getTotal()))
+                    .append(",\n      \"operaciones\": [");
+            String separadorOp = "";
+            for (EstadisticasOperacion op : etapa.getOperaciones()) {
+                sb.append(separadorOp).append("\n        ").append(json(op));
+                separadorOp = ",";
+            }
+            sb.append("\n      ]}");
+            separador = ",";
+        }
+        return sb.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * Escribe el informe como carga-AAAAMMDD-HHMMSS.txt y .json en el directorio.
+     *
+     * @return la ruta del informe de texto
+     */
+    public Path escribir(Path directorio, String marca) {
+        try {
+            Files.createDirectories(directorio);
+            Path txt = directorio.resolve("carga-" + marca + ".txt");
+            Files.writeString(txt, texto(), StandardCharsets.UTF_8);
+            Files.writeString(directorio.resolve("carga-" + marca + ".json"), json(), StandardCharsets.UTF_8);
+            return txt;
+        } catch (IOException e) {
+            throw new RuntimeException("Error al escribir el informe de carga en " + directorio.toAbsolutePath(), e);
+        }
+    }
+
+    private static String json(EstadisticasOperacion op) {
+        return "{\"nombre\": " + texto(op.getNombre())
+                + ", \"cantidad\": " + op.getServicio().getCount()
+                + ", \"errores\": " + op.getErrores()
+                + ", \"sinAtender\": " + op.getSinAtender()
+                + ", \"corregidaMs\": " + percentiles(op.getCorregida())
+                + ", \"servicioMs\": " + percentiles(op.getServicio())
+                + (op.getPrimerError() != null ? ", \"primerError\": " + texto(op.getPrimerError()) : "")
+                + "}";
+    }
+
+    private static String percentiles(Histogram h) {
+        return "{\"media\": " + numero(h.getMean() / 1_000_000.0)
+                + ", \"p50\": " + numero(ms(h.getValueAtPercentile(50)))
+                + ", \"p90\": " + numero(ms(h.getValueAtPercentile(90)))
+                + ", \"p99\": " + numero(ms(h.getValueAtPercentile(99)))
+                + ", \"p999\": " + numero(ms(h.getValueAtPercentile(99.9)))
+                + ", \"max\": " + numero(ms(h.getMax())) + "}";
+    }
+
+    private static String numero(double valor) {
+        return String.format(Locale.ROOT, "%.3f", valor);
+    }
+
+    private static String texto(String valor) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : valor.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
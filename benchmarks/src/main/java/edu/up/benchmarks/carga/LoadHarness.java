@@ -0,0 +1,264 @@
+package edu.up.benchmarks.carga;
+
+import edu.up.benchmarks.DatosSinteticos;
+import edu.up.controllers.dao.AuthenticationDAOImpl;
+import edu.up.controllers.dao.MedicDAOImpl;
+import edu.up.controllers.dao.PacienteDAOImpl;
+import edu.up.controllers.infrastructure.ConnectionPool;
+import edu.up.controllers.infrastructure.ConnectionPoolConfig;
+import edu.up.controllers.infrastructure.Configuration;
+import edu.up.controllers.infrastructure.IDBConnection;
+import edu.up.controllers.infrastructure.MySQLConnectionManager;
+import edu.up.controllers.service.AuthenticationServiceImpl;
+import edu.up.controllers.service.CachingMedicService;
+import edu.up.controllers.service.IAuthenticationService;
+import edu.up.controllers.service.IMedicService;
+import edu.up.controllers.service.MedicServiceImpl;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
+import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
+import edu.up.utils.Session;
+import edu.up.utils.SessionRegistry;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga de la capa de servicios: cuántas recepcionistas
+ * simultáneas soportan los servicios y la base antes de que la latencia se
+ * degrade.
+ *
+ * Corre etapas con cantidades crecientes de clientes (ver GeneradorCarga),
+ * muestra cada etapa al terminar y escribe el informe en results/. Por
+ * defecto usa H2 en memoria en modo MySQL con datos generados; con
+ * base=config usa la base de application.properties (por ejemplo el MySQL
+ * local de docker-compose) con los datos que ya tenga. Ejecutar con:
+ *
+ *   benchmarks/carga.sh clientes=10,50,100 tasa=2 duracion=30
+ *
+ * Parámetros clave=valor, todos opcionales:
+ *   clientes=10,25,50,100,200  cantidad de clientes de cada etapa
+ *   tasa=2                     operaciones por segundo de cada cliente
+ *   llegadas=poisson           poisson o constante
+ *   duracion=30                segundos medidos por etapa
+ *   calentamiento=5            segundos sin medir al comienzo de cada etapa
+ *   mezcla=...                 operaciones y pesos (MEZCLA_POR_DEFECTO)
+ *   objetivoP99Ms=500          latencia aceptable; se deja de subir al superarla
+ *   continuar=false            correr todas las etapas aunque alguna no cumpla
+ *   base=h2                    h2 o config
+ *   medicos=2000               médicos generados en H2
+ *   pacientes=10000            pacientes generados en H2
+ *   cache=false                usar CachingMedicService como la aplicación
+ *   login=jperez:medico123,pgarcia:paciente123  credenciales con base=config
+ *   semilla=42                 elección de operaciones y llegadas
+ *
+ * El login se mide sin RateLimitedAuthenticationService, que rechazaría la
+ * carga, y con el costo de PBKDF2 de security.password.iterations. Usa
+ * iniciarSesion(): cada login crea y cierra su propia sesión en un
+ * SessionRegistry, como harían clientes concurrentes.
+ * medicos.alta inserta filas, por eso no está en la mezcla por defecto.
+ *
+ * Para medir otros servicios (por ejemplo, los de turnos) alcanza con
+ * agregar sus operaciones en catalogo() y nombrarlas en la mezcla.
+ */
+public final class LoadHarness {
+    private static final String URL_H2 = "jdbc:h2:mem:carga;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String CONTRASENA_MEDICO = "medico123";
+    private static final String CONTRASENA_PACIENTE = "paciente123";
+    // Usuarios de H2 que participan del login, para no hashear miles de contraseñas distintas
+    private static final int USUARIOS_LOGIN = 500;
+
+    static final String MEZCLA_POR_DEFECTO = "medicos.porDni:30,medicos.buscar:20,medicos.pagina:20,"
+            + "medicos.porId:15,medicos.listar:5,login.ok:8,login.fallido:2";
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) {
+        Map<String, String> p = parametros(args);
+        String base = p.getOrDefault("base", "h2");
+        int[] etapas = Arrays.stream(p.getOrDefault("clientes", "10,25,50,100,200").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        double tasa = Double.parseDouble(p.getOrDefault("tasa", "2"));
+        String llegadas = p.getOrDefault("llegadas", "poisson");
+        long duracionMs = Long.parseLong(p.getOrDefault("duracion", "30")) * 1000L;
+        long calentamientoMs = Long.parseLong(p.getOrDefault("calentamiento", "5")) * 1000L;
+        double objetivoP99Ms = Double.parseDouble(p.getOrDefault("objetivoP99Ms", "500"));
+        boolean continuar = Boolean.parseBoolean(p.getOrDefault("continuar", "false"));
+        boolean cache = Boolean.parseBoolean(p.getOrDefault("cache", "false"));
+        long semilla = Long.parseLong(p.getOrDefault("semilla", "42"));
+        if (!llegadas.equals("poisson") && !llegadas.equals("constante")) {
+            throw new IllegalArgumentException("llegadas debe ser poisson o constante: " + llegadas);
+        }
+
+        IDBConnection origen = switch (base) {
+            case "h2" -> () -> DriverManager.getConnection(URL_H2, "sa", "");
+            case "config" -> MySQLConnectionManager.getInstance();
+            default -> throw new IllegalArgumentException("base debe ser h2 o config: " + base);
+        };
+
+        ConnectionPoolConfig configPool = ConnectionPoolConfig.fromConfiguration();
+        try (ConnectionPool pool = new ConnectionPool(origen, configPool);
+             PasswordHasher hasher = PasswordHasher.fromConfiguration()) {
+            List<String[]> credenciales;
+            if (base.equals("h2")) {
+                credenciales = cargarDatosH2(pool, hasher,
+                        Integer.parseInt(p.getOrDefault("medicos", "2000")),
+                        Integer.parseInt(p.getOrDefault("pacientes", "10000")));
+            } else {
+                credenciales = new ArrayList<>();
+                for (String par : p.getOrDefault("login", "jperez:medico123,pgarcia:paciente123").split(",")) {
+                    credenciales.add(par.trim().split(":", 2));
+                }
+            }
+
+            IMedicService medicService = new MedicServiceImpl(new MedicDAOImpl(pool));
+            List<PersonaResumen> conocidos = medicService.findAllResumen();
+            if (conocidos.isEmpty()) {
+                throw new IllegalStateException("La base no tiene médicos: no hay datos para la carga");
+            }
+            if (cache) {
+                medicService = new CachingMedicService(medicService,
+                        Configuration.getIntProperty("cache.medicos.maxSize", 256),
+                        Configuration.getIntProperty("cache.medicos.ttlSeconds", 300) * 1000L);
+            }
+            SessionRegistry sesiones = new SessionRegistry(30 * 60_000L, 1_000L);
+            IAuthenticationService authService =
+                    new AuthenticationServiceImpl(new AuthenticationDAOImpl(pool, hasher), sesiones);
+
+            MezclaOperaciones mezcla = MezclaOperaciones.parse(p.getOrDefault("mezcla", MEZCLA_POR_DEFECTO),
+                    catalogo(medicService, authService, sesiones, conocidos, credenciales));
+            GeneradorCarga generador = new GeneradorCarga(mezcla, tasa, llegadas.equals("poisson"),
+                    calentamientoMs, duracionMs, semilla);
+
+            InformeCarga informe = new InformeCarga(objetivoP99Ms);
+            informe.parametro("base", base.equals("h2") ? "H2 en memoria (" + conocidos.size() + " médicos)"
+                    : Configuration.getProperty("db.url"));
+            informe.parametro("mezcla", mezcla);
+            informe.parametro("tasa por cliente (op/s)", tasa);
+            informe.parametro("llegadas", llegadas);
+            informe.parametro("duración por etapa (s)", duracionMs / 1000);
+            informe.parametro("calentamiento (s)", calentamientoMs / 1000);
+            informe.parametro("caché de médicos", cache);
+            informe.parametro("pool", configPool);
+            informe.parametro("núcleos", Runtime.getRuntime().availableProcessors());
+
+            System.out.println("Mezcla: " + mezcla);
+            System.out.println(InformeCarga.encabezadoEtapas());
+            for (int clientes : etapas) {
+                ResultadoEtapa etapa = generador.ejecutar(clientes);
+                informe.agregar(etapa);
+                System.out.println(InformeCarga.lineaEtapa(etapa));
+                if (!continuar && !informe.cumple(etapa)) {
+                    System.out.println("La etapa de " + clientes + " clientes no cumple el objetivo; fin de la prueba");
+                    break;
+                }
+            }
+            informe.parametro("estado final del pool", pool.getStatistics());
+
+            String marca = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Path txt = informe.escribir(Paths.get("results"), marca);
+            System.out.println();
+            System.out.print(informe.texto());
+            System.out.println();
+            System.out.println("Informe en " + txt.toAbsolutePath() + " (y .json)");
+        } finally {
+            Logger.flush(5_000);
+        }
+    }
+
+    /**
+     * Operaciones disponibles para la mezcla, por nombre.
+     */
+    static Map<String, Operacion> catalogo(IMedicService medicos, IAuthenticationService auth,
+                                           SessionRegistry sesiones, List<PersonaResumen> conocidos,
+                                           List<String[]> credenciales) {
+        // Prefijo propio de cada corrida para que los DNI nuevos no choquen con corridas anteriores
+        String prefijoDni = "C" + Long.toString(System.currentTimeMillis() / 1000, 36);
+        AtomicLong altas = new AtomicLong();
+
+        Map<String, Operacion> catalogo = new LinkedHashMap<>();
+        catalogo.put("medicos.listar", medicos::findAllResumen);
+        catalogo.put("medicos.pagina", () -> medicos.findPageResumen(null, 50, false));
+        catalogo.put("medicos.porId", () -> medicos.findById(alAzar(conocidos).id()));
+        catalogo.put("medicos.porDni", () -> medicos.findByCode(alAzar(conocidos).dni()));
+        catalogo.put("medicos.buscar", () -> medicos.findByName(alAzar(conocidos).apellido()));
+        catalogo.put("medicos.alta", () -> {
+            PersonaResumen modelo = alAzar(conocidos);
+            medicos.save(new MedicoEntity(modelo.nombre(), modelo.apellido(), prefijoDni + altas.incrementAndGet()));
+        });
+        catalogo.put("login.ok", () -> {
+            String[] credencial = alAzar(credenciales);
+            Session session = auth.iniciarSesion(credencial[0], credencial[1])
+                    .orElseThrow(() -> new IllegalStateException("Credenciales válidas rechazadas: " + credencial[0]));
+            sesiones.close(session.getToken());
+        });
+        catalogo.put("login.fallido", () -> {
+            if (auth.iniciarSesion(alAzar(credenciales)[0], "incorrecta").isPresent()) {
+                throw new IllegalStateException("Se aceptó una contraseña incorrecta");
+            }
+        });
+        return catalogo;
+    }
+
+    /**
+     * Crea las tablas en H2 y las llena. Todos los médicos comparten una
+     * contraseña y todos los pacientes otra, así se hashean una sola vez.
+     *
+     * @return credenciales válidas para el login
+     */
+    private static List<String[]> cargarDatosH2(IDBConnection db, PasswordHasher hasher, int medicos, int pacientes) {
+        System.out.println("Generando " + medicos + " médicos y " + pacientes + " pacientes en H2...");
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            for (String sql : DatosSinteticos.ESQUEMA_H2) {
+                stmt.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error al crear las tablas en H2", e);
+        }
+        new MedicDAOImpl(db).saveAll(DatosSinteticos.medicos(medicos, hasher.hash(CONTRASENA_MEDICO)));
+        new PacienteDAOImpl(db).saveAll(DatosSinteticos.pacientes(pacientes, hasher.hash(CONTRASENA_PACIENTE)));
+
+        List<String[]> credenciales = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < USUARIOS_LOGIN && (medicos > 0 || pacientes > 0); i++) {
+            if (pacientes == 0 || (medicos > 0 && random.nextInt(5) == 0)) {
+                credenciales.add(new String[] {"medico" + random.nextInt(medicos), CONTRASENA_MEDICO});
+            } else {
+                credenciales.add(new String[] {"paciente" + random.nextInt(pacientes), CONTRASENA_PACIENTE});
+            }
+        }
+        return credenciales;
+    }
+
+    private static <T> T alAzar(List<T> lista) {
+        return lista.get(ThreadLocalRandom.current().nextInt(lista.size()));
+    }
+
+    private static Map<String, String> parametros(String[] args) {
+        Map<String, String> parametros = new HashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Parámetro inválido (se espera clave=valor): " + arg);
+            }
+            parametros.put(arg.substring(0, igual).trim(), arg.substring(igual + 1).trim());
+        }
+        return parametros;
+    }
+}
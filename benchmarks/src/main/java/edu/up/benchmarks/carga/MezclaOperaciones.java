@@ -0,0 +1,101 @@
+package edu.up.benchmarks.carga;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Proporción de cada operación en la carga. Se arma desde un texto como
+ * "medicos.porDni:30,login.ok:10", con los nombres del catálogo de
+ * operaciones disponibles; los pesos son relativos.
+ */
+public final class MezclaOperaciones {
+    private final List<String> nombres;
+    private final List<Operacion> operaciones;
+    private final double[] acumulado;
+
+    private MezclaOperaciones(Map<String, Integer> pesos, Map<String, Operacion> catalogo) {
+        this.nombres = new ArrayList<>(pesos.keySet());
+        this.operaciones = new ArrayList<>(nombres.size());
+        this.acumulado = new double[nombres.size()];
+        double total = pesos.values().stream().mapToInt(Integer::intValue).sum();
+        double suma = 0;
+        for (int i = 0; i < nombres.size(); i++) {
+            operaciones.add(catalogo.get(nombres.get(i)));
+            suma += pesos.get(nombres.get(i));
+            acumulado[i] = suma / total;
+        }
+    }
+
+    /**
+     * @param definicion pares nombre:peso separados por coma
+     * @param catalogo   operaciones disponibles por nombre
+     */
+    public static MezclaOperaciones parse(String definicion, Map<String, Operacion> catalogo) {
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        for (String parte : definicion.split(",")) {
+            String[] par = parte.trim().split(":", 2);
+            String nombre = par[0].trim();
+            if (!catalogo.containsKey(nombre)) {
+                throw new IllegalArgumentException("Operación desconocida: " + nombre
+                        + ". Disponibles: " + String.join(", ", catalogo.keySet()));
+            }
+            int peso;
+            try {
+                peso = par.length > 1 ? Integer.parseInt(par[1].trim()) : 1;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Peso inválido para " + nombre + ": " + par[1], e);
+            }
+            if (peso < 0) {
+                throw new IllegalArgumentException("Peso negativo para " + nombre);
+            }
+            if (peso > 0) {
+                pesos.merge(nombre, peso, Integer::sum);
+            }
+        }
+        if (pesos.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de operaciones está vacía");
+        }
+        return new MezclaOperaciones(pesos, catalogo);
+    }
+
+    /**
+     * Índice de la operación que corresponde a un número al azar en [0, 1).
+     */
+    int elegir(double azar) {
+        for (int i = 0; i < acumulado.length - 1; i++) {
+            if (azar < acumulado[i]) {
+                return i;
+            }
+        }
+        return acumulado.length - 1;
+    }
+
+    Operacion getOperacion(int indice) {
+        return operaciones.get(indice);
+    }
+
+    public List<String> getNombres() {
+        return Collections.unmodifiableList(nombres);
+    }
+
+    public int size() {
+        return nombres.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        double anterior = 0;
+        for (int i = 0; i < nombres.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(nombres.get(i)).append(' ').append(Math.round((acumulado[i] - anterior) * 100)).append('%');
+            anterior = acumulado[i];
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package edu.up.benchmarks.carga;
+
+/**
+ * Una llamada a un servicio que genera la prueba de carga. Una excepción
+ * cuenta como error; el resultado de la llamada se descarta.
+ */
+@FunctionalInterface
+public interface Operacion {
+    void ejecutar() throws Exception;
+}
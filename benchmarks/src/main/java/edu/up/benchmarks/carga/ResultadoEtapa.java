@@ -0,0 +1,61 @@
+package edu.up.benchmarks.carga;
+
+import java.util.List;
+
+/**
+ * Resultado de una etapa de carga con una cantidad fija de clientes.
+ */
+public final class ResultadoEtapa {
+    private final int clientes;
+    private final double tasaObjetivo;
+    private final long duracionNanos;
+    private final long demoraCierreNanos;
+    private final List<EstadisticasOperacion> operaciones;
+    private final EstadisticasOperacion total;
+
+    ResultadoEtapa(int clientes, double tasaObjetivo, long duracionNanos, long demoraCierreNanos,
+                   List<EstadisticasOperacion> operaciones, EstadisticasOperacion total) {
+        this.clientes = clientes;
+        this.tasaObjetivo = tasaObjetivo;
+        this.duracionNanos = duracionNanos;
+        this.demoraCierreNanos = Math.max(0L, demoraCierreNanos);
+        this.operaciones = List.copyOf(operaciones);
+        this.total = total;
+    }
+
+    public int getClientes() {
+        return clientes;
+    }
+
+    /**
+     * Operaciones por segundo pedidas entre todos los clientes.
+     */
+    public double getTasaObjetivo() {
+        return tasaObjetivo;
+    }
+
+    /**
+     * Operaciones completadas sin error por segundo medido.
+     */
+    public double getTasaLograda() {
+        return total.getServicio().getCount() * 1_000_000_000.0 / duracionNanos;
+    }
+
+    /**
+     * Tiempo que tardaron en terminar las operaciones en curso al fin de la etapa.
+     */
+    public long getDemoraCierreNanos() {
+        return demoraCierreNanos;
+    }
+
+    public List<EstadisticasOperacion> getOperaciones() {
+        return operaciones;
+    }
+
+    /**
+     * Todas las operaciones juntas.
+     */
+    public EstadisticasOperacion getTotal() {
+        return total;
+    }
+}
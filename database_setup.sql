@@ -21,7 +21,9 @@ CREATE TABLE IF NOT EXISTS medicos (
   fecha_creacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   fecha_actualizacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   INDEX idx_medicos_dni (dni),
-  INDEX idx_medicos_nombre (nombre, apellido),
+  -- Mismo orden que los listados y el cursor de páginas (apellido, nombre, id);
+  -- con dni al final también cubre las consultas de resumen sin leer la fila
+  INDEX idx_medicos_nombre (apellido, nombre, id, dni),
   INDEX idx_medicos_usuario (usuario)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -37,10 +39,18 @@ CREATE TABLE IF NOT EXISTS pacientes (
   fecha_creacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   fecha_actualizacion TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   INDEX idx_pacientes_dni (dni),
-  INDEX idx_pacientes_nombre (nombre, apellido),
+  -- Mismo orden que los listados y el cursor de páginas; dni al final cubre los resúmenes
+  INDEX idx_pacientes_nombre (apellido, nombre, id, dni),
   INDEX idx_pacientes_usuario (usuario)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Migración para bases creadas con un índice anterior, (nombre, apellido) o
+-- (apellido, nombre, dni). id tiene que ir antes que dni: si no, el
+-- ORDER BY apellido, nombre, id de las páginas no sigue el índice y MySQL
+-- ordena (filesort) en cada página.
+-- ALTER TABLE medicos DROP INDEX idx_medicos_nombre, ADD INDEX idx_medicos_nombre (apellido, nombre, id, dni);
+-- ALTER TABLE pacientes DROP INDEX idx_pacientes_nombre, ADD INDEX idx_pacientes_nombre (apellido, nombre, id, dni);
+
 -- Datos de ejemplo para médicos
 INSERT INTO medicos (nombre, apellido, dni, usuario, contrasena) VALUES 
 ('Juan Carlos', 'Pérez', '12345678', 'jperez', 'medico123'),
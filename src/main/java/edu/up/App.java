@@ -4,6 +4,7 @@ import javax.swing.SwingUtilities;
 
 import edu.up.ui.MainFrame;
 import edu.up.utils.Logger;
+import edu.up.utils.jfr.FlightRecording;
 
 /**
  * Clase de inicio de la aplicación.
@@ -12,6 +13,7 @@ import edu.up.utils.Logger;
 public class App {
   public static void main(String[] args) {
     Logger.info("App", "Iniciando aplicación Turnero Médico");
+    FlightRecording.startFromConfiguration();
 
     SwingUtilities.invokeLater(() -> {
       try {
@@ -1,11 +1,31 @@
 package edu.up.controllers;
 
+import edu.up.controllers.dao.AuthenticationDAOImpl;
 import edu.up.controllers.dao.IMedicDAO;
+import edu.up.controllers.dao.IPacienteDAO;
+import edu.up.controllers.dao.IPersonaDAO;
 import edu.up.controllers.dao.MedicDAOImpl;
+import edu.up.controllers.dao.PacienteDAOImpl;
+import edu.up.controllers.importer.ImportService;
+import edu.up.controllers.infrastructure.ConnectionPool;
+import edu.up.controllers.infrastructure.ConnectionPoolConfig;
+import edu.up.controllers.infrastructure.IDBConnection;
+import edu.up.controllers.infrastructure.InstrumentedConnection;
+import edu.up.controllers.infrastructure.MySQLConnectionManager;
+import edu.up.controllers.infrastructure.ConfigSnapshot;
+import edu.up.controllers.infrastructure.Configuration;
 import edu.up.controllers.service.AuthenticationServiceImpl;
+import edu.up.controllers.service.CachingMedicService;
 import edu.up.controllers.service.IAuthenticationService;
 import edu.up.controllers.service.IMedicService;
 import edu.up.controllers.service.MedicServiceImpl;
+import edu.up.controllers.service.RateLimitedAuthenticationService;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.entities.PersonaEntity;
+import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
+import edu.up.utils.SessionManager;
+import edu.up.utils.metrics.MetricsRegistry;
 
 /**
  * Contexto de aplicación que maneja la inyección de dependencias
@@ -16,12 +36,19 @@ public class ApplicationContext {
     // Instancias únicas (singleton pattern)
     private static ApplicationContext instance;
     
+    // Infraestructura
+    private ConnectionPool connectionPool;
+    private InstrumentedConnection instrumentedConnection;
+    
     // DAOs
     private IMedicDAO medicDAO;
+    private IPacienteDAO pacienteDAO;
     
     // Servicios
     private IAuthenticationService authenticationService;
     private IMedicService medicService;
+    private CachingMedicService medicServiceCache;
+    private ImportService importService;
     
     // Controladores
     private LoginController loginController;
@@ -45,16 +72,125 @@ public class ApplicationContext {
      * Inicializa todos los componentes y sus dependencias
      */
     private void initializeComponents() {
-        // Inicializar DAOs
-        medicDAO = new MedicDAOImpl();
+        // Inicializar pool de conexiones compartido por todos los DAOs
+        connectionPool = new ConnectionPool(MySQLConnectionManager.getInstance(), ConnectionPoolConfig.fromConfiguration());
+        Runtime.getRuntime().addShutdownHook(new Thread(connectionPool::close, "connection-pool-shutdown"));
+        
+        // Medición de cada consulta, por constante SQL de los DAOs, publicada en MetricsRegistry
+        IDBConnection dataSource = connectionPool;
+        if (Configuration.getBooleanProperty("db.instrumentation.enabled", true)) {
+            instrumentedConnection = new InstrumentedConnection(connectionPool,
+                    Configuration.getIntProperty("db.instrumentation.slowQueryMs", 500),
+                    MetricsRegistry.getInstance(),
+                    IMedicDAO.class, IPacienteDAO.class, IPersonaDAO.class);
+            dataSource = instrumentedConnection;
+        }
+        
+        // Inicializar DAOs; las altas y el login comparten el hasher de contraseñas
+        PasswordHasher passwordHasher = PasswordHasher.fromConfiguration();
+        medicDAO = new MedicDAOImpl(dataSource, passwordHasher);
+        pacienteDAO = new PacienteDAOImpl(dataSource, passwordHasher);
         
         // Inicializar servicios
-        authenticationService = new AuthenticationServiceImpl();
         medicService = new MedicServiceImpl(medicDAO);
+        if (Configuration.getBooleanProperty("cache.medicos.enabled", true)) {
+            medicServiceCache = new CachingMedicService(medicService,
+                    Configuration.getIntProperty("cache.medicos.maxSize", 256),
+                    Configuration.getIntProperty("cache.medicos.ttlSeconds", 300) * 1000L);
+            medicService = medicServiceCache;
+        }
+        // El login reescribe el hash de la contraseña directo en la base: debe avisar a la caché
+        authenticationService = RateLimitedAuthenticationService.fromConfiguration(new AuthenticationServiceImpl(
+                new AuthenticationDAOImpl(dataSource, passwordHasher, this::invalidarCacheMedico)));
+        // La importación escribe directo en el DAO: debe avisar a la caché
+        importService = new ImportService(medicDAO, pacienteDAO, this::invalidarCacheMedicos);
         
         // Inicializar controladores
         loginController = new LoginController(authenticationService);
         medicController = new MedicController(medicService);
+        
+        registrarMetricas();
+        
+        // Aplicar los cambios del archivo de configuración sin reiniciar
+        Logger.configureLevels(Configuration.current().getValues());
+        Configuration.addListener(this::aplicarConfiguracion);
+        Configuration.startWatching();
+    }
+    
+    /**
+     * Aplica en caliente lo que puede cambiar sin reiniciar: parámetros del
+     * pool, umbral de consulta lenta, tamaño y TTL de la caché de médicos,
+     * intervalo del volcado de métricas y niveles de log. El resto (URL de la
+     * base, habilitar o no la caché, salidas del log, costo del hash de
+     * contraseñas y límites de login) rige al reiniciar.
+     */
+    private void aplicarConfiguracion(ConfigSnapshot anterior, ConfigSnapshot nueva) {
+        if (nueva.changed(anterior, "logger.level")) {
+            Logger.configureLevels(nueva.getValues());
+            Logger.info("ApplicationContext", "Niveles de log actualizados");
+        }
+        if (nueva.changed(anterior, "db.pool.")) {
+            connectionPool.reconfigure(nueva.getPoolConfig());
+        }
+        if (nueva.changed(anterior, "metrics.logIntervalSeconds")) {
+            MetricsRegistry.getInstance().startReporting(nueva.getLong("metrics.logIntervalSeconds", 300) * 1000L);
+        }
+        if (instrumentedConnection != null && nueva.changed(anterior, "db.instrumentation.slowQueryMs")) {
+            instrumentedConnection.setSlowQueryThresholdMs(nueva.getInt("db.instrumentation.slowQueryMs", 500));
+        }
+        if (medicServiceCache != null && nueva.changed(anterior, "cache.medicos.")) {
+            medicServiceCache.reconfigure(
+                    nueva.getInt("cache.medicos.maxSize", 256),
+                    nueva.getInt("cache.medicos.ttlSeconds", 300) * 1000L);
+        }
+        if (nueva.changed(anterior, "db.url") || nueva.changed(anterior, "db.user")
+                || nueva.changed(anterior, "db.password") || nueva.changed(anterior, "logger.file.")
+                || nueva.changed(anterior, "security.")) {
+            Logger.warn("ApplicationContext", "Algunos cambios de configuración requieren reiniciar la aplicación");
+        }
+    }
+    
+    /**
+     * Publica como gauges el estado de la infraestructura y de la caché de
+     * médicos, y arranca JMX y el volcado periódico de métricas al log.
+     */
+    private void registrarMetricas() {
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        metrics.gauge("db.pool.activas", () -> connectionPool.getStatistics().getActive());
+        metrics.gauge("db.pool.ociosas", () -> connectionPool.getStatistics().getIdle());
+        metrics.gauge("db.pool.timeouts", () -> connectionPool.getStatistics().getTimeoutCount());
+        if (instrumentedConnection != null) {
+            // Los timers db.sql.* y db.conexion.obtener los registra la propia InstrumentedConnection
+            metrics.gauge("db.consultasLentas", instrumentedConnection::getSlowQueries);
+            metrics.gauge("db.conexion.errores", instrumentedConnection::getAcquireErrors);
+        }
+        if (medicServiceCache != null) {
+            metrics.gauge("cache.medicos.aciertos", () -> medicServiceCache.getStatistics().getHits());
+            metrics.gauge("cache.medicos.fallos", () -> medicServiceCache.getStatistics().getMisses());
+            metrics.gauge("cache.medicos.tasaAciertos", () -> medicServiceCache.getStatistics().getHitRate());
+            metrics.gauge("cache.medicos.entradas", () -> medicServiceCache.getStatistics().getSize());
+            metrics.gauge("cache.medicos.desalojos", () -> medicServiceCache.getStatistics().getEvictions());
+            metrics.gauge("cache.medicos.expiradas", () -> medicServiceCache.getStatistics().getExpirations());
+        }
+        metrics.gauge("sesiones.activas", () -> SessionManager.getInstance().getSessionRegistry().getActiveCount());
+        metrics.gauge("logger.descartados", Logger::getDroppedCount);
+        
+        if (Configuration.getBooleanProperty("metrics.jmx.enabled", true)) {
+            metrics.enableJmx();
+        }
+        metrics.startReporting(Configuration.current().getLong("metrics.logIntervalSeconds", 300) * 1000L);
+    }
+    
+    private void invalidarCacheMedicos() {
+        if (medicServiceCache != null) {
+            medicServiceCache.invalidateAll();
+        }
+    }
+    
+    private void invalidarCacheMedico(PersonaEntity persona) {
+        if (medicServiceCache != null && persona instanceof MedicoEntity) {
+            medicServiceCache.invalidate(persona.getId(), persona.getDni());
+        }
     }
     
     // Getters para acceder a los controladores configurados
@@ -76,4 +212,28 @@ public class ApplicationContext {
     public IMedicService getMedicService() {
         return medicService;
     }
+    
+    public ImportService getImportService() {
+        return importService;
+    }
+    
+    // Getters para infraestructura (monitoreo)
+    
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+    
+    /**
+     * Métricas por consulta SQL, o null si la instrumentación está deshabilitada.
+     */
+    public InstrumentedConnection getInstrumentedConnection() {
+        return instrumentedConnection;
+    }
+    
+    /**
+     * Caché del servicio de médicos, o null si está deshabilitada.
+     */
+    public CachingMedicService getMedicServiceCache() {
+        return medicServiceCache;
+    }
 } 
\ No newline at end of file
@@ -1,13 +1,23 @@
 package edu.up.controllers;
 
+import edu.up.controllers.exceptions.RateLimitExceededException;
 import edu.up.controllers.service.IAuthenticationService;
 import edu.up.utils.Logger;
+import edu.up.utils.metrics.Counter;
+import edu.up.utils.metrics.MetricsRegistry;
+import edu.up.utils.metrics.Timer;
 
 /**
  * Controlador para manejar la lógica de login
  * Actúa como intermediario entre la vista y el servicio de autenticación
  */
 public class LoginController {
+    private static final Timer LOGIN = MetricsRegistry.getInstance().timer("login.validarCredenciales");
+    private static final Counter INTENTOS = MetricsRegistry.getInstance().counter("login.intentos");
+    private static final Counter EXITOSOS = MetricsRegistry.getInstance().counter("login.exitosos");
+    private static final Counter RECHAZADOS = MetricsRegistry.getInstance().counter("login.credencialesInvalidas");
+    private static final Counter BLOQUEADOS = MetricsRegistry.getInstance().counter("login.bloqueados");
+    private static final Counter ERRORES = MetricsRegistry.getInstance().counter("login.errores");
     
     private final IAuthenticationService authService;
     
@@ -43,7 +53,7 @@ public class LoginController {
      * @return resultado del login con mensaje descriptivo
      */
     public LoginResult validarCredenciales(String usuario, String contrasena) {
-        Logger.info("LoginController", "Iniciando proceso de login para usuario: " + usuario);
+        Logger.info("LoginController", () -> "Iniciando proceso de login para usuario: " + usuario);
         
         // Validar campos vacíos
         if (usuario == null || usuario.trim().isEmpty()) {
@@ -56,21 +66,35 @@ public class LoginController {
             return new LoginResult(false, "Por favor ingrese la contraseña");
         }
         
+        INTENTOS.increment();
+        long inicio = System.nanoTime();
         try {
             // Autenticar usando el servicio
             boolean autenticado = authService.autenticar(usuario.trim(), contrasena);
             
             if (autenticado) {
-                Logger.info("LoginController", "Login exitoso para usuario: " + usuario);
+                EXITOSOS.increment();
+                Logger.info("LoginController", () -> "Login exitoso para usuario: " + usuario);
                 return new LoginResult(true, "Login exitoso");
             } else {
-                Logger.warn("LoginController", "Credenciales inválidas para usuario: " + usuario);
+                RECHAZADOS.increment();
+                Logger.warn("LoginController", () -> "Credenciales inválidas para usuario: " + usuario);
                 return new LoginResult(false, "Usuario o contraseña incorrectos");
             }
             
+        } catch (RateLimitExceededException e) {
+            BLOQUEADOS.increment();
+            long segundos = Math.max(1, (e.getRetryAfterMillis() + 999) / 1000);
+            Logger.warn("LoginController", () -> "Intento de login bloqueado para usuario: " + usuario);
+            return new LoginResult(false, "Demasiados intentos. Espere " + segundos
+                    + (segundos == 1 ? " segundo" : " segundos") + " e intente nuevamente.");
+            
         } catch (Exception e) {
+            ERRORES.increment();
             Logger.error("LoginController", "Error durante el proceso de autenticación", e);
             return new LoginResult(false, "Error al conectar con el sistema. Intente nuevamente.");
+        } finally {
+            LOGIN.recordSince(inicio);
         }
     }
 } 
\ No newline at end of file
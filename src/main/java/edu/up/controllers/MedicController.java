@@ -1,12 +1,19 @@
 package edu.up.controllers;
 
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
 import edu.up.controllers.dto.MedicoDTO;
+import edu.up.controllers.exceptions.EntityNotFoundException;
 import edu.up.controllers.service.IMedicService;
 import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
 import edu.up.utils.Logger;
+import edu.up.utils.metrics.Counter;
+import edu.up.utils.metrics.MetricsRegistry;
+import edu.up.utils.metrics.Timer;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -15,6 +22,13 @@ import java.util.stream.Collectors;
  * Maneja la conversión entre DTOs y entidades
  */
 public class MedicController {
+    private static final Timer OBTENER_TODOS = MetricsRegistry.getInstance().timer("medic.obtenerTodosMedicos");
+    private static final Timer GUARDAR = MetricsRegistry.getInstance().timer("medic.guardarMedico");
+    private static final Timer ELIMINAR = MetricsRegistry.getInstance().timer("medic.eliminarMedico");
+    private static final Counter ERRORES_OBTENER_TODOS = MetricsRegistry.getInstance().counter("medic.obtenerTodosMedicos.errores");
+    private static final Counter ERRORES_GUARDAR = MetricsRegistry.getInstance().counter("medic.guardarMedico.errores");
+    private static final Counter ERRORES_ELIMINAR = MetricsRegistry.getInstance().counter("medic.eliminarMedico.errores");
+    
     private final IMedicService medicService;
     
     public MedicController(IMedicService medicService) {
@@ -27,10 +41,16 @@ public class MedicController {
     public static class OperationResult {
         private final boolean exitoso;
         private final String mensaje;
+        private final MedicoDTO medico;
         
         public OperationResult(boolean exitoso, String mensaje) {
+            this(exitoso, mensaje, null);
+        }
+        
+        public OperationResult(boolean exitoso, String mensaje, MedicoDTO medico) {
             this.exitoso = exitoso;
             this.mensaje = mensaje;
+            this.medico = medico;
         }
         
         public boolean isExitoso() {
@@ -40,6 +60,13 @@ public class MedicController {
         public String getMensaje() {
             return mensaje;
         }
+        
+        /**
+         * Médico tal como quedó guardado (con ID asignado), si la operación lo devuelve
+         */
+        public MedicoDTO getMedico() {
+            return medico;
+        }
     }
     
     /**
@@ -47,14 +74,35 @@ public class MedicController {
      */
     public List<MedicoDTO> obtenerTodosMedicos() {
         Logger.info("MedicController", "Obteniendo todos los médicos");
+        long inicio = System.nanoTime();
         try {
-            List<MedicoEntity> entidades = medicService.findAll();
-            return entidades.stream()
+            List<PersonaResumen> resumenes = medicService.findAllResumen();
+            return resumenes.stream()
                     .map(this::convertirADTO)
                     .collect(Collectors.toList());
         } catch (Exception e) {
+            ERRORES_OBTENER_TODOS.increment();
             Logger.error("MedicController", "Error al obtener médicos", e);
             throw new RuntimeException("Error al cargar médicos", e);
+        } finally {
+            OBTENER_TODOS.recordSince(inicio);
+        }
+    }
+    
+    /**
+     * Obtiene una página de médicos ordenados por apellido y nombre.
+     *
+     * @param despues      cursor de la página anterior, o null para la primera
+     * @param tamanio      cantidad de médicos por página
+     * @param incluirTotal si además se cuenta el total de médicos
+     */
+    public Page<MedicoDTO> obtenerPaginaMedicos(PageCursor despues, int tamanio, boolean incluirTotal) {
+        Logger.info("MedicController", () -> "Obteniendo página de médicos después de " + despues);
+        try {
+            return medicService.findPageResumen(despues, tamanio, incluirTotal).map(this::convertirADTO);
+        } catch (Exception e) {
+            Logger.error("MedicController", "Error al obtener página de médicos", e);
+            throw new RuntimeException("Error al cargar médicos", e);
         }
     }
     
@@ -62,7 +110,8 @@ public class MedicController {
      * Guarda un médico desde un DTO
      */
     public OperationResult guardarMedico(MedicoDTO medicoDTO) {
-        Logger.info("MedicController", "Guardando médico: " + medicoDTO);
+        Logger.info("MedicController", () -> "Guardando médico: " + medicoDTO);
+        long inicio = System.nanoTime();
         
         try {
             // Validar datos
@@ -74,15 +123,26 @@ public class MedicController {
             // Convertir DTO a entidad
             MedicoEntity entidad = convertirAEntidad(medicoDTO);
             
-            // Guardar
-            medicService.save(entidad);
+            // Con ID se actualiza el existente (falla si ya no existe); sin ID se inserta uno nuevo
+            MedicoEntity guardado;
+            if (entidad.getId() != null) {
+                medicService.update(entidad);
+                guardado = entidad;
+            } else {
+                guardado = medicService.save(entidad);
+            }
             
             Logger.info("MedicController", "Médico guardado exitosamente");
-            return new OperationResult(true, "Médico guardado exitosamente");
+            return new OperationResult(true, "Médico guardado exitosamente", convertirADTO(guardado));
             
+        } catch (EntityNotFoundException e) {
+            return new OperationResult(false, "El médico ya no existe");
         } catch (Exception e) {
+            ERRORES_GUARDAR.increment();
             Logger.error("MedicController", "Error al guardar médico", e);
             return new OperationResult(false, "Error al guardar médico: " + e.getMessage());
+        } finally {
+            GUARDAR.recordSince(inicio);
         }
     }
     
@@ -90,7 +150,8 @@ public class MedicController {
      * Elimina un médico por ID
      */
     public OperationResult eliminarMedico(Long id) {
-        Logger.info("MedicController", "Eliminando médico con ID: " + id);
+        Logger.info("MedicController", () -> "Eliminando médico con ID: " + id);
+        long inicio = System.nanoTime();
         
         try {
             if (id == null) {
@@ -102,8 +163,70 @@ public class MedicController {
             return new OperationResult(true, "Médico eliminado exitosamente");
             
         } catch (Exception e) {
+            ERRORES_ELIMINAR.increment();
             Logger.error("MedicController", "Error al eliminar médico", e);
             return new OperationResult(false, "Error al eliminar médico: " + e.getMessage());
+        } finally {
+            ELIMINAR.recordSince(inicio);
+        }
+    }
+    
+    /**
+     * Guarda un conjunto de médicos en una única operación por lotes.
+     * Los médicos con ID se actualizan y los nuevos se insertan.
+     * Si alguno no supera la validación no se guarda ninguno.
+     */
+    public OperationResult guardarMedicos(List<MedicoDTO> medicosDTO) {
+        Logger.info("MedicController", () -> "Guardando lote de " + medicosDTO.size() + " médicos");
+        
+        try {
+            List<MedicoEntity> nuevos = new ArrayList<>();
+            List<MedicoEntity> existentes = new ArrayList<>();
+            for (MedicoDTO medicoDTO : medicosDTO) {
+                OperationResult validacion = validarDatosMedico(medicoDTO);
+                if (!validacion.isExitoso()) {
+                    return new OperationResult(false, validacion.getMensaje() + ": " + medicoDTO);
+                }
+                MedicoEntity entidad = convertirAEntidad(medicoDTO);
+                if (entidad.getId() != null) {
+                    existentes.add(entidad);
+                } else {
+                    nuevos.add(entidad);
+                }
+            }
+            
+            // Una sola transacción: si un médico ya no existe o falla la actualización no quedan altas a medias
+            medicService.saveAndUpdateAll(nuevos, existentes);
+            
+            Logger.info("MedicController", "Lote de médicos guardado exitosamente");
+            return new OperationResult(true, medicosDTO.size() + " médicos guardados exitosamente");
+            
+        } catch (EntityNotFoundException e) {
+            return new OperationResult(false, e.getMessage());
+        } catch (Exception e) {
+            Logger.error("MedicController", "Error al guardar lote de médicos", e);
+            return new OperationResult(false, "Error al guardar médicos: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Elimina un conjunto de médicos por ID en una única operación por lotes
+     */
+    public OperationResult eliminarMedicos(List<Long> ids) {
+        Logger.info("MedicController", () -> "Eliminando lote de " + ids.size() + " médicos");
+        
+        try {
+            if (ids.contains(null)) {
+                return new OperationResult(false, "ID de médico inválido");
+            }
+            
+            medicService.deleteAll(ids);
+            Logger.info("MedicController", "Lote de médicos eliminado exitosamente");
+            return new OperationResult(true, ids.size() + " médicos eliminados exitosamente");
+            
+        } catch (Exception e) {
+            Logger.error("MedicController", "Error al eliminar lote de médicos", e);
+            return new OperationResult(false, "Error al eliminar médicos: " + e.getMessage());
         }
     }
     
@@ -115,15 +238,23 @@ public class MedicController {
             return new OperationResult(false, "Datos de médico inválidos");
         }
         
-        if (medico.getNombre() == null || medico.getNombre().trim().isEmpty()) {
+        return validarDatosPersona(medico.getNombre(), medico.getApellido(), medico.getDni());
+    }
+    
+    /**
+     * Valida los datos obligatorios de una persona (médico o paciente).
+     * También la usa la importación masiva para validar cada fila.
+     */
+    public static OperationResult validarDatosPersona(String nombre, String apellido, String dni) {
+        if (nombre == null || nombre.trim().isEmpty()) {
             return new OperationResult(false, "El nombre es obligatorio");
         }
         
-        if (medico.getApellido() == null || medico.getApellido().trim().isEmpty()) {
+        if (apellido == null || apellido.trim().isEmpty()) {
             return new OperationResult(false, "El apellido es obligatorio");
         }
         
-        if (medico.getDni() == null || medico.getDni().trim().isEmpty()) {
+        if (dni == null || dni.trim().isEmpty()) {
             return new OperationResult(false, "El DNI es obligatorio");
         }
         
@@ -142,6 +273,18 @@ public class MedicController {
         );
     }
     
+    /**
+     * Convierte una proyección de listado a DTO
+     */
+    private MedicoDTO convertirADTO(PersonaResumen resumen) {
+        return new MedicoDTO(
+                resumen.id(),
+                resumen.nombre(),
+                resumen.apellido(),
+                resumen.dni()
+        );
+    }
+    
     /**
      * Convierte un DTO a entidad
      */
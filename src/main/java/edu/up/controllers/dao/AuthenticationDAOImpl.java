@@ -7,32 +7,58 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import edu.up.controllers.infrastructure.IDBConnection;
 import edu.up.controllers.infrastructure.MySQLConnectionManager;
 import edu.up.models.entities.MedicoEntity;
 import edu.up.models.entities.PacienteEntity;
 import edu.up.models.entities.PersonaEntity;
 import edu.up.utils.ConfigurationManager;
 import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
 
 /**
- * DAO para manejo de autenticación de usuarios
+ * DAO para manejo de autenticación de usuarios.
+ *
+ * Las contraseñas se guardan con PasswordHasher: el login busca la fila por
+ * usuario y verifica el hash en Java. Las filas con contraseña en texto plano
+ * o con un costo menor al configurado se recalculan al iniciar sesión; ese
+ * UPDATE no pasa por los servicios, así que se avisa a quien tenga copias
+ * de la persona (por ejemplo, la caché de médicos).
  */
 public class AuthenticationDAOImpl implements IPersonaDAO {
     
-    private final MySQLConnectionManager dbConnection;
+    private final IDBConnection dbConnection;
+    private final PasswordHasher passwordHasher;
+    private final Consumer<PersonaEntity> alCambiarContrasena;
     
     public AuthenticationDAOImpl() {
-        this.dbConnection = MySQLConnectionManager.getInstance();
+        this(MySQLConnectionManager.getInstance());
     }
     
-    public AuthenticationDAOImpl(MySQLConnectionManager dbConnection) {
+    public AuthenticationDAOImpl(IDBConnection dbConnection) {
+        this(dbConnection, PasswordHasher.fromConfiguration());
+    }
+    
+    public AuthenticationDAOImpl(IDBConnection dbConnection, PasswordHasher passwordHasher) {
+        this(dbConnection, passwordHasher, persona -> { });
+    }
+    
+    /**
+     * @param alCambiarContrasena se llama después de guardar el hash nuevo de una persona
+     */
+    public AuthenticationDAOImpl(IDBConnection dbConnection, PasswordHasher passwordHasher,
+                                 Consumer<PersonaEntity> alCambiarContrasena) {
         this.dbConnection = dbConnection;
+        this.passwordHasher = passwordHasher;
+        this.alCambiarContrasena = alCambiarContrasena;
     }
 
     @Override
     public PersonaEntity autenticar(String usuario, String contrasena) {
-        Logger.info(getClass().getSimpleName(), "Intentando autenticar usuario: " + usuario);
+        Logger.info(getClass().getSimpleName(), () -> "Intentando autenticar usuario: " + usuario);
         
         // No autenticar credenciales de admin como usuario normal
         if (esAdmin(usuario, contrasena)) {
@@ -40,26 +66,23 @@ public class AuthenticationDAOImpl implements IPersonaDAO {
             return null;
         }
         
-        // Buscar en médicos
-        PersonaEntity medico = autenticarMedico(usuario, contrasena);
-        if (medico != null) {
-            Logger.info(getClass().getSimpleName(), "Médico autenticado exitosamente: " + medico.getNombreCompleto());
-            return medico;
-        }
-        
-        // Buscar en pacientes
-        PersonaEntity paciente = autenticarPaciente(usuario, contrasena);
-        if (paciente != null) {
-            Logger.info(getClass().getSimpleName(), "Paciente autenticado exitosamente: " + paciente.getNombreCompleto());
-            return paciente;
+        // Una sola consulta busca en médicos y pacientes; la contraseña se verifica aparte
+        PersonaEntity persona = buscarPersona(SQL_SELECT_BY_USUARIO, usuario);
+        if (persona != null && passwordHasher.verify(contrasena, persona.getContrasena())) {
+            if (passwordHasher.needsRehash(persona.getContrasena())) {
+                actualizarHash(persona, contrasena);
+            }
+            Logger.info(getClass().getSimpleName(), () -> persona.getTipoPersona() + " autenticado exitosamente: " + persona.getNombreCompleto());
+            return persona;
         }
         
-        Logger.info(getClass().getSimpleName(), "Credenciales inválidas para usuario: " + usuario);
+        Logger.info(getClass().getSimpleName(), () -> "Credenciales inválidas para usuario: " + usuario);
         return null;
     }
     
     /**
-     * Verifica si las credenciales corresponden al administrador
+     * Verifica si las credenciales corresponden al administrador.
+     * admin.password puede ser un hash de PasswordHasher o texto plano.
      * @param usuario Nombre de usuario
      * @param contrasena Contraseña
      * @return true si las credenciales son del admin, false en caso contrario
@@ -68,112 +91,77 @@ public class AuthenticationDAOImpl implements IPersonaDAO {
         String adminUser = ConfigurationManager.getAdminUser();
         String adminPassword = ConfigurationManager.getAdminPassword();
         
-        Logger.info(getClass().getSimpleName(), String.format("Verificando admin - Usuario recibido: '%s', Admin config: '%s'", usuario, adminUser));
-        Logger.info(getClass().getSimpleName(), String.format("Verificando admin - Contraseña recibida: '%s', Admin config: '%s'", contrasena, adminPassword));
+        // Nunca registrar contraseñas, ni la recibida ni la configurada
+        Logger.debug(getClass().getSimpleName(), () -> "Verificando admin - Usuario recibido: '" + usuario + "'");
         
-        boolean isAdmin = usuario.equals(adminUser) && contrasena.equals(adminPassword);
-        Logger.info(getClass().getSimpleName(), "¿Es admin? " + isAdmin);
+        boolean isAdmin = usuario.equals(adminUser) && passwordHasher.verify(contrasena, adminPassword);
+        Logger.debug(getClass().getSimpleName(), () -> "¿Es admin? " + isAdmin);
         
         return isAdmin;
     }
 
     @Override
     public PersonaEntity buscarPorUsuario(String usuario) {
-        Logger.info(getClass().getSimpleName(), "Buscando usuario: " + usuario);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando usuario: " + usuario);
         
         // No buscar admin aquí ya que no es una persona
         if (usuario.equals(ConfigurationManager.getAdminUser())) {
             return null;
         }
         
-        // Buscar en médicos
-        PersonaEntity medico = buscarMedicoPorUsuario(usuario);
-        if (medico != null) {
-            return medico;
-        }
-        
-        // Buscar en pacientes
-        PersonaEntity paciente = buscarPacientePorUsuario(usuario);
-        if (paciente != null) {
-            return paciente;
-        }
-        
-        return null;
-    }
-    
-    private PersonaEntity autenticarMedico(String usuario, String contrasena) {
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_AUTHENTICATE_MEDICO)) {
-            
-            stmt.setString(1, usuario);
-            stmt.setString(2, contrasena);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToMedico(rs);
-                }
-            }
-            
-        } catch (SQLException e) {
-            Logger.error(getClass().getSimpleName(), "Error al autenticar médico: " + usuario, e);
-        }
-        
-        return null;
+        return buscarPersona(SQL_SELECT_BY_USUARIO, usuario);
     }
     
-    private PersonaEntity autenticarPaciente(String usuario, String contrasena) {
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_AUTHENTICATE_PACIENTE)) {
-            
-            stmt.setString(1, usuario);
-            stmt.setString(2, contrasena);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToPaciente(rs);
-                }
-            }
-            
-        } catch (SQLException e) {
-            Logger.error(getClass().getSimpleName(), "Error al autenticar paciente: " + usuario, e);
-        }
-        
-        return null;
-    }
-    
-    private PersonaEntity buscarMedicoPorUsuario(String usuario) {
+    /**
+     * Guarda la contraseña con el hash y costo vigentes. Si falla, el login
+     * sigue siendo válido y se reintenta en el próximo inicio de sesión.
+     */
+    private void actualizarHash(PersonaEntity persona, String contrasena) {
+        String sql = persona instanceof MedicoEntity ? SQL_UPDATE_CONTRASENA_MEDICO : SQL_UPDATE_CONTRASENA_PACIENTE;
+        String hash = passwordHasher.hash(contrasena);
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_MEDICO_BY_USUARIO)) {
-            
-            stmt.setString(1, usuario);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToMedico(rs);
-                }
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, hash);
+            stmt.setLong(2, persona.getId());
+            // Solo si nadie cambió la contraseña mientras se verificaba
+            stmt.setString(3, persona.getContrasena());
+            if (stmt.executeUpdate() == 1) {
+                persona.setContrasena(hash);
+                Logger.info(getClass().getSimpleName(), () -> "Contraseña actualizada al hash vigente para: " + persona.getUsuario());
+                alCambiarContrasena.accept(persona);
             }
-            
         } catch (SQLException e) {
-            Logger.error(getClass().getSimpleName(), "Error al buscar médico por usuario: " + usuario, e);
+            Logger.warn(getClass().getSimpleName(), "No se pudo actualizar el hash de la contraseña de "
+                    + persona.getUsuario() + ": " + e.getMessage());
         }
-        
-        return null;
     }
     
-    private PersonaEntity buscarPacientePorUsuario(String usuario) {
+    /**
+     * Ejecuta una de las consultas unificadas. Cada tabla aporta a lo sumo
+     * una fila (usuario es UNIQUE); si el usuario existe en ambas, gana el médico.
+     */
+    private PersonaEntity buscarPersona(String sql, String usuario) {
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_PACIENTE_BY_USUARIO)) {
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, usuario);
+            stmt.setString(2, usuario);
             
+            PersonaEntity encontrada = null;
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToPaciente(rs);
+                while (rs.next()) {
+                    if (TIPO_MEDICO.equals(rs.getString("tipo"))) {
+                        return mapResultSetToMedico(rs);
+                    }
+                    if (encontrada == null) {
+                        encontrada = mapResultSetToPaciente(rs);
+                    }
                 }
             }
+            return encontrada;
             
         } catch (SQLException e) {
-            Logger.error(getClass().getSimpleName(), "Error al buscar paciente por usuario: " + usuario, e);
+            Logger.error(getClass().getSimpleName(), "Error al buscar usuario: " + usuario, e);
         }
         
         return null;
@@ -214,6 +202,18 @@ public class AuthenticationDAOImpl implements IPersonaDAO {
         return new ArrayList<>();
     }
 
+    @Override
+    public Stream<PersonaEntity> streamAll() {
+        // No implementado para autenticación
+        return Stream.empty();
+    }
+
+    @Override
+    public Page<PersonaEntity> findPage(PageCursor after, int pageSize, boolean includeTotal) {
+        // No implementado para autenticación
+        return Page.empty();
+    }
+
     @Override
     public PersonaEntity save(PersonaEntity entity) {
         // No implementado para autenticación
@@ -229,4 +229,25 @@ public class AuthenticationDAOImpl implements IPersonaDAO {
     public void delete(Long id) {
         // No implementado para autenticación
     }
+
+    @Override
+    public List<PersonaEntity> saveAll(List<PersonaEntity> entities) {
+        // No implementado para autenticación
+        return new ArrayList<>();
+    }
+
+    @Override
+    public void updateAll(List<PersonaEntity> entities) {
+        // No implementado para autenticación
+    }
+
+    @Override
+    public void deleteAll(List<Long> ids) {
+        // No implementado para autenticación
+    }
+
+    @Override
+    public void saveAndUpdateAll(List<PersonaEntity> nuevos, List<PersonaEntity> existentes) {
+        // No implementado para autenticación
+    }
 } 
\ No newline at end of file
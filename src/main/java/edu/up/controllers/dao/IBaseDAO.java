@@ -2,11 +2,31 @@ package edu.up.controllers.dao;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IBaseDAO<T> {
+    // Cantidad máxima de filas enviadas en cada executeBatch
+    int BATCH_CHUNK_SIZE = 500;
+    // Tamaño máximo de página aceptado por findPage
+    int MAX_PAGE_SIZE = 1000;
+    
     Optional<T> findById(Long id);
     List<T> findAll();
+    
+    // Recorre la tabla sin cargarla en memoria; el stream debe cerrarse (try-with-resources)
+    Stream<T> streamAll();
+    
+    // Paginación por keyset sobre (apellido, nombre, id); after == null pide la primera página
+    Page<T> findPage(PageCursor after, int pageSize, boolean includeTotal);
     T save(T entity);
     void update(T entity);
     void delete(Long id);
-} 
\ No newline at end of file
+    
+    // Operaciones por lotes: una única transacción por llamada
+    List<T> saveAll(List<T> entities);
+    void updateAll(List<T> entities);
+    void deleteAll(List<Long> ids);
+    
+    // Inserta los nuevos y actualiza los existentes en la misma transacción
+    void saveAndUpdateAll(List<T> nuevos, List<T> existentes);
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package edu.up.controllers.dao;
 
 import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,13 +11,25 @@ public interface IMedicDAO extends IBaseDAO<MedicoEntity> {
     String SQL_SELECT_BY_ID = "SELECT * FROM medicos WHERE id = ?";
     String SQL_SELECT_ALL = "SELECT * FROM medicos ORDER BY apellido, nombre";
     String SQL_INSERT = "INSERT INTO medicos (nombre, apellido, dni, usuario, contrasena) VALUES (?, ?, ?, ?, ?)";
-    String SQL_UPDATE = "UPDATE medicos SET nombre = ?, apellido = ?, dni = ?, usuario = ?, contrasena = ? WHERE id = ?";
+    // No toca usuario ni contraseña: esos solo cambian por el login (AuthenticationDAOImpl)
+    String SQL_UPDATE = "UPDATE medicos SET nombre = ?, apellido = ?, dni = ? WHERE id = ?";
     String SQL_DELETE_BY_ID = "DELETE FROM medicos WHERE id = ?";
     String SQL_SELECT_BY_CODE = "SELECT * FROM medicos WHERE dni = ?";
     String SQL_SELECT_BY_NAME = "SELECT * FROM medicos WHERE nombre LIKE ? OR apellido LIKE ? ORDER BY apellido, nombre";
     String SQL_DELETE_BY_CODE = "DELETE FROM medicos WHERE dni = ?";
+    String SQL_SELECT_PAGE_FIRST = "SELECT * FROM medicos ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_SELECT_PAGE_AFTER = "SELECT * FROM medicos WHERE (apellido, nombre, id) > (?, ?, ?) ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_COUNT = "SELECT COUNT(*) FROM medicos";
+    
+    // Proyecciones para listados: idx_medicos_nombre (apellido, nombre, id, dni)
+    // las resuelve en el orden del índice, sin ordenar ni leer la fila
+    String SQL_SELECT_RESUMEN_ALL = "SELECT id, nombre, apellido, dni FROM medicos ORDER BY apellido, nombre, id";
+    String SQL_SELECT_RESUMEN_PAGE_FIRST = "SELECT id, nombre, apellido, dni FROM medicos ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_SELECT_RESUMEN_PAGE_AFTER = "SELECT id, nombre, apellido, dni FROM medicos WHERE (apellido, nombre, id) > (?, ?, ?) ORDER BY apellido, nombre, id LIMIT ?";
     
     Optional<MedicoEntity> findByCode(String code);
     List<MedicoEntity> findByName(String name);
     void deleteByCode(String code);
+    List<PersonaResumen> findAllResumen();
+    Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal);
 } 
\ No newline at end of file
@@ -1,6 +1,8 @@
 package edu.up.controllers.dao;
 
 import edu.up.models.entities.PacienteEntity;
+import edu.up.models.projections.PersonaResumen;
+import java.util.List;
 
 /**
  * Interfaz para el acceso a datos de pacientes
@@ -13,8 +15,18 @@ public interface IPacienteDAO extends IBaseDAO<PacienteEntity> {
     String SQL_SELECT_BY_DNI = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE dni = ?";
     String SQL_SELECT_BY_USUARIO = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE usuario = ?";
     String SQL_INSERT = "INSERT INTO pacientes (nombre, apellido, dni, usuario, contrasena) VALUES (?, ?, ?, ?, ?)";
-    String SQL_UPDATE = "UPDATE pacientes SET nombre = ?, apellido = ?, dni = ?, usuario = ?, contrasena = ? WHERE id = ?";
+    // No toca usuario ni contraseña: esos solo cambian por el login (AuthenticationDAOImpl)
+    String SQL_UPDATE = "UPDATE pacientes SET nombre = ?, apellido = ?, dni = ? WHERE id = ?";
     String SQL_DELETE_BY_ID = "DELETE FROM pacientes WHERE id = ?";
+    String SQL_SELECT_PAGE_FIRST = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_SELECT_PAGE_AFTER = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE (apellido, nombre, id) > (?, ?, ?) ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_COUNT = "SELECT COUNT(*) FROM pacientes";
+    
+    // Proyecciones para listados: idx_pacientes_nombre (apellido, nombre, id, dni)
+    // las resuelve en el orden del índice, sin ordenar ni leer la fila
+    String SQL_SELECT_RESUMEN_ALL = "SELECT id, nombre, apellido, dni FROM pacientes ORDER BY apellido, nombre, id";
+    String SQL_SELECT_RESUMEN_PAGE_FIRST = "SELECT id, nombre, apellido, dni FROM pacientes ORDER BY apellido, nombre, id LIMIT ?";
+    String SQL_SELECT_RESUMEN_PAGE_AFTER = "SELECT id, nombre, apellido, dni FROM pacientes WHERE (apellido, nombre, id) > (?, ?, ?) ORDER BY apellido, nombre, id LIMIT ?";
     
     /**
      * Busca un paciente por DNI
@@ -29,4 +41,17 @@ public interface IPacienteDAO extends IBaseDAO<PacienteEntity> {
      * @return PacienteEntity si existe, null en caso contrario
      */
     PacienteEntity buscarPorUsuario(String usuario);
+    
+    /**
+     * Lista todos los pacientes sin credenciales ni columnas de auditoría
+     * @return resúmenes ordenados por apellido y nombre
+     */
+    List<PersonaResumen> findAllResumen();
+    
+    /**
+     * Página de resúmenes de pacientes
+     * @param after cursor de la página anterior, o null para la primera
+     * @return página ordenada por apellido, nombre e id
+     */
+    Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal);
 } 
\ No newline at end of file
@@ -7,13 +7,18 @@ import edu.up.models.entities.PersonaEntity;
  */
 public interface IPersonaDAO extends IBaseDAO<PersonaEntity> {
     
-    // SQL Queries para médicos
-    String SQL_SELECT_MEDICO_BY_USUARIO = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM medicos WHERE usuario = ?";
-    String SQL_AUTHENTICATE_MEDICO = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM medicos WHERE usuario = ? AND contrasena = ?";
+    // Recalculo del hash al iniciar sesión, solo si la contraseña no cambió
+    String SQL_UPDATE_CONTRASENA_MEDICO = "UPDATE medicos SET contrasena = ? WHERE id = ? AND contrasena = ?";
+    String SQL_UPDATE_CONTRASENA_PACIENTE = "UPDATE pacientes SET contrasena = ? WHERE id = ? AND contrasena = ?";
     
-    // SQL Queries para pacientes
-    String SQL_SELECT_PACIENTE_BY_USUARIO = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE usuario = ?";
-    String SQL_AUTHENTICATE_PACIENTE = "SELECT id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE usuario = ? AND contrasena = ?";
+    // SQL Queries unificadas: una sola consulta sobre ambos índices de usuario.
+    // La columna tipo indica la tabla de origen; médicos tiene prioridad.
+    String TIPO_MEDICO = "M";
+    String TIPO_PACIENTE = "P";
+    String SQL_SELECT_BY_USUARIO =
+            "SELECT 'M' AS tipo, id, nombre, apellido, dni, usuario, contrasena FROM medicos WHERE usuario = ? "
+            + "UNION ALL "
+            + "SELECT 'P' AS tipo, id, nombre, apellido, dni, usuario, contrasena FROM pacientes WHERE usuario = ?";
     
     /**
      * Autentica un usuario por credenciales
@@ -0,0 +1,165 @@
+package edu.up.controllers.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import edu.up.controllers.exceptions.EntityNotFoundException;
+import edu.up.controllers.infrastructure.IDBConnection;
+
+/**
+ * Utilidad compartida por los DAOs para ejecutar escrituras por lotes.
+ * Todas las filas se envían con addBatch/executeBatch en trozos de tamaño
+ * acotado, dentro de una única transacción.
+ */
+final class JdbcBatch {
+
+    /**
+     * Asigna los parámetros de una fila al statement.
+     */
+    @FunctionalInterface
+    interface ParameterBinder<E> {
+        void bind(PreparedStatement stmt, E item) throws SQLException;
+    }
+
+    /**
+     * Recibe la clave generada para una fila insertada.
+     */
+    @FunctionalInterface
+    interface KeyAssigner<E> {
+        void assign(E item, long key);
+    }
+
+    /**
+     * Trabajo que se ejecuta dentro de una transacción.
+     */
+    @FunctionalInterface
+    interface TransactionWork {
+        void run(Connection conn) throws SQLException;
+    }
+
+    private JdbcBatch() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Ejecuta el SQL una vez por elemento, agrupando en lotes de chunkSize.
+     * Si alguna fila falla se revierte la transacción completa.
+     *
+     * @param keyAssigner si no es null se solicitan y asignan las claves generadas
+     */
+    static <E> void execute(IDBConnection dbConnection, String sql, List<E> items, int chunkSize,
+                            ParameterBinder<E> binder, KeyAssigner<E> keyAssigner) throws SQLException {
+        if (items.isEmpty()) {
+            return;
+        }
+        inTransaction(dbConnection, conn -> execute(conn, sql, items, chunkSize, binder, keyAssigner));
+    }
+
+    /**
+     * Como execute, para actualizar filas que deben existir: si alguna
+     * sentencia no afecta ninguna fila lanza EntityNotFoundException y se
+     * revierte el lote completo.
+     *
+     * @param faltante mensaje de la excepción, seguido del elemento sin fila
+     */
+    static <E> void executeExisting(IDBConnection dbConnection, String sql, List<E> items, int chunkSize,
+                                    ParameterBinder<E> binder, String faltante) throws SQLException {
+        if (items.isEmpty()) {
+            return;
+        }
+        inTransaction(dbConnection, conn -> executeExisting(conn, sql, items, chunkSize, binder, faltante));
+    }
+
+    /**
+     * Ejecuta el trabajo en una única transacción: si termina bien se
+     * confirma y si lanza una excepción se revierte completo.
+     */
+    static void inTransaction(IDBConnection dbConnection, TransactionWork work) throws SQLException {
+        try (Connection conn = dbConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                work.run(conn);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    /**
+     * Como execute, pero sobre una conexión cuya transacción maneja quien llama.
+     */
+    static <E> void execute(Connection conn, String sql, List<E> items, int chunkSize,
+                            ParameterBinder<E> binder, KeyAssigner<E> keyAssigner) throws SQLException {
+        ejecutar(conn, sql, items, chunkSize, binder, keyAssigner, null);
+    }
+
+    /**
+     * Como executeExisting, sobre una conexión cuya transacción maneja quien
+     * llama; la excepción debe llegar a inTransaction para revertirla.
+     */
+    static <E> void executeExisting(Connection conn, String sql, List<E> items, int chunkSize,
+                                    ParameterBinder<E> binder, String faltante) throws SQLException {
+        ejecutar(conn, sql, items, chunkSize, binder, null, faltante);
+    }
+
+    /**
+     * Falla si la sentencia no afectó ninguna fila. MySQL informa las filas
+     * encontradas (useAffectedRows=false), así que actualizar con los mismos
+     * valores no cuenta como faltante.
+     */
+    static void verificarExistente(long filas, Object item, String faltante) {
+        if (filas == 0) {
+            throw new EntityNotFoundException(faltante + item);
+        }
+    }
+
+    private static <E> void ejecutar(Connection conn, String sql, List<E> items, int chunkSize,
+                                     ParameterBinder<E> binder, KeyAssigner<E> keyAssigner, String faltante)
+            throws SQLException {
+        if (items.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement stmt = keyAssigner != null
+                ? conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)
+                : conn.prepareStatement(sql)) {
+            for (int inicio = 0; inicio < items.size(); inicio += chunkSize) {
+                List<E> lote = items.subList(inicio, Math.min(inicio + chunkSize, items.size()));
+                for (E item : lote) {
+                    binder.bind(stmt, item);
+                    stmt.addBatch();
+                }
+                int[] filas = stmt.executeBatch();
+                if (faltante != null) {
+                    // SUCCESS_NO_INFO (-2) no dice cuántas filas: no se puede verificar
+                    for (int i = 0; i < filas.length && i < lote.size(); i++) {
+                        if (filas[i] != Statement.SUCCESS_NO_INFO) {
+                            verificarExistente(filas[i], lote.get(i), faltante);
+                        }
+                    }
+                }
+                if (keyAssigner != null) {
+                    asignarClaves(stmt, lote, keyAssigner);
+                }
+            }
+        }
+    }
+
+    private static <E> void asignarClaves(PreparedStatement stmt, List<E> lote, KeyAssigner<E> keyAssigner)
+            throws SQLException {
+        try (ResultSet rs = stmt.getGeneratedKeys()) {
+            int i = 0;
+            while (i < lote.size() && rs.next()) {
+                keyAssigner.assign(lote.get(i++), rs.getLong(1));
+            }
+        }
+    }
+}
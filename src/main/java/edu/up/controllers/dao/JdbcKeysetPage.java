@@ -0,0 +1,87 @@
+package edu.up.controllers.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import edu.up.controllers.infrastructure.IDBConnection;
+
+/**
+ * Utilidad compartida por los DAOs para paginar por keyset sobre
+ * (apellido, nombre, id).
+ *
+ * Se pide una fila más que el tamaño de página para saber si hay página
+ * siguiente sin contar la tabla. El costo de cada página es el mismo sin
+ * importar su profundidad, a diferencia de LIMIT/OFFSET.
+ */
+final class JdbcKeysetPage {
+
+    private JdbcKeysetPage() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Consultas de un listado paginado.
+     *
+     * @param firstSql primera página; único parámetro: LIMIT
+     * @param afterSql páginas siguientes; parámetros: apellido, nombre, id y LIMIT
+     * @param countSql total de filas, o null si el listado no lo soporta
+     */
+    static final class Queries {
+        final String firstSql;
+        final String afterSql;
+        final String countSql;
+
+        Queries(String firstSql, String afterSql, String countSql) {
+            this.firstSql = firstSql;
+            this.afterSql = afterSql;
+            this.countSql = countSql;
+        }
+    }
+
+    static <E> Page<E> fetch(IDBConnection dbConnection, Queries queries, PageCursor after, int pageSize,
+                             boolean includeTotal, RowMapper<E> mapper, Function<E, PageCursor> cursorOf)
+            throws SQLException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a cero");
+        }
+        int limite = Math.min(pageSize, IBaseDAO.MAX_PAGE_SIZE);
+
+        try (Connection conn = dbConnection.getConnection()) {
+            List<E> items = new ArrayList<>(limite + 1);
+            try (PreparedStatement stmt = conn.prepareStatement(after == null ? queries.firstSql : queries.afterSql)) {
+                int i = 1;
+                if (after != null) {
+                    stmt.setString(i++, after.getApellido());
+                    stmt.setString(i++, after.getNombre());
+                    stmt.setLong(i++, after.getId());
+                }
+                stmt.setInt(i, limite + 1);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        items.add(mapper.map(rs));
+                    }
+                }
+            }
+
+            PageCursor next = null;
+            if (items.size() > limite) {
+                items.remove(limite);
+                next = cursorOf.apply(items.get(limite - 1));
+            }
+
+            if (!includeTotal || queries.countSql == null) {
+                return new Page<>(items, next);
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(queries.countSql);
+                 ResultSet rs = stmt.executeQuery()) {
+                long total = rs.next() ? rs.getLong(1) : 0L;
+                return new Page<>(items, next, total);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package edu.up.controllers.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.up.controllers.infrastructure.IDBConnection;
+
+/**
+ * Utilidad compartida por los DAOs para recorrer consultas grandes sin
+ * materializarlas en memoria.
+ *
+ * El ResultSet es forward-only y read-only, con fetch size Integer.MIN_VALUE
+ * para que el driver de MySQL entregue las filas de a una (modo streaming).
+ * La conexión queda ocupada hasta que se cierra el stream, por lo que el
+ * llamador debe usarlo siempre dentro de un try-with-resources.
+ */
+final class JdbcStream {
+    // Valor especial del driver de MySQL que activa el modo streaming
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private JdbcStream() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+    }
+
+    /**
+     * Ejecuta la consulta y devuelve un stream perezoso de sus filas.
+     * Al cerrar el stream (o al agotarse) se cierran ResultSet, statement y
+     * conexión.
+     *
+     * @param errorMessage mensaje de la excepción si falla la lectura
+     */
+    static <E> Stream<E> stream(IDBConnection dbConnection, String sql, RowMapper<E> mapper, String errorMessage)
+            throws SQLException {
+        Connection conn = dbConnection.getConnection();
+        PreparedStatement stmt = null;
+        ResultSet rs;
+        try {
+            // La variante con tipo y concurrencia no pasa por la caché de statements
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            rs = stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            cerrarSilencioso(stmt, e);
+            cerrarSilencioso(conn, e);
+            throw e;
+        }
+
+        Cursor<E> cursor = new Cursor<>(conn, stmt, rs, mapper, errorMessage);
+        return StreamSupport.stream(cursor, false).onClose(cursor::close);
+    }
+
+    private static void cerrarSilencioso(AutoCloseable recurso, Exception causa) {
+        if (recurso == null) {
+            return;
+        }
+        try {
+            recurso.close();
+        } catch (Exception e) {
+            causa.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Spliterator que avanza el ResultSet de a una fila.
+     */
+    private static class Cursor<E> extends Spliterators.AbstractSpliterator<E> {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final RowMapper<E> mapper;
+        private final String errorMessage;
+        private boolean cerrado;
+
+        Cursor(Connection conn, PreparedStatement stmt, ResultSet rs, RowMapper<E> mapper, String errorMessage) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.mapper = mapper;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (cerrado) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    // Liberar la conexión apenas se agota, sin esperar al close del stream
+                    close();
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new RuntimeException(errorMessage, e);
+            }
+        }
+
+        void close() {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            RuntimeException error = new RuntimeException("Error al cerrar el cursor");
+            cerrarSilencioso(rs, error);
+            cerrarSilencioso(stmt, error);
+            cerrarSilencioso(conn, error);
+            if (error.getSuppressed().length > 0) {
+                throw error;
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package edu.up.controllers.dao;
 
+import edu.up.controllers.infrastructure.IDBConnection;
 import edu.up.controllers.infrastructure.MySQLConnectionManager;
 import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
 import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -10,22 +13,42 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * DAO de médicos. Las altas guardan la contraseña con PasswordHasher; el
+ * hash se calcula antes de pedir la conexión para no retenerla durante
+ * PBKDF2. Las modificaciones no tocan usuario ni contraseña, y lanzan
+ * EntityNotFoundException si el médico ya no existe (en los lotes, dentro
+ * de la transacción, que se revierte completa).
+ */
 public class MedicDAOImpl implements IMedicDAO {
     
-    private final MySQLConnectionManager dbConnection;
+    private static final JdbcKeysetPage.Queries PAGE_QUERIES =
+            new JdbcKeysetPage.Queries(SQL_SELECT_PAGE_FIRST, SQL_SELECT_PAGE_AFTER, SQL_COUNT);
+    private static final JdbcKeysetPage.Queries RESUMEN_PAGE_QUERIES =
+            new JdbcKeysetPage.Queries(SQL_SELECT_RESUMEN_PAGE_FIRST, SQL_SELECT_RESUMEN_PAGE_AFTER, SQL_COUNT);
+    private static final String NO_EXISTE = "El médico ya no existe: ";
+    
+    private final IDBConnection dbConnection;
+    private final PasswordHasher passwordHasher;
     
     public MedicDAOImpl() {
-        this.dbConnection = MySQLConnectionManager.getInstance();
+        this(MySQLConnectionManager.getInstance());
+    }
+    
+    public MedicDAOImpl(IDBConnection dbConnection) {
+        this(dbConnection, PasswordHasher.fromConfiguration());
     }
     
-    public MedicDAOImpl(MySQLConnectionManager dbConnection) {
+    public MedicDAOImpl(IDBConnection dbConnection, PasswordHasher passwordHasher) {
         this.dbConnection = dbConnection;
+        this.passwordHasher = passwordHasher;
     }
     
     @Override
     public Optional<MedicoEntity> findById(Long id) {
-        Logger.info(getClass().getSimpleName(), "Buscando médico por ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando médico por ID: " + id);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_ID)) {
             stmt.setLong(1, id);
@@ -57,18 +80,40 @@ public class MedicDAOImpl implements IMedicDAO {
         }
     }
     
+    @Override
+    public Stream<MedicoEntity> streamAll() {
+        Logger.info(getClass().getSimpleName(), "Recorriendo todos los médicos por streaming");
+        try {
+            return JdbcStream.stream(dbConnection, SQL_SELECT_ALL, this::mapResultSetToMedico,
+                    "Error al recorrer los médicos");
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al recorrer los médicos", e);
+            throw new RuntimeException("Error al recorrer los médicos", e);
+        }
+    }
+    
+    @Override
+    public Page<MedicoEntity> findPage(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), () -> "Buscando página de médicos después de " + after);
+        try {
+            return JdbcKeysetPage.fetch(dbConnection, PAGE_QUERIES, after, pageSize, includeTotal,
+                    this::mapResultSetToMedico,
+                    m -> new PageCursor(m.getApellido(), m.getNombre(), m.getId()));
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar página de médicos", e);
+            throw new RuntimeException("Error al buscar página de médicos", e);
+        }
+    }
+    
     @Override
     public MedicoEntity save(MedicoEntity medico) {
-        Logger.info(getClass().getSimpleName(), "Guardando nuevo médico: " + medico);
+        Logger.info(getClass().getSimpleName(), () -> "Guardando nuevo médico: " + medico);
+        hashearContrasena(medico);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                  SQL_INSERT,
                  PreparedStatement.RETURN_GENERATED_KEYS)) {
-            stmt.setString(1, medico.getNombre());
-            stmt.setString(2, medico.getApellido());
-            stmt.setString(3, medico.getDni());
-            stmt.setString(4, medico.getUsuario());
-            stmt.setString(5, medico.getContrasena());
+            bindInsert(stmt, medico);
             stmt.executeUpdate();
             ResultSet rs = stmt.getGeneratedKeys();
             if (rs.next()) {
@@ -83,16 +128,11 @@ public class MedicDAOImpl implements IMedicDAO {
     
     @Override
     public void update(MedicoEntity medico) {
-        Logger.info(getClass().getSimpleName(), "Actualizando médico: " + medico);
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando médico: " + medico);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE)) {
-            stmt.setString(1, medico.getNombre());
-            stmt.setString(2, medico.getApellido());
-            stmt.setString(3, medico.getDni());
-            stmt.setString(4, medico.getUsuario());
-            stmt.setString(5, medico.getContrasena());
-            stmt.setLong(6, medico.getId());
-            stmt.executeUpdate();
+            bindUpdate(stmt, medico);
+            JdbcBatch.verificarExistente(stmt.executeUpdate(), medico, NO_EXISTE);
         } catch (SQLException e) {
             Logger.error(getClass().getSimpleName(), "Error al actualizar médico: " + medico, e);
             throw new RuntimeException("Error al actualizar médico", e);
@@ -101,7 +141,7 @@ public class MedicDAOImpl implements IMedicDAO {
     
     @Override
     public void delete(Long id) {
-        Logger.info(getClass().getSimpleName(), "Eliminando médico con ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando médico con ID: " + id);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_DELETE_BY_ID)) {
             stmt.setLong(1, id);
@@ -112,9 +152,62 @@ public class MedicDAOImpl implements IMedicDAO {
         }
     }
     
+    @Override
+    public List<MedicoEntity> saveAll(List<MedicoEntity> medicos) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + medicos.size() + " médicos");
+        medicos.forEach(this::hashearContrasena);
+        try {
+            JdbcBatch.execute(dbConnection, SQL_INSERT, medicos, BATCH_CHUNK_SIZE,
+                    this::bindInsert, MedicoEntity::setId);
+            return medicos;
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al guardar lote de médicos", e);
+            throw new RuntimeException("Error al guardar lote de médicos", e);
+        }
+    }
+    
+    @Override
+    public void updateAll(List<MedicoEntity> medicos) {
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando lote de " + medicos.size() + " médicos");
+        try {
+            JdbcBatch.executeExisting(dbConnection, SQL_UPDATE, medicos, BATCH_CHUNK_SIZE, this::bindUpdate, NO_EXISTE);
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al actualizar lote de médicos", e);
+            throw new RuntimeException("Error al actualizar lote de médicos", e);
+        }
+    }
+    
+    @Override
+    public void deleteAll(List<Long> ids) {
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando lote de " + ids.size() + " médicos");
+        try {
+            JdbcBatch.execute(dbConnection, SQL_DELETE_BY_ID, ids, BATCH_CHUNK_SIZE,
+                    (stmt, id) -> stmt.setLong(1, id), null);
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al eliminar lote de médicos", e);
+            throw new RuntimeException("Error al eliminar lote de médicos", e);
+        }
+    }
+    
+    @Override
+    public void saveAndUpdateAll(List<MedicoEntity> nuevos, List<MedicoEntity> existentes) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + nuevos.size()
+                + " médicos nuevos y " + existentes.size() + " existentes");
+        nuevos.forEach(this::hashearContrasena);
+        try {
+            JdbcBatch.inTransaction(dbConnection, conn -> {
+                JdbcBatch.execute(conn, SQL_INSERT, nuevos, BATCH_CHUNK_SIZE, this::bindInsert, MedicoEntity::setId);
+                JdbcBatch.executeExisting(conn, SQL_UPDATE, existentes, BATCH_CHUNK_SIZE, this::bindUpdate, NO_EXISTE);
+            });
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al guardar lote de médicos", e);
+            throw new RuntimeException("Error al guardar lote de médicos", e);
+        }
+    }
+    
     @Override
     public Optional<MedicoEntity> findByCode(String code) {
-        Logger.info(getClass().getSimpleName(), "Buscando médico por código: " + code);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando médico por código: " + code);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_CODE)) {
             stmt.setString(1, code);
@@ -131,7 +224,7 @@ public class MedicDAOImpl implements IMedicDAO {
     
     @Override
     public List<MedicoEntity> findByName(String name) {
-        Logger.info(getClass().getSimpleName(), "Buscando médicos por nombre: " + name);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando médicos por nombre: " + name);
         List<MedicoEntity> medicos = new ArrayList<>();
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_NAME)) {
@@ -151,7 +244,7 @@ public class MedicDAOImpl implements IMedicDAO {
     
     @Override
     public void deleteByCode(String code) {
-        Logger.info(getClass().getSimpleName(), "Eliminando médico por código: " + code);
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando médico por código: " + code);
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_DELETE_BY_CODE)) {
             stmt.setString(1, code);
@@ -162,6 +255,55 @@ public class MedicDAOImpl implements IMedicDAO {
         }
     }
     
+    @Override
+    public List<PersonaResumen> findAllResumen() {
+        Logger.info(getClass().getSimpleName(), "Buscando resumen de todos los médicos");
+        List<PersonaResumen> medicos = new ArrayList<>();
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_RESUMEN_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                medicos.add(mapResultSetToResumen(rs));
+            }
+            return medicos;
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar resumen de médicos", e);
+            throw new RuntimeException("Error al buscar resumen de médicos", e);
+        }
+    }
+    
+    @Override
+    public Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), () -> "Buscando página de resumen de médicos después de " + after);
+        try {
+            return JdbcKeysetPage.fetch(dbConnection, RESUMEN_PAGE_QUERIES, after, pageSize, includeTotal,
+                    this::mapResultSetToResumen,
+                    r -> new PageCursor(r.apellido(), r.nombre(), r.id()));
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar página de resumen de médicos", e);
+            throw new RuntimeException("Error al buscar página de médicos", e);
+        }
+    }
+    
+    private void hashearContrasena(MedicoEntity medico) {
+        medico.setContrasena(passwordHasher.hashIfPlain(medico.getContrasena()));
+    }
+    
+    private void bindInsert(PreparedStatement stmt, MedicoEntity medico) throws SQLException {
+        stmt.setString(1, medico.getNombre());
+        stmt.setString(2, medico.getApellido());
+        stmt.setString(3, medico.getDni());
+        stmt.setString(4, medico.getUsuario());
+        stmt.setString(5, medico.getContrasena());
+    }
+    
+    private void bindUpdate(PreparedStatement stmt, MedicoEntity medico) throws SQLException {
+        stmt.setString(1, medico.getNombre());
+        stmt.setString(2, medico.getApellido());
+        stmt.setString(3, medico.getDni());
+        stmt.setLong(4, medico.getId());
+    }
+    
     private MedicoEntity mapResultSetToMedico(ResultSet rs) throws SQLException {
         MedicoEntity medico = new MedicoEntity();
         medico.setId(rs.getLong("id"));
@@ -172,4 +314,12 @@ public class MedicDAOImpl implements IMedicDAO {
         medico.setContrasena(rs.getString("contrasena"));
         return medico;
     }
+    
+    private PersonaResumen mapResultSetToResumen(ResultSet rs) throws SQLException {
+        return new PersonaResumen(
+                rs.getLong("id"),
+                rs.getString("nombre"),
+                rs.getString("apellido"),
+                rs.getString("dni"));
+    }
 } 
\ No newline at end of file
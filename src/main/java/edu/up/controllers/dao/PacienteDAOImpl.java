@@ -7,24 +7,43 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import edu.up.controllers.infrastructure.IDBConnection;
 import edu.up.controllers.infrastructure.MySQLConnectionManager;
 import edu.up.models.entities.PacienteEntity;
+import edu.up.models.projections.PersonaResumen;
 import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
 
 /**
- * Implementación del DAO para pacientes
+ * Implementación del DAO para pacientes. Las altas guardan la contraseña con
+ * PasswordHasher, calculada antes de pedir la conexión; las modificaciones
+ * no tocan usuario ni contraseña y lanzan EntityNotFoundException si el
+ * paciente ya no existe.
  */
 public class PacienteDAOImpl implements IPacienteDAO {
     
-    private final MySQLConnectionManager dbConnection;
+    private static final JdbcKeysetPage.Queries PAGE_QUERIES =
+            new JdbcKeysetPage.Queries(SQL_SELECT_PAGE_FIRST, SQL_SELECT_PAGE_AFTER, SQL_COUNT);
+    private static final JdbcKeysetPage.Queries RESUMEN_PAGE_QUERIES =
+            new JdbcKeysetPage.Queries(SQL_SELECT_RESUMEN_PAGE_FIRST, SQL_SELECT_RESUMEN_PAGE_AFTER, SQL_COUNT);
+    private static final String NO_EXISTE = "El paciente ya no existe: ";
+    
+    private final IDBConnection dbConnection;
+    private final PasswordHasher passwordHasher;
     
     public PacienteDAOImpl() {
-        this.dbConnection = MySQLConnectionManager.getInstance();
+        this(MySQLConnectionManager.getInstance());
+    }
+    
+    public PacienteDAOImpl(IDBConnection dbConnection) {
+        this(dbConnection, PasswordHasher.fromConfiguration());
     }
     
-    public PacienteDAOImpl(MySQLConnectionManager dbConnection) {
+    public PacienteDAOImpl(IDBConnection dbConnection, PasswordHasher passwordHasher) {
         this.dbConnection = dbConnection;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
@@ -40,7 +59,7 @@ public class PacienteDAOImpl implements IPacienteDAO {
                 pacientes.add(mapResultSet(rs));
             }
             
-            Logger.info(getClass().getSimpleName(), "Se encontraron " + pacientes.size() + " pacientes");
+            Logger.info(getClass().getSimpleName(), () -> "Se encontraron " + pacientes.size() + " pacientes");
         } catch (SQLException e) {
             Logger.error(getClass().getSimpleName(), "Error al listar pacientes", e);
             throw new RuntimeException("Error al listar pacientes", e);
@@ -49,9 +68,36 @@ public class PacienteDAOImpl implements IPacienteDAO {
         return pacientes;
     }
 
+    @Override
+    public Stream<PacienteEntity> streamAll() {
+        Logger.info(getClass().getSimpleName(), "Recorriendo todos los pacientes por streaming");
+        
+        try {
+            return JdbcStream.stream(dbConnection, SQL_SELECT_ALL, this::mapResultSet,
+                    "Error al recorrer los pacientes");
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al recorrer los pacientes", e);
+            throw new RuntimeException("Error al recorrer los pacientes", e);
+        }
+    }
+
+    @Override
+    public Page<PacienteEntity> findPage(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), () -> "Buscando página de pacientes después de " + after);
+        
+        try {
+            return JdbcKeysetPage.fetch(dbConnection, PAGE_QUERIES, after, pageSize, includeTotal,
+                    this::mapResultSet,
+                    p -> new PageCursor(p.getApellido(), p.getNombre(), p.getId()));
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar página de pacientes", e);
+            throw new RuntimeException("Error al buscar página de pacientes", e);
+        }
+    }
+
     @Override
     public Optional<PacienteEntity> findById(Long id) {
-        Logger.info(getClass().getSimpleName(), "Buscando paciente por ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando paciente por ID: " + id);
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_ID)) {
@@ -73,7 +119,7 @@ public class PacienteDAOImpl implements IPacienteDAO {
 
     @Override
     public PacienteEntity buscarPorDni(String dni) {
-        Logger.info(getClass().getSimpleName(), "Buscando paciente por DNI: " + dni);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando paciente por DNI: " + dni);
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_DNI)) {
@@ -96,7 +142,7 @@ public class PacienteDAOImpl implements IPacienteDAO {
 
     @Override
     public PacienteEntity buscarPorUsuario(String usuario) {
-        Logger.info(getClass().getSimpleName(), "Buscando paciente por usuario: " + usuario);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando paciente por usuario: " + usuario);
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_BY_USUARIO)) {
@@ -119,16 +165,13 @@ public class PacienteDAOImpl implements IPacienteDAO {
 
     @Override
     public PacienteEntity save(PacienteEntity paciente) {
-        Logger.info(getClass().getSimpleName(), "Guardando nuevo paciente: " + paciente.getNombreCompleto());
+        Logger.info(getClass().getSimpleName(), () -> "Guardando nuevo paciente: " + paciente.getNombreCompleto());
+        hashearContrasena(paciente);
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_INSERT, PreparedStatement.RETURN_GENERATED_KEYS)) {
             
-            stmt.setString(1, paciente.getNombre());
-            stmt.setString(2, paciente.getApellido());
-            stmt.setString(3, paciente.getDni());
-            stmt.setString(4, paciente.getUsuario());
-            stmt.setString(5, paciente.getContrasena());
+            bindInsert(stmt, paciente);
             
             stmt.executeUpdate();
             
@@ -138,7 +181,7 @@ public class PacienteDAOImpl implements IPacienteDAO {
                 }
             }
             
-            Logger.info(getClass().getSimpleName(), "Paciente creado exitosamente: " + paciente.getNombreCompleto());
+            Logger.info(getClass().getSimpleName(), () -> "Paciente creado exitosamente: " + paciente.getNombreCompleto());
             return paciente;
         } catch (SQLException e) {
             Logger.error(getClass().getSimpleName(), "Error al crear paciente: " + paciente.getNombreCompleto(), e);
@@ -148,21 +191,16 @@ public class PacienteDAOImpl implements IPacienteDAO {
 
     @Override
     public void update(PacienteEntity paciente) {
-        Logger.info(getClass().getSimpleName(), "Actualizando paciente: " + paciente.getNombreCompleto());
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando paciente: " + paciente.getNombreCompleto());
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE)) {
             
-            stmt.setString(1, paciente.getNombre());
-            stmt.setString(2, paciente.getApellido());
-            stmt.setString(3, paciente.getDni());
-            stmt.setString(4, paciente.getUsuario());
-            stmt.setString(5, paciente.getContrasena());
-            stmt.setLong(6, paciente.getId());
+            bindUpdate(stmt, paciente);
             
-            stmt.executeUpdate();
+            JdbcBatch.verificarExistente(stmt.executeUpdate(), paciente, NO_EXISTE);
             
-            Logger.info(getClass().getSimpleName(), "Paciente actualizado exitosamente: " + paciente.getNombreCompleto());
+            Logger.info(getClass().getSimpleName(), () -> "Paciente actualizado exitosamente: " + paciente.getNombreCompleto());
         } catch (SQLException e) {
             Logger.error(getClass().getSimpleName(), "Error al actualizar paciente: " + paciente.getNombreCompleto(), e);
             throw new RuntimeException("Error al actualizar paciente", e);
@@ -171,7 +209,7 @@ public class PacienteDAOImpl implements IPacienteDAO {
 
     @Override
     public void delete(Long id) {
-        Logger.info(getClass().getSimpleName(), "Eliminando paciente con ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando paciente con ID: " + id);
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(SQL_DELETE_BY_ID)) {
@@ -180,13 +218,125 @@ public class PacienteDAOImpl implements IPacienteDAO {
             
             stmt.executeUpdate();
             
-            Logger.info(getClass().getSimpleName(), "Paciente eliminado exitosamente con ID: " + id);
+            Logger.info(getClass().getSimpleName(), () -> "Paciente eliminado exitosamente con ID: " + id);
         } catch (SQLException e) {
             Logger.error(getClass().getSimpleName(), "Error al eliminar paciente con ID: " + id, e);
             throw new RuntimeException("Error al eliminar paciente", e);
         }
     }
 
+    @Override
+    public List<PacienteEntity> saveAll(List<PacienteEntity> pacientes) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + pacientes.size() + " pacientes");
+        pacientes.forEach(this::hashearContrasena);
+        
+        try {
+            JdbcBatch.execute(dbConnection, SQL_INSERT, pacientes, BATCH_CHUNK_SIZE,
+                    this::bindInsert, PacienteEntity::setId);
+            
+            Logger.info(getClass().getSimpleName(), () -> "Lote de pacientes creado exitosamente: " + pacientes.size());
+            return pacientes;
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al crear lote de pacientes", e);
+            throw new RuntimeException("Error al crear lote de pacientes", e);
+        }
+    }
+
+    @Override
+    public void updateAll(List<PacienteEntity> pacientes) {
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando lote de " + pacientes.size() + " pacientes");
+        
+        try {
+            JdbcBatch.executeExisting(dbConnection, SQL_UPDATE, pacientes, BATCH_CHUNK_SIZE, this::bindUpdate, NO_EXISTE);
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al actualizar lote de pacientes", e);
+            throw new RuntimeException("Error al actualizar lote de pacientes", e);
+        }
+    }
+
+    @Override
+    public void saveAndUpdateAll(List<PacienteEntity> nuevos, List<PacienteEntity> existentes) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + nuevos.size()
+                + " pacientes nuevos y " + existentes.size() + " existentes");
+        nuevos.forEach(this::hashearContrasena);
+        
+        try {
+            JdbcBatch.inTransaction(dbConnection, conn -> {
+                JdbcBatch.execute(conn, SQL_INSERT, nuevos, BATCH_CHUNK_SIZE, this::bindInsert, PacienteEntity::setId);
+                JdbcBatch.executeExisting(conn, SQL_UPDATE, existentes, BATCH_CHUNK_SIZE, this::bindUpdate, NO_EXISTE);
+            });
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al guardar lote de pacientes", e);
+            throw new RuntimeException("Error al guardar lote de pacientes", e);
+        }
+    }
+
+    @Override
+    public void deleteAll(List<Long> ids) {
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando lote de " + ids.size() + " pacientes");
+        
+        try {
+            JdbcBatch.execute(dbConnection, SQL_DELETE_BY_ID, ids, BATCH_CHUNK_SIZE,
+                    (stmt, id) -> stmt.setLong(1, id), null);
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al eliminar lote de pacientes", e);
+            throw new RuntimeException("Error al eliminar lote de pacientes", e);
+        }
+    }
+
+    private void hashearContrasena(PacienteEntity paciente) {
+        paciente.setContrasena(passwordHasher.hashIfPlain(paciente.getContrasena()));
+    }
+
+    private void bindInsert(PreparedStatement stmt, PacienteEntity paciente) throws SQLException {
+        stmt.setString(1, paciente.getNombre());
+        stmt.setString(2, paciente.getApellido());
+        stmt.setString(3, paciente.getDni());
+        stmt.setString(4, paciente.getUsuario());
+        stmt.setString(5, paciente.getContrasena());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, PacienteEntity paciente) throws SQLException {
+        stmt.setString(1, paciente.getNombre());
+        stmt.setString(2, paciente.getApellido());
+        stmt.setString(3, paciente.getDni());
+        stmt.setLong(4, paciente.getId());
+    }
+
+    @Override
+    public List<PersonaResumen> findAllResumen() {
+        Logger.info(getClass().getSimpleName(), "Buscando resumen de todos los pacientes");
+        List<PersonaResumen> pacientes = new ArrayList<>();
+        
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_RESUMEN_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                pacientes.add(mapResultSetToResumen(rs));
+            }
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar resumen de pacientes", e);
+            throw new RuntimeException("Error al listar pacientes", e);
+        }
+        
+        return pacientes;
+    }
+
+    @Override
+    public Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), () -> "Buscando página de resumen de pacientes después de " + after);
+        
+        try {
+            return JdbcKeysetPage.fetch(dbConnection, RESUMEN_PAGE_QUERIES, after, pageSize, includeTotal,
+                    this::mapResultSetToResumen,
+                    r -> new PageCursor(r.apellido(), r.nombre(), r.id()));
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error al buscar página de resumen de pacientes", e);
+            throw new RuntimeException("Error al buscar página de pacientes", e);
+        }
+    }
+
     /**
      * Mapea un ResultSet a una entidad PacienteEntity
      */
@@ -200,4 +350,15 @@ public class PacienteDAOImpl implements IPacienteDAO {
         paciente.setContrasena(rs.getString("contrasena"));
         return paciente;
     }
+
+    /**
+     * Mapea un ResultSet de una consulta de resumen
+     */
+    private PersonaResumen mapResultSetToResumen(ResultSet rs) throws SQLException {
+        return new PersonaResumen(
+                rs.getLong("id"),
+                rs.getString("nombre"),
+                rs.getString("apellido"),
+                rs.getString("dni"));
+    }
 } 
\ No newline at end of file
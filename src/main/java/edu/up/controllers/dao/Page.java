@@ -0,0 +1,70 @@
+package edu.up.controllers.dao;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Página de resultados de un listado paginado por keyset.
+ *
+ * @param <T> tipo de los elementos
+ */
+public final class Page<T> {
+    private static final long SIN_TOTAL = -1L;
+
+    private final List<T> items;
+    private final PageCursor nextCursor;
+    private final long totalCount;
+
+    public Page(List<T> items, PageCursor nextCursor, long totalCount) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+
+    public Page(List<T> items, PageCursor nextCursor) {
+        this(items, nextCursor, SIN_TOTAL);
+    }
+
+    public static <T> Page<T> empty() {
+        return new Page<>(Collections.emptyList(), null);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Cursor para pedir la página siguiente; null si esta es la última.
+     */
+    public PageCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Total de filas del listado, solo si se pidió al consultar la página.
+     */
+    public OptionalLong getTotalCount() {
+        return totalCount == SIN_TOTAL ? OptionalLong.empty() : OptionalLong.of(totalCount);
+    }
+
+    /**
+     * Convierte los elementos conservando cursor y total.
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> convertidos = items.stream().map(mapper).collect(Collectors.toList());
+        return new Page<>(convertidos, nextCursor, totalCount);
+    }
+
+    @Override
+    public String toString() {
+        return "Page{items=" + items.size() + ", hasNext=" + hasNext()
+                + (totalCount == SIN_TOTAL ? "" : ", total=" + totalCount) + "}";
+    }
+}
@@ -0,0 +1,54 @@
+package edu.up.controllers.dao;
+
+import java.util.Objects;
+
+/**
+ * Posición dentro de un listado ordenado por (apellido, nombre, id).
+ * La página siguiente empieza en la primera fila estrictamente mayor que el
+ * cursor, por lo que no hace falta OFFSET.
+ */
+public final class PageCursor {
+    private final String apellido;
+    private final String nombre;
+    private final long id;
+
+    public PageCursor(String apellido, String nombre, long id) {
+        this.apellido = Objects.requireNonNull(apellido, "apellido");
+        this.nombre = Objects.requireNonNull(nombre, "nombre");
+        this.id = id;
+    }
+
+    public String getApellido() {
+        return apellido;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageCursor)) {
+            return false;
+        }
+        PageCursor otro = (PageCursor) o;
+        return id == otro.id && apellido.equals(otro.apellido) && nombre.equals(otro.nombre);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(apellido, nombre, id);
+    }
+
+    @Override
+    public String toString() {
+        return "PageCursor{apellido='" + apellido + "', nombre='" + nombre + "', id=" + id + "}";
+    }
+}
@@ -0,0 +1,12 @@
+package edu.up.controllers.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Convierte la fila actual de un ResultSet en una entidad.
+ */
+@FunctionalInterface
+interface RowMapper<E> {
+    E map(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,16 @@
+package edu.up.controllers.exceptions;
+
+/** Lanzada cuando se superó el límite de intentos y hay que esperar. */
+public class RateLimitExceededException extends RuntimeException {
+  private final long retryAfterMillis;
+
+  public RateLimitExceededException(String msg, long retryAfterMillis) {
+    super(msg);
+    this.retryAfterMillis = retryAfterMillis;
+  }
+
+  /** Milisegundos hasta el próximo intento permitido. */
+  public long getRetryAfterMillis() {
+    return retryAfterMillis;
+  }
+}
@@ -0,0 +1,267 @@
+package edu.up.controllers.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import edu.up.controllers.MedicController.OperationResult;
+import edu.up.controllers.dao.IBaseDAO;
+import edu.up.models.entities.PersonaEntity;
+import edu.up.utils.Logger;
+
+/**
+ * Importador masivo de personas desde un archivo CSV.
+ *
+ * El archivo se lee por streaming en el hilo llamador y se divide en lotes.
+ * Cada lote se valida y se guarda con saveAll en un hilo del pool de
+ * trabajadores. La cantidad de lotes en vuelo está acotada, por lo que la
+ * memoria usada no depende del tamaño del archivo.
+ *
+ * El CSV debe tener encabezado con las columnas nombre, apellido y dni;
+ * usuario y contrasena son opcionales. La contraseña puede venir en texto
+ * plano: el DAO la guarda con PasswordHasher, y el hash se calcula en el
+ * hilo trabajador del lote.
+ */
+public class CsvImporter<T extends PersonaEntity> {
+    private static final int MAX_DETALLE_RECHAZOS = 1000;
+    private static final String[] COLUMNAS_OBLIGATORIAS = { "nombre", "apellido", "dni" };
+
+    private final IBaseDAO<T> dao;
+    private final Supplier<T> fabrica;
+    private final Function<T, OperationResult> validador;
+    private final int workers;
+    private final int batchSize;
+
+    /**
+     * @param dao       DAO donde se insertan los lotes válidos
+     * @param fabrica   crea una entidad vacía por fila
+     * @param validador reglas de validación de cada fila
+     * @param workers   hilos que validan y guardan lotes en paralelo
+     * @param batchSize filas por lote
+     */
+    public CsvImporter(IBaseDAO<T> dao, Supplier<T> fabrica, Function<T, OperationResult> validador,
+                       int workers, int batchSize) {
+        this.dao = dao;
+        this.fabrica = fabrica;
+        this.validador = validador;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Importa el archivo indicado.
+     *
+     * @param archivo  archivo CSV en UTF-8
+     * @param listener recibe el avance después de cada lote (puede ser null)
+     * @return resumen de la importación
+     */
+    public ImportResult importar(Path archivo, ImportProgressListener listener) throws IOException {
+        Logger.info(getClass().getSimpleName(), "Iniciando importación desde " + archivo);
+        long inicio = System.nanoTime();
+        Progreso progreso = new Progreso(listener);
+
+        AtomicInteger hilos = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "importador-" + hilos.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Lotes leídos pero aún no guardados: acota la memoria del pipeline
+        int maxEnVuelo = workers * 2;
+        Semaphore enVuelo = new Semaphore(maxEnVuelo);
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(archivo, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columnas = leerEncabezado(reader.readRecord());
+
+            List<FilaCsv> lote = new ArrayList<>(batchSize);
+            String[] registro;
+            while ((registro = reader.readRecord()) != null) {
+                lote.add(new FilaCsv(reader.getRecordLine(), registro));
+                if (lote.size() == batchSize) {
+                    enviarLote(pool, enVuelo, lote, columnas, progreso);
+                    lote = new ArrayList<>(batchSize);
+                }
+            }
+            if (!lote.isEmpty()) {
+                enviarLote(pool, enVuelo, lote, columnas, progreso);
+            }
+        } finally {
+            // Esperar a que terminen los lotes en vuelo también si la lectura
+            // falló: quien llama no debe ver el resultado (ni la excepción)
+            // mientras todavía se están escribiendo filas
+            pool.shutdown();
+            enVuelo.acquireUninterruptibly(maxEnVuelo);
+            enVuelo.release(maxEnVuelo);
+        }
+
+        long duracion = (System.nanoTime() - inicio) / 1_000_000L;
+        ImportResult resultado = progreso.toResult(duracion);
+        Logger.info(getClass().getSimpleName(), "Importación finalizada: " + resultado);
+        return resultado;
+    }
+
+    private void enviarLote(ExecutorService pool, Semaphore enVuelo, List<FilaCsv> lote,
+                            Map<String, Integer> columnas, Progreso progreso) {
+        enVuelo.acquireUninterruptibly();
+        try {
+            pool.execute(() -> {
+                try {
+                    procesarLote(lote, columnas, progreso);
+                } catch (RuntimeException e) {
+                    Logger.error(getClass().getSimpleName(), "Error inesperado al procesar lote", e);
+                    for (FilaCsv fila : lote) {
+                        progreso.rechazar(fila.linea, "Error inesperado: " + e.getMessage());
+                    }
+                } finally {
+                    enVuelo.release();
+                    progreso.notificar();
+                }
+            });
+        } catch (RuntimeException e) {
+            enVuelo.release();
+            throw e;
+        }
+    }
+
+    private void procesarLote(List<FilaCsv> lote, Map<String, Integer> columnas, Progreso progreso) {
+        List<T> validas = new ArrayList<>(lote.size());
+        List<FilaCsv> filasValidas = new ArrayList<>(lote.size());
+
+        for (FilaCsv fila : lote) {
+            T entidad = mapearFila(fila, columnas);
+            OperationResult validacion = validador.apply(entidad);
+            if (validacion.isExitoso()) {
+                validas.add(entidad);
+                filasValidas.add(fila);
+            } else {
+                progreso.rechazar(fila.linea, validacion.getMensaje());
+            }
+        }
+
+        if (validas.isEmpty()) {
+            return;
+        }
+
+        try {
+            dao.saveAll(validas);
+            progreso.aceptar(validas.size());
+        } catch (RuntimeException e) {
+            // El lote se revirtió completo: reintentar fila por fila para aislar las inválidas
+            Logger.warn(getClass().getSimpleName(), "Lote rechazado por la base de datos, reintentando fila por fila");
+            for (int i = 0; i < validas.size(); i++) {
+                try {
+                    dao.save(validas.get(i));
+                    progreso.aceptar(1);
+                } catch (RuntimeException filaError) {
+                    Throwable causa = filaError.getCause() != null ? filaError.getCause() : filaError;
+                    progreso.rechazar(filasValidas.get(i).linea, causa.getMessage());
+                }
+            }
+        }
+    }
+
+    private T mapearFila(FilaCsv fila, Map<String, Integer> columnas) {
+        T entidad = fabrica.get();
+        entidad.setNombre(valor(fila, columnas, "nombre"));
+        entidad.setApellido(valor(fila, columnas, "apellido"));
+        entidad.setDni(valor(fila, columnas, "dni"));
+        entidad.setUsuario(valor(fila, columnas, "usuario"));
+        entidad.setContrasena(valor(fila, columnas, "contrasena"));
+        return entidad;
+    }
+
+    private String valor(FilaCsv fila, Map<String, Integer> columnas, String columna) {
+        Integer indice = columnas.get(columna);
+        if (indice == null || indice >= fila.campos.length) {
+            return null;
+        }
+        String valor = fila.campos[indice].trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private Map<String, Integer> leerEncabezado(String[] encabezado) throws IOException {
+        if (encabezado == null) {
+            throw new IOException("El archivo está vacío");
+        }
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < encabezado.length; i++) {
+            columnas.put(encabezado[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String obligatoria : COLUMNAS_OBLIGATORIAS) {
+            if (!columnas.containsKey(obligatoria)) {
+                throw new IOException("Falta la columna obligatoria '" + obligatoria + "' en el encabezado");
+            }
+        }
+        return columnas;
+    }
+
+    /**
+     * Fila cruda del CSV con su número de línea.
+     */
+    private static class FilaCsv {
+        private final long linea;
+        private final String[] campos;
+
+        FilaCsv(long linea, String[] campos) {
+            this.linea = linea;
+            this.campos = campos;
+        }
+    }
+
+    /**
+     * Contadores compartidos por los hilos trabajadores.
+     */
+    private static class Progreso {
+        private final ImportProgressListener listener;
+        private final AtomicLong aceptadas = new AtomicLong();
+        private final AtomicLong rechazadas = new AtomicLong();
+        private final Queue<RejectedRow> detalle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger detalleSize = new AtomicInteger();
+
+        Progreso(ImportProgressListener listener) {
+            this.listener = listener;
+        }
+
+        void aceptar(int cantidad) {
+            aceptadas.addAndGet(cantidad);
+        }
+
+        void rechazar(long linea, String motivo) {
+            rechazadas.incrementAndGet();
+            if (detalleSize.incrementAndGet() <= MAX_DETALLE_RECHAZOS) {
+                detalle.add(new RejectedRow(linea, motivo));
+            }
+        }
+
+        void notificar() {
+            if (listener != null) {
+                long ok = aceptadas.get();
+                long ko = rechazadas.get();
+                listener.onProgress(ok + ko, ok, ko);
+            }
+        }
+
+        ImportResult toResult(long duracionMillis) {
+            List<RejectedRow> rechazos = new ArrayList<>(detalle);
+            rechazos.sort((a, b) -> Long.compare(a.getLinea(), b.getLinea()));
+            long ok = aceptadas.get();
+            long ko = rechazadas.get();
+            return new ImportResult(ok + ko, ok, ko, rechazos, duracionMillis);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package edu.up.controllers.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de CSV por streaming: devuelve un registro por llamada sin cargar
+ * el archivo completo en memoria.
+ * Soporta campos entre comillas dobles, comillas escapadas ("") y saltos de
+ * línea dentro de campos entrecomillados.
+ */
+public class CsvReader implements Closeable {
+    private static final char SEPARADOR = ',';
+    private static final char COMILLA = '"';
+
+    private final Reader reader;
+    private final StringBuilder campo = new StringBuilder();
+    private long lineaActual = 1;
+    private long lineaRegistro = 0;
+    private int pendiente = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Lee el próximo registro.
+     *
+     * @return campos del registro o null si se llegó al final del archivo
+     */
+    public String[] readRecord() throws IOException {
+        int c = leer();
+        // Saltar líneas vacías
+        while (c == '\n' || c == '\r') {
+            c = leer();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        lineaRegistro = lineaActual;
+        List<String> campos = new ArrayList<>();
+        campo.setLength(0);
+        boolean entreComillas = false;
+
+        while (true) {
+            if (entreComillas) {
+                if (c == -1) {
+                    throw new IOException("Comillas sin cerrar en el registro de la línea " + lineaRegistro);
+                }
+                if (c == COMILLA) {
+                    int siguiente = leer();
+                    if (siguiente == COMILLA) {
+                        campo.append(COMILLA);
+                    } else {
+                        entreComillas = false;
+                        c = siguiente;
+                        continue;
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == COMILLA && campo.length() == 0) {
+                entreComillas = true;
+            } else if (c == SEPARADOR) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int siguiente = leer();
+                    if (siguiente != '\n') {
+                        pendiente = siguiente;
+                    }
+                }
+                campos.add(campo.toString());
+                return campos.toArray(new String[0]);
+            } else {
+                campo.append((char) c);
+            }
+            c = leer();
+        }
+    }
+
+    /**
+     * Número de línea del archivo donde comenzó el último registro leído.
+     */
+    public long getRecordLine() {
+        return lineaRegistro;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private int leer() throws IOException {
+        int c;
+        if (pendiente != -2) {
+            c = pendiente;
+            pendiente = -2;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\n') {
+            lineaActual++;
+        }
+        return c;
+    }
+}
@@ -0,0 +1,17 @@
+package edu.up.controllers.importer;
+
+/**
+ * Recibe el avance de una importación masiva.
+ * Se invoca desde los hilos trabajadores: las vistas Swing deben
+ * reenviar la actualización al EDT con SwingUtilities.invokeLater.
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+
+    /**
+     * @param procesadas filas leídas y procesadas hasta el momento
+     * @param aceptadas  filas guardadas en la base de datos
+     * @param rechazadas filas descartadas por validación o error al guardar
+     */
+    void onProgress(long procesadas, long aceptadas, long rechazadas);
+}
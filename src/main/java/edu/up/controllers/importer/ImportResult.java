@@ -0,0 +1,52 @@
+package edu.up.controllers.importer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una importación masiva.
+ * El detalle de rechazos se limita a las primeras filas rechazadas; el total
+ * siempre se informa en getRechazadas().
+ */
+public class ImportResult {
+    private final long procesadas;
+    private final long aceptadas;
+    private final long rechazadas;
+    private final List<RejectedRow> detalleRechazos;
+    private final long duracionMillis;
+
+    public ImportResult(long procesadas, long aceptadas, long rechazadas,
+                        List<RejectedRow> detalleRechazos, long duracionMillis) {
+        this.procesadas = procesadas;
+        this.aceptadas = aceptadas;
+        this.rechazadas = rechazadas;
+        this.detalleRechazos = Collections.unmodifiableList(detalleRechazos);
+        this.duracionMillis = duracionMillis;
+    }
+
+    public long getProcesadas() {
+        return procesadas;
+    }
+
+    public long getAceptadas() {
+        return aceptadas;
+    }
+
+    public long getRechazadas() {
+        return rechazadas;
+    }
+
+    public List<RejectedRow> getDetalleRechazos() {
+        return detalleRechazos;
+    }
+
+    public long getDuracionMillis() {
+        return duracionMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportResult{procesadas=" + procesadas + ", aceptadas=" + aceptadas
+                + ", rechazadas=" + rechazadas + ", duracion=" + duracionMillis + "ms}";
+    }
+}
@@ -0,0 +1,106 @@
+package edu.up.controllers.importer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import edu.up.controllers.MedicController;
+import edu.up.controllers.MedicController.OperationResult;
+import edu.up.controllers.dao.IMedicDAO;
+import edu.up.controllers.dao.IPacienteDAO;
+import edu.up.controllers.infrastructure.Configuration;
+import edu.up.controllers.infrastructure.MySQLConnectionManager;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.entities.PacienteEntity;
+import edu.up.models.entities.PersonaEntity;
+
+/**
+ * Punto de entrada para la importación masiva de médicos y pacientes.
+ *
+ * La importación normal valida cada fila con las mismas reglas que el alta
+ * manual. La importación directa usa LOAD DATA LOCAL INFILE y debe
+ * habilitarse con import.loadDataLocal.enabled=true.
+ */
+public class ImportService {
+    private static final int DEFAULT_WORKERS = 4;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final CsvImporter<MedicoEntity> importadorMedicos;
+    private final CsvImporter<PacienteEntity> importadorPacientes;
+    private final LoadDataImporter importadorDirecto;
+    private final boolean importacionDirectaHabilitada;
+    private final Runnable alImportarMedicos;
+
+    public ImportService(IMedicDAO medicDAO, IPacienteDAO pacienteDAO) {
+        this(medicDAO, pacienteDAO, () -> { });
+    }
+
+    /**
+     * @param alImportarMedicos se ejecuta después de cada importación de
+     *                          médicos, por ejemplo para invalidar cachés
+     */
+    public ImportService(IMedicDAO medicDAO, IPacienteDAO pacienteDAO, Runnable alImportarMedicos) {
+        int workers = Configuration.getIntProperty("import.workers", DEFAULT_WORKERS);
+        int batchSize = Configuration.getIntProperty("import.batchSize", DEFAULT_BATCH_SIZE);
+
+        this.importadorMedicos = new CsvImporter<>(medicDAO, MedicoEntity::new,
+                ImportService::validarPersona, workers, batchSize);
+        this.importadorPacientes = new CsvImporter<>(pacienteDAO, PacienteEntity::new,
+                ImportService::validarPersona, workers, batchSize);
+        this.importadorDirecto = new LoadDataImporter(MySQLConnectionManager.getInstance());
+        this.importacionDirectaHabilitada = Configuration.getBooleanProperty("import.loadDataLocal.enabled", false);
+        this.alImportarMedicos = alImportarMedicos;
+    }
+
+    /**
+     * Importa médicos desde un CSV validando cada fila.
+     */
+    public ImportResult importarMedicos(Path archivo, ImportProgressListener listener) throws IOException {
+        try {
+            return importadorMedicos.importar(archivo, listener);
+        } finally {
+            alImportarMedicos.run();
+        }
+    }
+
+    /**
+     * Importa pacientes desde un CSV validando cada fila.
+     */
+    public ImportResult importarPacientes(Path archivo, ImportProgressListener listener) throws IOException {
+        return importadorPacientes.importar(archivo, listener);
+    }
+
+    /**
+     * Importa médicos con LOAD DATA LOCAL INFILE, sin validaciones de la aplicación.
+     */
+    public ImportResult importarMedicosDirecto(Path archivo) throws IOException {
+        verificarImportacionDirecta();
+        try {
+            return importadorDirecto.importar(archivo, "medicos");
+        } finally {
+            alImportarMedicos.run();
+        }
+    }
+
+    /**
+     * Importa pacientes con LOAD DATA LOCAL INFILE, sin validaciones de la aplicación.
+     */
+    public ImportResult importarPacientesDirecto(Path archivo) throws IOException {
+        verificarImportacionDirecta();
+        return importadorDirecto.importar(archivo, "pacientes");
+    }
+
+    public boolean isImportacionDirectaHabilitada() {
+        return importacionDirectaHabilitada;
+    }
+
+    private void verificarImportacionDirecta() {
+        if (!importacionDirectaHabilitada) {
+            throw new IllegalStateException(
+                    "La importación directa está deshabilitada (import.loadDataLocal.enabled=false)");
+        }
+    }
+
+    private static OperationResult validarPersona(PersonaEntity persona) {
+        return MedicController.validarDatosPersona(persona.getNombre(), persona.getApellido(), persona.getDni());
+    }
+}
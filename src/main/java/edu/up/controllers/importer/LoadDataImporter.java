@@ -0,0 +1,131 @@
+package edu.up.controllers.importer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+
+import edu.up.controllers.infrastructure.MySQLConnectionManager;
+import edu.up.utils.Logger;
+import edu.up.utils.PasswordHasher;
+
+/**
+ * Camino rápido de importación usando LOAD DATA LOCAL INFILE de MySQL.
+ *
+ * El servidor parsea el archivo completo, por lo que es mucho más rápido que
+ * los inserts por lotes, pero no aplica las validaciones de la aplicación:
+ * solo rigen las restricciones de la tabla (NOT NULL, UNIQUE). Las filas con
+ * DNI o usuario duplicado se omiten. Requiere local_infile=ON en el servidor.
+ *
+ * Como el servidor no puede hashear, una columna contrasena solo se acepta
+ * si todos sus valores ya son hashes de PasswordHasher (o están vacíos); con
+ * contraseñas en texto plano hay que usar la importación normal.
+ */
+public class LoadDataImporter {
+    private static final Set<String> COLUMNAS_PERMITIDAS =
+            Set.of("nombre", "apellido", "dni", "usuario", "contrasena");
+
+    // Las columnas opcionales vacías se guardan como NULL para respetar los UNIQUE
+    private static final String SQL_LOAD_DATA =
+            "LOAD DATA LOCAL INFILE '%s' INTO TABLE %s CHARACTER SET utf8mb4 "
+            + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' "
+            + "LINES TERMINATED BY '\\n' IGNORE 1 LINES (%s)%s";
+
+    private final MySQLConnectionManager connectionManager;
+
+    public LoadDataImporter(MySQLConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Carga el archivo en la tabla indicada. El orden de las columnas se toma
+     * del encabezado del CSV.
+     *
+     * @param archivo archivo CSV en UTF-8 con encabezado
+     * @param tabla   tabla destino (medicos o pacientes)
+     * @return resultado con la cantidad de filas insertadas
+     */
+    public ImportResult importar(Path archivo, String tabla) throws IOException {
+        Logger.info(getClass().getSimpleName(), "Importación directa (LOAD DATA) de " + archivo + " en " + tabla);
+        long inicio = System.nanoTime();
+        String sql = construirSql(archivo, tabla);
+
+        Properties driverProperties = new Properties();
+        driverProperties.setProperty("allowLoadLocalInfile", "true");
+
+        try (Connection conn = connectionManager.getConnection(driverProperties);
+             Statement stmt = conn.createStatement()) {
+            long insertadas = stmt.executeLargeUpdate(sql);
+            long duracion = (System.nanoTime() - inicio) / 1_000_000L;
+            ImportResult resultado = new ImportResult(insertadas, insertadas, 0, Collections.emptyList(), duracion);
+            Logger.info(getClass().getSimpleName(), "Importación directa finalizada: " + resultado);
+            return resultado;
+        } catch (SQLException e) {
+            Logger.error(getClass().getSimpleName(), "Error en la importación directa de " + archivo, e);
+            throw new RuntimeException("Error en la importación directa", e);
+        }
+    }
+
+    private String construirSql(Path archivo, String tabla) throws IOException {
+        String[] encabezado;
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(archivo, StandardCharsets.UTF_8))) {
+            encabezado = reader.readRecord();
+            if (encabezado == null) {
+                throw new IOException("El archivo está vacío");
+            }
+            verificarContrasenasHasheadas(reader, encabezado);
+        }
+
+        List<String> columnas = new ArrayList<>();
+        List<String> asignaciones = new ArrayList<>();
+        for (String nombre : encabezado) {
+            String columna = nombre.trim().toLowerCase(Locale.ROOT);
+            if (!COLUMNAS_PERMITIDAS.contains(columna)) {
+                throw new IOException("Columna desconocida en el encabezado: " + nombre);
+            }
+            if (columna.equals("usuario") || columna.equals("contrasena")) {
+                columnas.add("@" + columna);
+                asignaciones.add(columna + " = NULLIF(@" + columna + ", '')");
+            } else {
+                columnas.add(columna);
+            }
+        }
+
+        String ruta = archivo.toAbsolutePath().toString().replace("\\", "\\\\").replace("'", "\\'");
+        String set = asignaciones.isEmpty() ? "" : " SET " + String.join(", ", asignaciones);
+        return String.format(SQL_LOAD_DATA, ruta, tabla, String.join(", ", columnas), set);
+    }
+
+    /**
+     * Recorre la columna contrasena, si existe, y rechaza el archivo ante el
+     * primer valor que no sea un hash: LOAD DATA lo guardaría en texto plano.
+     */
+    private void verificarContrasenasHasheadas(CsvReader reader, String[] encabezado) throws IOException {
+        int indice = -1;
+        for (int i = 0; i < encabezado.length; i++) {
+            if (encabezado[i].trim().equalsIgnoreCase("contrasena")) {
+                indice = i;
+            }
+        }
+        if (indice < 0) {
+            return;
+        }
+        String[] registro;
+        while ((registro = reader.readRecord()) != null) {
+            String valor = indice < registro.length ? registro[indice].trim() : "";
+            if (!valor.isEmpty() && !PasswordHasher.isHashed(valor)) {
+                throw new IOException("Contraseña en texto plano en la línea " + reader.getRecordLine()
+                        + ": la importación directa no puede hashearla; usar la importación normal");
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package edu.up.controllers.importer;
+
+/**
+ * Fila del archivo que no pudo importarse, con el motivo del rechazo.
+ */
+public class RejectedRow {
+    private final long linea;
+    private final String motivo;
+
+    public RejectedRow(long linea, String motivo) {
+        this.linea = linea;
+        this.motivo = motivo;
+    }
+
+    public long getLinea() {
+        return linea;
+    }
+
+    public String getMotivo() {
+        return motivo;
+    }
+
+    @Override
+    public String toString() {
+        return "Línea " + linea + ": " + motivo;
+    }
+}
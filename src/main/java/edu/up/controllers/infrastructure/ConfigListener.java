@@ -0,0 +1,15 @@
+package edu.up.controllers.infrastructure;
+
+/**
+ * Recibe los cambios de configuración cuando se recarga el archivo.
+ * Se invoca en el hilo que detectó el cambio, nunca en el EDT.
+ */
+@FunctionalInterface
+public interface ConfigListener {
+
+  /**
+   * @param anterior configuración que estaba vigente
+   * @param nueva    configuración que acaba de publicarse
+   */
+  void onChange(ConfigSnapshot anterior, ConfigSnapshot nueva);
+}
@@ -0,0 +1,153 @@
+package edu.up.controllers.infrastructure;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Versión inmutable de la configuración, leída una sola vez del archivo.
+ *
+ * Los valores que se consultan en caminos frecuentes (conexión a la base,
+ * credenciales de admin, parámetros del pool) quedan ya convertidos a su
+ * tipo. El resto se lee con los getters tipados, que trabajan sobre un
+ * HashMap sin sincronización. Como nunca cambia, puede compartirse entre
+ * hilos libremente; una recarga crea otra instancia.
+ */
+public final class ConfigSnapshot {
+  private final Map<String, String> values;
+  private final long version;
+
+  private final String dbUrl;
+  private final String dbUser;
+  private final String dbPassword;
+  private final String adminUser;
+  private final String adminPassword;
+  private final ConnectionPoolConfig poolConfig;
+
+  ConfigSnapshot(Properties properties, long version) {
+    Map<String, String> copia = new HashMap<>();
+    for (String key : properties.stringPropertyNames()) {
+      copia.put(key, properties.getProperty(key).trim());
+    }
+    this.values = Collections.unmodifiableMap(copia);
+    this.version = version;
+
+    this.dbUrl = getString("db.url", "jdbc:mysql://localhost:3306/turnero_medico");
+    this.dbUser = getString("db.user", "root");
+    this.dbPassword = getString("db.password", "");
+    this.adminUser = getString("admin.user", "admin");
+    this.adminPassword = getString("admin.password", "admin");
+    this.poolConfig = new ConnectionPoolConfig(
+        getInt("db.pool.maxSize", 10),
+        getInt("db.pool.minIdle", 2),
+        getLong("db.pool.idleTimeoutMs", 300_000),
+        getLong("db.pool.maxLifetimeMs", 1_800_000),
+        getLong("db.pool.borrowTimeoutMs", 5_000),
+        getInt("db.pool.validationTimeoutSeconds", 2),
+        getLong("db.pool.evictionIntervalMs", 30_000),
+        getInt("db.pool.statementCacheSize", 64));
+  }
+
+  /**
+   * Número de carga: 1 para la inicial, y se incrementa en cada recarga.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Todas las propiedades, como mapa de solo lectura.
+   */
+  public Map<String, String> getValues() {
+    return values;
+  }
+
+  public String getString(String key) {
+    return values.get(key);
+  }
+
+  public String getString(String key, String defaultValue) {
+    String value = values.get(key);
+    return value == null || value.isEmpty() ? defaultValue : value;
+  }
+
+  public int getInt(String key, int defaultValue) {
+    return (int) getLong(key, defaultValue);
+  }
+
+  public long getLong(String key, long defaultValue) {
+    String value = values.get(key);
+    if (value == null || value.isEmpty()) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  public boolean getBoolean(String key, boolean defaultValue) {
+    String value = values.get(key);
+    return value == null || value.isEmpty() ? defaultValue : Boolean.parseBoolean(value);
+  }
+
+  /**
+   * Indica si alguna propiedad que empieza con el prefijo cambió respecto de
+   * otra versión.
+   */
+  public boolean changed(ConfigSnapshot other, String prefix) {
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      if (entry.getKey().startsWith(prefix) && !entry.getValue().equals(other.values.get(entry.getKey()))) {
+        return true;
+      }
+    }
+    for (String key : other.values.keySet()) {
+      if (key.startsWith(prefix) && !values.containsKey(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public String getDbUrl() {
+    return dbUrl;
+  }
+
+  public String getDbUser() {
+    return dbUser;
+  }
+
+  public String getDbPassword() {
+    return dbPassword;
+  }
+
+  public String getAdminUser() {
+    return adminUser;
+  }
+
+  public String getAdminPassword() {
+    return adminPassword;
+  }
+
+  public ConnectionPoolConfig getPoolConfig() {
+    return poolConfig;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof ConfigSnapshot && values.equals(((ConfigSnapshot) o).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(values);
+  }
+
+  @Override
+  public String toString() {
+    return "ConfigSnapshot{version=" + version + ", propiedades=" + values.size() + "}";
+  }
+}
@@ -0,0 +1,94 @@
+package edu.up.controllers.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+import edu.up.utils.Logger;
+
+/**
+ * Hilo de fondo que vigila el archivo de configuración externo con
+ * WatchService y pide una recarga cuando se crea o modifica.
+ *
+ * Los editores suelen generar varios eventos por guardado, así que se
+ * espera un breve intervalo sin eventos antes de recargar.
+ */
+class ConfigWatcher implements Runnable {
+  private static final long DEBOUNCE_MS = 300;
+
+  private final Path archivo;
+  private final Runnable recargar;
+  private WatchService watchService;
+
+  ConfigWatcher(Path archivo, Runnable recargar) {
+    this.archivo = archivo.toAbsolutePath();
+    this.recargar = recargar;
+  }
+
+  /**
+   * Empieza a vigilar el directorio del archivo en un hilo daemon.
+   *
+   * @return false si el directorio no existe o no puede vigilarse
+   */
+  boolean start() {
+    Path directorio = archivo.getParent();
+    if (directorio == null || !Files.isDirectory(directorio)) {
+      Logger.warn("ConfigWatcher", "No se vigila la configuración: no existe el directorio " + directorio);
+      return false;
+    }
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      directorio.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException e) {
+      Logger.error("ConfigWatcher", "No se pudo vigilar " + directorio, e);
+      return false;
+    }
+    Thread thread = new Thread(this, "config-watcher");
+    thread.setDaemon(true);
+    thread.start();
+    Logger.info("ConfigWatcher", "Vigilando cambios en " + archivo);
+    return true;
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        boolean cambio = esNuestroArchivo(key);
+        // Agrupar la ráfaga de eventos de un mismo guardado
+        WatchKey siguiente;
+        while ((siguiente = watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS)) != null) {
+          cambio |= esNuestroArchivo(siguiente);
+        }
+        if (cambio) {
+          recargar.run();
+        }
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      Logger.info("ConfigWatcher", "Vigilancia de configuración detenida");
+    }
+  }
+
+  private boolean esNuestroArchivo(WatchKey key) {
+    boolean encontrado = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      Object contexto = event.context();
+      // Con OVERFLOW se perdieron eventos: recargar por las dudas
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW
+          || (contexto instanceof Path && archivo.getFileName().equals(contexto))) {
+        encontrado = true;
+      }
+    }
+    key.reset();
+    return encontrado;
+  }
+}
@@ -3,16 +3,37 @@ package edu.up.controllers.infrastructure;
 import edu.up.utils.Logger;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * Configuración singleton para la carga centralizada de propiedades.
- * Maneja la lectura del archivo application.properties de forma estática.
+ * Configuración centralizada de la aplicación.
+ *
+ * Las propiedades se leen una sola vez de application.properties (del
+ * classpath) y, si existe, de un archivo externo que las sobrescribe. El
+ * archivo externo se indica con la propiedad de sistema config.file; por
+ * defecto es application.properties en el directorio de trabajo. El
+ * resultado es un ConfigSnapshot inmutable publicado en una referencia
+ * volatile, así que las lecturas no toman locks.
+ *
+ * Con startWatching() se vigila el archivo externo y, al cambiar, se
+ * publica una nueva versión y se avisa a los ConfigListener registrados.
+ * Si el archivo nuevo no puede leerse se conserva la versión anterior.
  */
 public class Configuration {
+  private static final String CLASSPATH_FILE = "application.properties";
+  private static final String EXTERNAL_FILE_PROPERTY = "config.file";
 
-  private static final Properties properties = new Properties();
-  private static boolean initialized = false;
+  private static final Path externalFile = Paths.get(System.getProperty(EXTERNAL_FILE_PROPERTY, CLASSPATH_FILE));
+  private static final List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
+  private static volatile ConfigSnapshot current = load(1);
+  private static boolean watching;
 
   // Constructor privado para evitar instanciación
   private Configuration() {
@@ -20,24 +41,11 @@ public class Configuration {
   }
 
   /**
-   * Inicializa la configuración.
-   * Solo se ejecuta una vez.
+   * Versión vigente de la configuración. Conviene tomarla una vez y leer
+   * varios valores de ella para que sean coherentes entre sí.
    */
-  private static void initialize() {
-    if (!initialized) {
-      try (InputStream input = Configuration.class.getClassLoader().getResourceAsStream("application.properties")) {
-        if (input == null) {
-          Logger.error(Configuration.class.getSimpleName(), "No se pudo encontrar application.properties");
-          throw new RuntimeException("No se pudo encontrar application.properties");
-        }
-        properties.load(input);
-        initialized = true;
-        Logger.info(Configuration.class.getSimpleName(), "Configuración cargada exitosamente desde application.properties");
-      } catch (IOException e) {
-        Logger.error(Configuration.class.getSimpleName(), "Error al cargar application.properties", e);
-        throw new RuntimeException("Error al cargar application.properties", e);
-      }
-    }
+  public static ConfigSnapshot current() {
+    return current;
   }
 
   /**
@@ -47,9 +55,107 @@ public class Configuration {
    * @return el valor de la propiedad o null si no existe
    */
   public static String getProperty(String key) {
-    initialize();
-    String value = properties.getProperty(key);
-    Logger.info(Configuration.class.getSimpleName(), "Obteniendo propiedad: " + key + " = " + value);
-    return value;
+    // Solo la clave: el valor puede ser una contraseña
+    Logger.debug(Configuration.class.getSimpleName(), () -> "Obteniendo propiedad: " + key);
+    return current.getString(key);
+  }
+
+  /**
+   * Obtiene una propiedad numérica entera.
+   *
+   * @param key          la clave de la propiedad
+   * @param defaultValue valor a usar si la propiedad no existe o es inválida
+   * @return el valor de la propiedad
+   */
+  public static int getIntProperty(String key, int defaultValue) {
+    return current.getInt(key, defaultValue);
+  }
+
+  /**
+   * Obtiene una propiedad booleana.
+   *
+   * @param key          la clave de la propiedad
+   * @param defaultValue valor a usar si la propiedad no existe
+   * @return el valor de la propiedad
+   */
+  public static boolean getBooleanProperty(String key, boolean defaultValue) {
+    return current.getBoolean(key, defaultValue);
+  }
+
+  /**
+   * Registra un listener de cambios de configuración.
+   */
+  public static void addListener(ConfigListener listener) {
+    listeners.add(listener);
+  }
+
+  public static void removeListener(ConfigListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Empieza a vigilar el archivo externo. Llamadas posteriores no hacen nada.
+   */
+  public static synchronized void startWatching() {
+    if (!watching) {
+      watching = new ConfigWatcher(externalFile, Configuration::reload).start();
+    }
+  }
+
+  /**
+   * Vuelve a leer la configuración y, si cambió, publica la nueva versión y
+   * avisa a los listeners.
+   *
+   * @return true si se publicó una versión nueva
+   */
+  public static synchronized boolean reload() {
+    ConfigSnapshot anterior = current;
+    ConfigSnapshot nueva;
+    try {
+      nueva = load(anterior.getVersion() + 1);
+    } catch (RuntimeException e) {
+      Logger.error(Configuration.class.getSimpleName(), "Configuración inválida, se conserva la anterior", e);
+      return false;
+    }
+    if (nueva.equals(anterior)) {
+      return false;
+    }
+    current = nueva;
+    Logger.info(Configuration.class.getSimpleName(), "Configuración recargada: " + nueva);
+    for (ConfigListener listener : listeners) {
+      try {
+        listener.onChange(anterior, nueva);
+      } catch (RuntimeException e) {
+        Logger.error(Configuration.class.getSimpleName(), "Error al aplicar la nueva configuración", e);
+      }
+    }
+    return true;
+  }
+
+  private static ConfigSnapshot load(long version) {
+    Properties properties = new Properties();
+    try (InputStream input = Configuration.class.getClassLoader().getResourceAsStream(CLASSPATH_FILE)) {
+      if (input == null) {
+        Logger.error(Configuration.class.getSimpleName(), "No se pudo encontrar application.properties");
+        throw new RuntimeException("No se pudo encontrar application.properties");
+      }
+      properties.load(input);
+    } catch (IOException e) {
+      Logger.error(Configuration.class.getSimpleName(), "Error al cargar application.properties", e);
+      throw new RuntimeException("Error al cargar application.properties", e);
+    }
+
+    String origen = "application.properties";
+    if (Files.isRegularFile(externalFile)) {
+      try (Reader reader = Files.newBufferedReader(externalFile, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+        origen += " y " + externalFile.toAbsolutePath();
+      } catch (IOException e) {
+        throw new RuntimeException("Error al leer " + externalFile.toAbsolutePath(), e);
+      }
+    }
+    ConfigSnapshot snapshot = new ConfigSnapshot(properties, version);
+    Logger.info(Configuration.class.getSimpleName(), "Configuración cargada exitosamente desde " + origen);
+    return snapshot;
   }
-} 
\ No newline at end of file
+}
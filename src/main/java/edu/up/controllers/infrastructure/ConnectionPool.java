@@ -0,0 +1,298 @@
+package edu.up.controllers.infrastructure;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.up.utils.Logger;
+
+/**
+ * Pool de conexiones acotado que implementa IDBConnection.
+ * Reutiliza las conexiones físicas creadas por otro IDBConnection (normalmente
+ * MySQLConnectionManager) en lugar de abrir una conexión nueva por operación.
+ *
+ * Características:
+ * - Tamaño máximo acotado, con espera limitada por borrowTimeoutMs.
+ * - Validación al prestar una conexión que estuvo ociosa.
+ * - Tiempo de vida máximo por conexión física.
+ * - Desalojo periódico de conexiones ociosas, conservando minIdle.
+ * - Caché LRU de PreparedStatement por conexión física (ver StatementCache).
+ * - Reconfiguración en caliente con reconfigure(), sin cerrar conexiones.
+ */
+public class ConnectionPool implements IDBConnection, AutoCloseable {
+  /** Conexiones usadas hace menos de este tiempo no se vuelven a validar. */
+  private static final long VALIDATION_BYPASS_MS = 500;
+
+  private final IDBConnection connectionFactory;
+  private volatile ConnectionPoolConfig config;
+  private final ResizableSemaphore permits;
+  private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+  private final ScheduledExecutorService evictor;
+  private ScheduledFuture<?> evictionTask;
+
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger total = new AtomicInteger();
+  private final LongAdder borrowCount = new LongAdder();
+  private final LongAdder timeoutCount = new LongAdder();
+  private final LongAdder totalWaitNanos = new LongAdder();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder destroyedCount = new LongAdder();
+  private final LongAdder statementCacheHits = new LongAdder();
+  private final LongAdder statementCacheMisses = new LongAdder();
+
+  private volatile boolean closed = false;
+
+  public ConnectionPool(IDBConnection connectionFactory, ConnectionPoolConfig config) {
+    this.connectionFactory = connectionFactory;
+    this.config = config;
+    this.permits = new ResizableSemaphore(config.getMaxSize());
+    this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "connection-pool-evictor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduleEviction(config.getEvictionIntervalMs());
+    Logger.info("ConnectionPool", "Pool de conexiones inicializado: " + config);
+  }
+
+  /**
+   * Aplica una nueva configuración sin cerrar el pool.
+   *
+   * Si baja maxSize, las conexiones prestadas de más se destruyen a medida
+   * que se devuelven; si sube, los nuevos permisos quedan disponibles de
+   * inmediato. El tamaño de la caché de statements rige para las conexiones
+   * que se creen a partir de ahora.
+   */
+  public synchronized void reconfigure(ConnectionPoolConfig nueva) {
+    ConnectionPoolConfig anterior = config;
+    config = nueva;
+    int diferencia = nueva.getMaxSize() - anterior.getMaxSize();
+    if (diferencia > 0) {
+      permits.release(diferencia);
+    } else if (diferencia < 0) {
+      permits.reducePermits(-diferencia);
+      // Cerrar las ociosas que ya no entran en el nuevo máximo
+      while (total.get() > nueva.getMaxSize()) {
+        PooledConnection pooled = idle.pollLast();
+        if (pooled == null) {
+          break;
+        }
+        destroy(pooled);
+      }
+    }
+    if (nueva.getEvictionIntervalMs() != anterior.getEvictionIntervalMs()) {
+      scheduleEviction(nueva.getEvictionIntervalMs());
+    }
+    Logger.info("ConnectionPool", "Pool de conexiones reconfigurado: " + nueva);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (closed) {
+      throw new SQLException("El pool de conexiones está cerrado");
+    }
+
+    long start = System.nanoTime();
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(config.getBorrowTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrumpido mientras se esperaba una conexión", e);
+    }
+    recordWait(System.nanoTime() - start);
+
+    if (!acquired) {
+      timeoutCount.increment();
+      Logger.warn("ConnectionPool", "No hay conexiones disponibles tras " + config.getBorrowTimeoutMs()
+          + " ms. " + getStatistics());
+      throw new SQLTimeoutException("No se pudo obtener una conexión del pool en "
+          + config.getBorrowTimeoutMs() + " ms");
+    }
+
+    try {
+      PooledConnection pooled = takeValidConnection();
+      active.incrementAndGet();
+      borrowCount.increment();
+      return pooled.lease();
+    } catch (SQLException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Devuelve una conexión al pool. La invoca el proxy al cerrarse.
+   */
+  void release(PooledConnection pooled) {
+    active.decrementAndGet();
+    try {
+      if (closed || pooled.isExpired(config.getMaxLifetimeMs(), System.nanoTime())
+          || pooled.getPhysical().isClosed()) {
+        destroy(pooled);
+        return;
+      }
+      if (total.get() > config.getMaxSize()) {
+        // El pool se achicó mientras la conexión estaba prestada
+        destroy(pooled);
+        return;
+      }
+      pooled.reset();
+      pooled.touch();
+      // LIFO: las conexiones usadas recientemente se reutilizan primero
+      idle.offerFirst(pooled);
+    } catch (SQLException e) {
+      Logger.warn("ConnectionPool", "Descartando conexión que no pudo restablecerse: " + e.getMessage());
+      destroy(pooled);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Obtiene estadísticas actuales del pool para monitoreo.
+   */
+  public PoolStatistics getStatistics() {
+    return new PoolStatistics(
+        active.get(),
+        idle.size(),
+        total.get(),
+        config.getMaxSize(),
+        borrowCount.sum(),
+        timeoutCount.sum(),
+        totalWaitNanos.sum(),
+        maxWaitNanos.get(),
+        createdCount.sum(),
+        destroyedCount.sum(),
+        statementCacheHits.sum(),
+        statementCacheMisses.sum());
+  }
+
+  public ConnectionPoolConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * Cierra el pool y todas las conexiones ociosas. Las conexiones prestadas se
+   * cierran al ser devueltas.
+   */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    evictor.shutdownNow();
+    PooledConnection pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      destroy(pooled);
+    }
+    Logger.info("ConnectionPool", "Pool de conexiones cerrado. " + getStatistics());
+  }
+
+  private PooledConnection takeValidConnection() throws SQLException {
+    PooledConnection pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      long now = System.nanoTime();
+      if (pooled.isExpired(config.getMaxLifetimeMs(), now)) {
+        destroy(pooled);
+      } else if (isAlive(pooled, now)) {
+        return pooled;
+      } else {
+        Logger.warn("ConnectionPool", "Conexión inválida descartada al prestarla");
+        destroy(pooled);
+      }
+    }
+    return create();
+  }
+
+  private boolean isAlive(PooledConnection pooled, long now) {
+    if (pooled.idleMillis(now) < VALIDATION_BYPASS_MS) {
+      return true;
+    }
+    try {
+      return pooled.getPhysical().isValid(config.getValidationTimeoutSeconds());
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  private PooledConnection create() throws SQLException {
+    Connection physical = connectionFactory.getConnection();
+    total.incrementAndGet();
+    createdCount.increment();
+    StatementCache statementCache = config.getStatementCacheSize() > 0
+        ? new StatementCache(config.getStatementCacheSize(), statementCacheHits, statementCacheMisses)
+        : null;
+    return new PooledConnection(this, physical, statementCache);
+  }
+
+  private void destroy(PooledConnection pooled) {
+    pooled.closePhysical();
+    total.decrementAndGet();
+    destroyedCount.increment();
+  }
+
+  private synchronized void scheduleEviction(long intervalMs) {
+    if (evictionTask != null) {
+      evictionTask.cancel(false);
+      evictionTask = null;
+    }
+    if (intervalMs > 0 && !closed) {
+      evictionTask = evictor.scheduleWithFixedDelay(this::evictIdleConnections,
+          intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void recordWait(long waitNanos) {
+    totalWaitNanos.add(waitNanos);
+    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+  }
+
+  /**
+   * Cierra las conexiones ociosas que superaron el tiempo de inactividad o su
+   * tiempo de vida, conservando al menos minIdle conexiones.
+   */
+  private void evictIdleConnections() {
+    try {
+      long now = System.nanoTime();
+      for (PooledConnection pooled : idle) {
+        boolean expired = pooled.isExpired(config.getMaxLifetimeMs(), now);
+        boolean idleTooLong = config.getIdleTimeoutMs() > 0
+            && pooled.idleMillis(now) > config.getIdleTimeoutMs()
+            && idle.size() > config.getMinIdle();
+        if ((expired || idleTooLong) && idle.remove(pooled)) {
+          destroy(pooled);
+        }
+      }
+    } catch (RuntimeException e) {
+      Logger.error("ConnectionPool", "Error durante el desalojo de conexiones ociosas", e);
+    }
+  }
+
+  /**
+   * Semáforo justo que permite achicar la cantidad de permisos.
+   */
+  private static final class ResizableSemaphore extends Semaphore {
+    private static final long serialVersionUID = 1L;
+
+    ResizableSemaphore(int permits) {
+      super(permits, true);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+      super.reducePermits(reduction);
+    }
+  }
+}
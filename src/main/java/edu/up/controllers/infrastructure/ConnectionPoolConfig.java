@@ -0,0 +1,80 @@
+package edu.up.controllers.infrastructure;
+
+/**
+ * Parámetros del pool de conexiones.
+ * Se construye a partir de las propiedades db.pool.* de application.properties.
+ */
+public class ConnectionPoolConfig {
+  private final int maxSize;
+  private final int minIdle;
+  private final long idleTimeoutMs;
+  private final long maxLifetimeMs;
+  private final long borrowTimeoutMs;
+  private final int validationTimeoutSeconds;
+  private final long evictionIntervalMs;
+  private final int statementCacheSize;
+
+  public ConnectionPoolConfig(int maxSize, int minIdle, long idleTimeoutMs, long maxLifetimeMs,
+      long borrowTimeoutMs, int validationTimeoutSeconds, long evictionIntervalMs, int statementCacheSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("El tamaño máximo del pool debe ser mayor a cero");
+    }
+    this.maxSize = maxSize;
+    this.minIdle = Math.min(Math.max(minIdle, 0), maxSize);
+    this.idleTimeoutMs = idleTimeoutMs;
+    this.maxLifetimeMs = maxLifetimeMs;
+    this.borrowTimeoutMs = borrowTimeoutMs;
+    this.validationTimeoutSeconds = validationTimeoutSeconds;
+    this.evictionIntervalMs = evictionIntervalMs;
+    this.statementCacheSize = Math.max(statementCacheSize, 0);
+  }
+
+  /**
+   * Obtiene la configuración del pool de la configuración vigente.
+   *
+   * @return configuración del pool
+   */
+  public static ConnectionPoolConfig fromConfiguration() {
+    return Configuration.current().getPoolConfig();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  public long getIdleTimeoutMs() {
+    return idleTimeoutMs;
+  }
+
+  public long getMaxLifetimeMs() {
+    return maxLifetimeMs;
+  }
+
+  public long getBorrowTimeoutMs() {
+    return borrowTimeoutMs;
+  }
+
+  public int getValidationTimeoutSeconds() {
+    return validationTimeoutSeconds;
+  }
+
+  public long getEvictionIntervalMs() {
+    return evictionIntervalMs;
+  }
+
+  /** Statements cacheados por conexión física; 0 desactiva la caché. */
+  public int getStatementCacheSize() {
+    return statementCacheSize;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionPoolConfig{maxSize=" + maxSize + ", minIdle=" + minIdle
+        + ", idleTimeoutMs=" + idleTimeoutMs + ", maxLifetimeMs=" + maxLifetimeMs
+        + ", borrowTimeoutMs=" + borrowTimeoutMs + ", statementCacheSize=" + statementCacheSize + "}";
+  }
+}
@@ -5,7 +5,8 @@ import edu.up.utils.Logger;
 /**
  * Configuración centralizada de la base de datos.
  * Contiene todos los parámetros necesarios para la conexión a MySQL.
- * Utiliza la clase Configuration para obtener las propiedades.
+ * Lee los valores ya convertidos de la configuración vigente
+ * (Configuration.current()), sin locks ni parseo por llamada.
  */
 public class DatabaseConfig {
 
@@ -20,8 +21,8 @@ public class DatabaseConfig {
    * @return URL de conexión JDBC
    */
   public static String getUrl() {
-    String url = Configuration.getProperty("db.url");
-    Logger.info(DatabaseConfig.class.getSimpleName(), "Obteniendo URL de conexión: " + url);
+    String url = Configuration.current().getDbUrl();
+    Logger.debug(DatabaseConfig.class.getSimpleName(), () -> "Obteniendo URL de conexión: " + url);
     return url;
   }
 
@@ -31,8 +32,8 @@ public class DatabaseConfig {
    * @return nombre de usuario
    */
   public static String getUser() {
-    String user = Configuration.getProperty("db.user");
-    Logger.info(DatabaseConfig.class.getSimpleName(), "Obteniendo usuario: " + user);
+    String user = Configuration.current().getDbUser();
+    Logger.debug(DatabaseConfig.class.getSimpleName(), () -> "Obteniendo usuario: " + user);
     return user;
   }
 
@@ -42,7 +43,7 @@ public class DatabaseConfig {
    * @return contraseña
    */
   public static String getPassword() {
-    Logger.info(DatabaseConfig.class.getSimpleName(), "Obteniendo contraseña");
-    return Configuration.getProperty("db.password");
+    Logger.debug(DatabaseConfig.class.getSimpleName(), "Obteniendo contraseña");
+    return Configuration.current().getDbPassword();
   }
 }
@@ -0,0 +1,486 @@
+package edu.up.controllers.infrastructure;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.up.utils.Histogram;
+import edu.up.utils.Logger;
+import edu.up.utils.jfr.DatabaseQueryEvent;
+import edu.up.utils.metrics.MetricsRegistry;
+import edu.up.utils.metrics.Timer;
+
+/**
+ * IDBConnection que envuelve a otro (normalmente el ConnectionPool) y mide
+ * cada acceso a la base sin cambiar los DAOs.
+ *
+ * Entrega proxies de Connection, Statement/PreparedStatement y ResultSet que
+ * registran, por sentencia SQL:
+ * - duración de execute* (Timer, sin locks),
+ * - tiempo de lectura del ResultSet hasta que se cierra,
+ * - filas leídas (o afectadas, en las actualizaciones),
+ * - errores.
+ * Además mide cuánto tarda en obtenerse cada conexión.
+ *
+ * Con un MetricsRegistry, la duración de cada sentencia se publica como el
+ * timer "db.sql.<nombre>" y la espera de conexión como "db.conexion.obtener",
+ * así que sus p50/p99/max se ven por JMX y en el volcado periódico al log.
+ * getStatistics() da además el detalle de lectura, filas y errores.
+ *
+ * Las sentencias se identifican por el nombre de su constante (por ejemplo
+ * IMedicDAO.SQL_SELECT_ALL), buscando al crear la instancia los campos
+ * String estáticos SQL_* de las clases indicadas. El SQL que no coincide con
+ * ninguna constante se agrupa por su texto, hasta MAX_SQL_KEYS sentencias
+ * distintas; el resto va a "(otras)".
+ *
+ * Una consulta que supera el umbral (db.instrumentation.slowQueryMs) se
+ * registra con su SQL y el método del DAO que la ejecutó. Cada ejecución
+ * emite además un DatabaseQueryEvent de JFR, que no cuesta nada si no hay
+ * una grabación activa.
+ */
+public class InstrumentedConnection implements IDBConnection {
+  private static final int MAX_SQL_KEYS = 256;
+  private static final int MAX_NAME_LENGTH = 80;
+  private static final String OTRAS = "(otras)";
+  private static final String PREFIJO_METRICA = "db.sql.";
+  private static final String PAQUETE = InstrumentedConnection.class.getPackageName() + ".";
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+  private final IDBConnection delegate;
+  private final Map<String, String> nombres;
+  private final MetricsRegistry metrics;
+  private final ConcurrentHashMap<String, SqlMetrics> porSql = new ConcurrentHashMap<>();
+  private final SqlMetrics otras;
+  private final Timer acquire;
+  private final LongAdder acquireErrors = new LongAdder();
+  private final LongAdder slowQueries = new LongAdder();
+  private volatile long slowQueryNanos;
+
+  /**
+   * @param delegate    origen real de las conexiones
+   * @param slowQueryMs umbral de consulta lenta; 0 o menos no registra ninguna
+   * @param catalogo    clases cuyas constantes SQL_* dan nombre a las sentencias
+   */
+  public InstrumentedConnection(IDBConnection delegate, long slowQueryMs, Class<?>... catalogo) {
+    this(delegate, slowQueryMs, null, catalogo);
+  }
+
+  /**
+   * @param delegate    origen real de las conexiones
+   * @param slowQueryMs umbral de consulta lenta; 0 o menos no registra ninguna
+   * @param metrics     registro donde publicar los timers; null no los publica
+   * @param catalogo    clases cuyas constantes SQL_* dan nombre a las sentencias
+   */
+  public InstrumentedConnection(IDBConnection delegate, long slowQueryMs, MetricsRegistry metrics,
+      Class<?>... catalogo) {
+    this.delegate = delegate;
+    this.nombres = leerCatalogo(catalogo);
+    this.metrics = metrics;
+    this.otras = new SqlMetrics(OTRAS, OTRAS, timer(PREFIJO_METRICA + OTRAS));
+    this.acquire = timer("db.conexion.obtener");
+    setSlowQueryThresholdMs(slowQueryMs);
+    Logger.info("InstrumentedConnection", "Instrumentación JDBC habilitada (" + nombres.size()
+        + " sentencias conocidas, consulta lenta >= " + slowQueryMs + " ms)");
+  }
+
+  public void setSlowQueryThresholdMs(long slowQueryMs) {
+    this.slowQueryNanos = slowQueryMs > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryMs) : Long.MAX_VALUE;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    long inicio = System.nanoTime();
+    Connection connection;
+    try {
+      connection = delegate.getConnection();
+    } catch (SQLException | RuntimeException e) {
+      acquireErrors.increment();
+      throw e;
+    }
+    acquire.record(System.nanoTime() - inicio);
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] { Connection.class },
+        new ConnectionHandler(connection));
+  }
+
+  public long getAcquireErrors() {
+    return acquireErrors.sum();
+  }
+
+  public long getSlowQueries() {
+    return slowQueries.sum();
+  }
+
+  /**
+   * Métricas de cada sentencia ejecutada, de mayor a menor tiempo total.
+   */
+  public List<SqlStatistics> getStatistics() {
+    List<SqlStatistics> resultado = new ArrayList<>(porSql.size() + 1);
+    for (SqlMetrics metrics : porSql.values()) {
+      resultado.add(metrics.snapshot());
+    }
+    if (otras.execution.getCount() > 0) {
+      resultado.add(otras.snapshot());
+    }
+    resultado.sort(Comparator.comparingDouble(SqlStatistics::getTotalExecutionMillis).reversed());
+    return resultado;
+  }
+
+  private SqlMetrics metricsFor(String sql) {
+    if (sql == null) {
+      return otras;
+    }
+    SqlMetrics metrics = porSql.get(sql);
+    if (metrics != null) {
+      return metrics;
+    }
+    if (porSql.size() >= MAX_SQL_KEYS) {
+      return otras;
+    }
+    return porSql.computeIfAbsent(sql, s -> {
+      String nombre = nombreDe(s);
+      return new SqlMetrics(nombre, s, timer(PREFIJO_METRICA + nombre));
+    });
+  }
+
+  private Timer timer(String nombre) {
+    return metrics != null ? metrics.timer(nombre) : new Timer();
+  }
+
+  private String nombreDe(String sql) {
+    String nombre = nombres.get(sql);
+    if (nombre != null) {
+      return nombre;
+    }
+    String compacto = sql.replaceAll("\\s+", " ").trim();
+    return compacto.length() > MAX_NAME_LENGTH ? compacto.substring(0, MAX_NAME_LENGTH) + "…" : compacto;
+  }
+
+  private void verificarLenta(SqlMetrics metrics, long nanos, long filas) {
+    if (nanos < slowQueryNanos) {
+      return;
+    }
+    slowQueries.increment();
+    // El llamador se resuelve ahora: más tarde el stack ya no es el del DAO
+    String llamador = llamador();
+    Logger.warn("InstrumentedConnection", "Consulta lenta (" + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms, "
+        + filas + " filas) en " + llamador + ": " + metrics.name + " -> " + metrics.sql.replaceAll("\\s+", " "));
+  }
+
+  /**
+   * Primer método de un DAO en el stack; si no hay, el primero de la
+   * aplicación fuera de la infraestructura.
+   */
+  private static String llamador() {
+    return STACK_WALKER.walk(frames -> {
+      String primero = null;
+      Iterator<StackWalker.StackFrame> it = frames.limit(64).iterator();
+      while (it.hasNext()) {
+        StackWalker.StackFrame frame = it.next();
+        String clase = frame.getClassName();
+        if (!clase.startsWith("edu.up.") || clase.startsWith(PAQUETE)) {
+          continue;
+        }
+        String descripcion = clase.substring(clase.lastIndexOf('.') + 1) + "." + frame.getMethodName()
+            + ":" + frame.getLineNumber();
+        if (clase.endsWith("DAOImpl")) {
+          return descripcion;
+        }
+        if (primero == null) {
+          primero = descripcion;
+        }
+      }
+      return primero != null ? primero : "desconocido";
+    });
+  }
+
+  private static Map<String, String> leerCatalogo(Class<?>... clases) {
+    Map<String, String> resultado = new HashMap<>();
+    for (Class<?> clase : clases) {
+      for (Field field : clase.getFields()) {
+        int mod = field.getModifiers();
+        if (!Modifier.isStatic(mod) || field.getType() != String.class || !field.getName().startsWith("SQL_")) {
+          continue;
+        }
+        try {
+          String sql = (String) field.get(null);
+          resultado.putIfAbsent(sql, field.getDeclaringClass().getSimpleName() + "." + field.getName());
+        } catch (IllegalAccessException e) {
+          Logger.warn("InstrumentedConnection", "No se pudo leer la constante " + field);
+        }
+      }
+    }
+    return resultado;
+  }
+
+  private static Object invocar(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Acumuladores de una sentencia.
+   */
+  private static final class SqlMetrics {
+    private final String name;
+    private final String sql;
+    private final Timer execution;
+    private final Histogram fetch = new Histogram();
+    private final Histogram rows = new Histogram();
+    private final LongAdder errors = new LongAdder();
+
+    SqlMetrics(String name, String sql, Timer execution) {
+      this.name = name;
+      this.sql = sql;
+      this.execution = execution;
+    }
+
+    SqlStatistics snapshot() {
+      return new SqlStatistics(name, sql, errors.sum(), execution.snapshot(), fetch.snapshot(), rows.snapshot());
+    }
+  }
+
+  /**
+   * Proxy de una conexión prestada. Una conexión la usa un solo hilo a la
+   * vez, así que la lista de statements abiertos no se sincroniza.
+   */
+  private final class ConnectionHandler implements InvocationHandler {
+    private final Connection target;
+    private final List<StatementHandler> abiertos = new ArrayList<>();
+
+    ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "prepareStatement":
+        case "prepareCall":
+        case "createStatement":
+          Statement statement = (Statement) invocar(target, method, args);
+          String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+          StatementHandler handler = new StatementHandler(statement, sql, (Connection) proxy, this);
+          abiertos.add(handler);
+          return Proxy.newProxyInstance(
+              Connection.class.getClassLoader(),
+              new Class<?>[] { method.getReturnType() },
+              handler);
+        case "close":
+          // Lo que el DAO no cerró se contabiliza antes de devolver la conexión
+          for (StatementHandler abierto : abiertos) {
+            abierto.terminarResultSet();
+          }
+          abiertos.clear();
+          return invocar(target, method, args);
+        case "toString":
+          return "InstrumentedConnection[" + target + "]";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          return invocar(target, method, args);
+      }
+    }
+  }
+
+  /**
+   * Proxy de un Statement o PreparedStatement. Para createStatement() el SQL
+   * llega con cada execute(sql).
+   */
+  private final class StatementHandler implements InvocationHandler {
+    private final Statement target;
+    private final String sql;
+    private final Connection connection;
+    private final ConnectionHandler owner;
+    private ResultSetHandler resultSet;
+
+    StatementHandler(Statement target, String sql, Connection connection, ConnectionHandler owner) {
+      this.target = target;
+      this.sql = sql;
+      this.connection = connection;
+      this.owner = owner;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String nombre = method.getName();
+      if (nombre.startsWith("execute")) {
+        return ejecutar(method, args);
+      }
+      switch (nombre) {
+        case "close":
+          terminarResultSet();
+          owner.abiertos.remove(this);
+          return invocar(target, method, args);
+        case "getConnection":
+          return connection;
+        case "toString":
+          return "InstrumentedStatement[" + target + "]";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          return invocar(target, method, args);
+      }
+    }
+
+    private Object ejecutar(Method method, Object[] args) throws Throwable {
+      // Ejecutar de nuevo cierra el ResultSet anterior
+      terminarResultSet();
+      String sentencia = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+      SqlMetrics metrics = metricsFor(sentencia);
+
+      DatabaseQueryEvent evento = new DatabaseQueryEvent();
+      evento.begin();
+      long inicio = System.nanoTime();
+      Object resultado;
+      try {
+        resultado = invocar(target, method, args);
+      } catch (Throwable e) {
+        metrics.errors.increment();
+        registrarEvento(evento, metrics, -1, false);
+        throw e;
+      }
+      long fin = System.nanoTime();
+      long duracion = fin - inicio;
+      metrics.execution.record(duracion);
+
+      if (resultado instanceof ResultSet) {
+        // El evento sigue abierto hasta que se termina de leer
+        resultSet = new ResultSetHandler((ResultSet) resultado, metrics, duracion, fin, evento);
+        return Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] { ResultSet.class },
+            resultSet);
+      }
+      long filas = filasAfectadas(resultado);
+      if (filas >= 0) {
+        metrics.rows.record(filas);
+      }
+      registrarEvento(evento, metrics, filas, true);
+      verificarLenta(metrics, duracion, Math.max(0, filas));
+      return resultado;
+    }
+
+    void terminarResultSet() {
+      if (resultSet != null) {
+        resultSet.terminar();
+        resultSet = null;
+      }
+    }
+  }
+
+  private static void registrarEvento(DatabaseQueryEvent evento, SqlMetrics metrics, long filas, boolean exitosa) {
+    evento.end();
+    if (evento.shouldCommit()) {
+      evento.sentencia = metrics.name;
+      evento.sql = metrics.sql;
+      evento.filas = filas;
+      evento.exitosa = exitosa;
+      evento.commit();
+    }
+  }
+
+  private static long filasAfectadas(Object resultado) {
+    if (resultado instanceof Integer || resultado instanceof Long) {
+      return ((Number) resultado).longValue();
+    }
+    if (resultado instanceof int[]) {
+      long total = 0;
+      for (int n : (int[]) resultado) {
+        total += Math.max(0, n);
+      }
+      return total;
+    }
+    if (resultado instanceof long[]) {
+      long total = 0;
+      for (long n : (long[]) resultado) {
+        total += Math.max(0, n);
+      }
+      return total;
+    }
+    // execute() devuelve boolean: no se sabe cuántas filas
+    return -1;
+  }
+
+  /**
+   * Proxy de un ResultSet: cuenta las filas leídas y registra el tiempo de
+   * lectura al cerrarse (o al cerrarse su statement o su conexión).
+   */
+  private final class ResultSetHandler implements InvocationHandler {
+    private final ResultSet target;
+    private final SqlMetrics metrics;
+    private final long ejecucionNanos;
+    private final long inicioLectura;
+    private final DatabaseQueryEvent evento;
+    private long filas;
+    private boolean terminado;
+
+    ResultSetHandler(ResultSet target, SqlMetrics metrics, long ejecucionNanos, long inicioLectura,
+        DatabaseQueryEvent evento) {
+      this.target = target;
+      this.metrics = metrics;
+      this.ejecucionNanos = ejecucionNanos;
+      this.inicioLectura = inicioLectura;
+      this.evento = evento;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "next":
+          Object hay = invocar(target, method, args);
+          if (Boolean.TRUE.equals(hay)) {
+            filas++;
+          }
+          return hay;
+        case "close":
+          terminar();
+          return invocar(target, method, args);
+        case "toString":
+          return "InstrumentedResultSet[" + target + "]";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          return invocar(target, method, args);
+      }
+    }
+
+    void terminar() {
+      if (terminado) {
+        return;
+      }
+      terminado = true;
+      long lectura = System.nanoTime() - inicioLectura;
+      metrics.fetch.record(lectura);
+      metrics.rows.record(filas);
+      registrarEvento(evento, metrics, filas, true);
+      verificarLenta(metrics, ejecucionNanos + lectura, filas);
+    }
+  }
+}
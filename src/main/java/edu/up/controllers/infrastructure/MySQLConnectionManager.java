@@ -3,8 +3,10 @@ package edu.up.controllers.infrastructure;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Properties;
 
 import edu.up.utils.Logger;
+import edu.up.utils.jfr.ConnectionAcquireEvent;
 
 /**
  * Implementación concreta para MySQL vía JDBC DriverManager.
@@ -28,17 +30,59 @@ public class MySQLConnectionManager implements IDBConnection {
 
   @Override
   public Connection getConnection() throws SQLException {
+    ConnectionAcquireEvent evento = new ConnectionAcquireEvent();
+    evento.begin();
     try {
-      Logger.info("MySQLConnectionManager", "Estableciendo conexión a la base de datos...");
+      Logger.debug("MySQLConnectionManager", "Estableciendo conexión a la base de datos...");
       Connection connection = DriverManager.getConnection(
           DatabaseConfig.getUrl(),
           DatabaseConfig.getUser(),
           DatabaseConfig.getPassword());
-      Logger.info("MySQLConnectionManager", "Conexión establecida exitosamente");
+      Logger.debug("MySQLConnectionManager", "Conexión establecida exitosamente");
+      registrarEvento(evento, false, true);
       return connection;
     } catch (SQLException e) {
+      registrarEvento(evento, false, false);
       Logger.error("MySQLConnectionManager", "Error al conectar a la base de datos", e);
       throw e;
     }
   }
+
+  /**
+   * Abre una conexión dedicada con propiedades adicionales del driver
+   * (por ejemplo allowLoadLocalInfile). Estas conexiones no pasan por el pool.
+   *
+   * @param driverProperties propiedades del driver que se suman a usuario y contraseña
+   */
+  public Connection getConnection(Properties driverProperties) throws SQLException {
+    Properties properties = new Properties();
+    properties.putAll(driverProperties);
+    properties.setProperty("user", DatabaseConfig.getUser());
+    properties.setProperty("password", DatabaseConfig.getPassword());
+    ConnectionAcquireEvent evento = new ConnectionAcquireEvent();
+    evento.begin();
+    try {
+      Logger.debug("MySQLConnectionManager", "Estableciendo conexión dedicada a la base de datos...");
+      Connection connection = DriverManager.getConnection(DatabaseConfig.getUrl(), properties);
+      registrarEvento(evento, true, true);
+      return connection;
+    } catch (SQLException e) {
+      registrarEvento(evento, true, false);
+      Logger.error("MySQLConnectionManager", "Error al conectar a la base de datos", e);
+      throw e;
+    }
+  }
+
+  private static void registrarEvento(ConnectionAcquireEvent evento, boolean dedicada, boolean exitosa) {
+    evento.end();
+    if (evento.shouldCommit()) {
+      // Sin parámetros: podrían incluir credenciales
+      String url = DatabaseConfig.getUrl();
+      int parametros = url.indexOf('?');
+      evento.url = parametros >= 0 ? url.substring(0, parametros) : url;
+      evento.dedicada = dedicada;
+      evento.exitosa = exitosa;
+      evento.commit();
+    }
+  }
 }
@@ -0,0 +1,109 @@
+package edu.up.controllers.infrastructure;
+
+/**
+ * Instantánea inmutable de las estadísticas del pool de conexiones.
+ */
+public class PoolStatistics {
+  private final int active;
+  private final int idle;
+  private final int total;
+  private final int maxSize;
+  private final long borrowCount;
+  private final long timeoutCount;
+  private final long totalWaitNanos;
+  private final long maxWaitNanos;
+  private final long createdCount;
+  private final long destroyedCount;
+  private final long statementCacheHits;
+  private final long statementCacheMisses;
+
+  public PoolStatistics(int active, int idle, int total, int maxSize, long borrowCount, long timeoutCount,
+      long totalWaitNanos, long maxWaitNanos, long createdCount, long destroyedCount,
+      long statementCacheHits, long statementCacheMisses) {
+    this.active = active;
+    this.idle = idle;
+    this.total = total;
+    this.maxSize = maxSize;
+    this.borrowCount = borrowCount;
+    this.timeoutCount = timeoutCount;
+    this.totalWaitNanos = totalWaitNanos;
+    this.maxWaitNanos = maxWaitNanos;
+    this.createdCount = createdCount;
+    this.destroyedCount = destroyedCount;
+    this.statementCacheHits = statementCacheHits;
+    this.statementCacheMisses = statementCacheMisses;
+  }
+
+  /** Conexiones prestadas en este momento. */
+  public int getActive() {
+    return active;
+  }
+
+  /** Conexiones disponibles en el pool. */
+  public int getIdle() {
+    return idle;
+  }
+
+  /** Conexiones físicas abiertas (activas + ociosas). */
+  public int getTotal() {
+    return total;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getBorrowCount() {
+    return borrowCount;
+  }
+
+  public long getTimeoutCount() {
+    return timeoutCount;
+  }
+
+  public long getCreatedCount() {
+    return createdCount;
+  }
+
+  public long getDestroyedCount() {
+    return destroyedCount;
+  }
+
+  /** Statements reutilizados desde la caché de alguna conexión. */
+  public long getStatementCacheHits() {
+    return statementCacheHits;
+  }
+
+  /** Statements que tuvieron que prepararse en el servidor. */
+  public long getStatementCacheMisses() {
+    return statementCacheMisses;
+  }
+
+  /** Proporción de prepareStatement resueltos desde la caché (0 a 1). */
+  public double getStatementCacheHitRate() {
+    long lookups = statementCacheHits + statementCacheMisses;
+    return lookups == 0 ? 0.0 : (double) statementCacheHits / lookups;
+  }
+
+  /** Tiempo medio de espera para obtener una conexión, en milisegundos. */
+  public double getAverageWaitMillis() {
+    long attempts = borrowCount + timeoutCount;
+    return attempts == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / attempts;
+  }
+
+  /** Mayor tiempo de espera observado, en milisegundos. */
+  public double getMaxWaitMillis() {
+    return maxWaitNanos / 1_000_000.0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "PoolStatistics{activas=%d, ociosas=%d, total=%d/%d, prestamos=%d, timeouts=%d, "
+            + "esperaMedia=%.3fms, esperaMax=%.3fms, creadas=%d, destruidas=%d, "
+            + "cacheStatements=%d/%d (%.1f%%)}",
+        active, idle, total, maxSize, borrowCount, timeoutCount,
+        getAverageWaitMillis(), getMaxWaitMillis(), createdCount, destroyedCount,
+        statementCacheHits, statementCacheHits + statementCacheMisses, getStatementCacheHitRate() * 100);
+  }
+}
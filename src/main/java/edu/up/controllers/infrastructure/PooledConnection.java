@@ -0,0 +1,154 @@
+package edu.up.controllers.infrastructure;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conexión física administrada por el ConnectionPool.
+ * Cada préstamo entrega un proxy de Connection cuyo close() devuelve la
+ * conexión al pool en lugar de cerrarla. Si hay caché de statements, los
+ * prepareStatement(sql) se resuelven contra ella.
+ */
+class PooledConnection {
+  private final ConnectionPool pool;
+  private final Connection physical;
+  private final StatementCache statementCache;
+  private final long createdAtNanos;
+  private volatile long lastUsedNanos;
+
+  PooledConnection(ConnectionPool pool, Connection physical, StatementCache statementCache) {
+    this.pool = pool;
+    this.physical = physical;
+    this.statementCache = statementCache;
+    this.createdAtNanos = System.nanoTime();
+    this.lastUsedNanos = createdAtNanos;
+  }
+
+  Connection getPhysical() {
+    return physical;
+  }
+
+  /**
+   * Crea el proxy que se entrega a los DAOs durante un préstamo.
+   */
+  Connection lease() {
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] { Connection.class },
+        new LeaseHandler());
+  }
+
+  boolean isExpired(long maxLifetimeMs, long nowNanos) {
+    return maxLifetimeMs > 0 && nowNanos - createdAtNanos > maxLifetimeMs * 1_000_000L;
+  }
+
+  long idleMillis(long nowNanos) {
+    return (nowNanos - lastUsedNanos) / 1_000_000L;
+  }
+
+  void touch() {
+    lastUsedNanos = System.nanoTime();
+  }
+
+  /**
+   * Deja la conexión en su estado por defecto antes de volver al pool.
+   */
+  void reset() throws SQLException {
+    if (!physical.getAutoCommit()) {
+      physical.rollback();
+      physical.setAutoCommit(true);
+    }
+    physical.clearWarnings();
+  }
+
+  void closePhysical() {
+    if (statementCache != null) {
+      statementCache.closeAll();
+    }
+    try {
+      physical.close();
+    } catch (SQLException e) {
+      // La conexión se descarta de todas formas
+    }
+  }
+
+  /**
+   * Handler de un préstamo puntual. Una vez cerrado, el proxy deja de ser usable
+   * aunque la conexión física siga viva dentro del pool.
+   */
+  private class LeaseHandler implements InvocationHandler {
+    private final List<PreparedStatement> leasedStatements = new ArrayList<>();
+    private boolean closed;
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+          if (!closed) {
+            closed = true;
+            closeLeasedStatements();
+            pool.release(PooledConnection.this);
+          }
+          return null;
+        case "prepareStatement":
+          if (!closed && isCacheable(args)) {
+            int autoGeneratedKeys = args.length == 2 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+            PreparedStatement statement = statementCache.prepare(
+                physical, (Connection) proxy, (String) args[0], autoGeneratedKeys);
+            leasedStatements.add(statement);
+            return statement;
+          }
+          break;
+        case "isClosed":
+          return closed || physical.isClosed();
+        case "toString":
+          return "PooledConnection[" + physical + "]";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          break;
+      }
+      if (closed) {
+        throw new SQLException("La conexión ya fue devuelta al pool");
+      }
+      try {
+        return method.invoke(physical, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+
+    /**
+     * Solo se cachean prepareStatement(sql) y prepareStatement(sql, autoGeneratedKeys);
+     * las variantes con tipo de cursor o columnas se preparan sin caché.
+     */
+    private boolean isCacheable(Object[] args) {
+      return statementCache != null
+          && (args.length == 1 || (args.length == 2 && args[1] instanceof Integer));
+    }
+
+    /**
+     * Devuelve a la caché los statements que el llamador no cerró.
+     */
+    private void closeLeasedStatements() {
+      for (PreparedStatement statement : leasedStatements) {
+        try {
+          statement.close();
+        } catch (SQLException e) {
+          // Se ignora, la conexión vuelve al pool igualmente
+        }
+      }
+      leasedStatements.clear();
+    }
+  }
+}
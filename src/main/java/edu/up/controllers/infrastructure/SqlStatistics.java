@@ -0,0 +1,72 @@
+package edu.up.controllers.infrastructure;
+
+import edu.up.utils.Histogram;
+
+/**
+ * Instantánea inmutable de las métricas de una sentencia SQL registradas por
+ * InstrumentedConnection. Los tiempos están en nanosegundos.
+ */
+public class SqlStatistics {
+  private final String name;
+  private final String sql;
+  private final long errors;
+  private final Histogram.Snapshot execution;
+  private final Histogram.Snapshot fetch;
+  private final Histogram.Snapshot rows;
+
+  public SqlStatistics(String name, String sql, long errors, Histogram.Snapshot execution,
+      Histogram.Snapshot fetch, Histogram.Snapshot rows) {
+    this.name = name;
+    this.sql = sql;
+    this.errors = errors;
+    this.execution = execution;
+    this.fetch = fetch;
+    this.rows = rows;
+  }
+
+  /** Constante SQL (IMedicDAO.SQL_SELECT_ALL) o el texto abreviado si no es una constante conocida. */
+  public String getName() {
+    return name;
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  public long getExecutions() {
+    return execution.getCount();
+  }
+
+  public long getErrors() {
+    return errors;
+  }
+
+  /** Duración de execute*, sin contar la lectura de filas. */
+  public Histogram.Snapshot getExecution() {
+    return execution;
+  }
+
+  /** Tiempo desde que termina executeQuery hasta que se cierra el ResultSet. */
+  public Histogram.Snapshot getFetch() {
+    return fetch;
+  }
+
+  /** Filas leídas por consulta, o afectadas por actualización. */
+  public Histogram.Snapshot getRows() {
+    return rows;
+  }
+
+  /** Tiempo total de ejecución acumulado, para ordenar las más costosas. */
+  public double getTotalExecutionMillis() {
+    return execution.getMean() * execution.getCount() / 1_000_000.0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s{n=%d, errores=%d, exec p50=%.2fms p99=%.2fms max=%.2fms, "
+        + "fetch p99=%.2fms, filas p50=%d p99=%d max=%d}",
+        name, getExecutions(), errors,
+        execution.getP50() / 1_000_000.0, execution.getP99() / 1_000_000.0, execution.getMax() / 1_000_000.0,
+        fetch.getP99() / 1_000_000.0, rows.getP50(), rows.getP99(), rows.getMax());
+  }
+}
@@ -0,0 +1,240 @@
+package edu.up.controllers.infrastructure;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché LRU de PreparedStatement asociada a una conexión física del pool.
+ * La clave es el texto SQL (más el flag de claves generadas), de modo que las
+ * constantes SQL de los DAOs reutilizan el statement ya preparado en el servidor.
+ *
+ * Un statement se retira de la caché mientras está en uso y vuelve a ella al
+ * cerrarse, por lo que dos usos simultáneos del mismo SQL nunca lo comparten.
+ * Al volver se restauran las opciones que cambió el usuario anterior
+ * (fetch size, máximo de filas, timeout, etc.); si cambió alguna que no se
+ * puede leer, el statement se descarta en lugar de volver a la caché.
+ */
+class StatementCache {
+  // Opciones que se pueden leer antes de cambiarlas y restaurar al devolver el statement
+  private static final Set<String> RESTAURABLES = Set.of("setFetchSize", "setFetchDirection", "setMaxRows",
+      "setLargeMaxRows", "setMaxFieldSize", "setQueryTimeout", "setPoolable");
+  // Opciones sin getter: quien las cambia se queda con un statement que no se reutiliza
+  private static final Set<String> NO_RESTAURABLES = Set.of("setCursorName", "setEscapeProcessing",
+      "closeOnCompletion");
+
+  private final int maxSize;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LinkedHashMap<String, PreparedStatement> statements;
+
+  StatementCache(int maxSize, LongAdder hits, LongAdder misses) {
+    this.maxSize = maxSize;
+    this.hits = hits;
+    this.misses = misses;
+    this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+        if (size() > StatementCache.this.maxSize) {
+          closeQuietly(eldest.getValue());
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * Obtiene un statement preparado para el SQL indicado, reutilizando el de la
+   * caché si existe. El resultado es un proxy cuyo close() lo devuelve a la caché.
+   */
+  PreparedStatement prepare(Connection physical, Connection owner, String sql, int autoGeneratedKeys)
+      throws SQLException {
+    String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? "K:" + sql : "N:" + sql;
+    PreparedStatement statement = take(key);
+    if (statement != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+      statement = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS
+          ? physical.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+          : physical.prepareStatement(sql);
+    }
+    return (PreparedStatement) Proxy.newProxyInstance(
+        PreparedStatement.class.getClassLoader(),
+        new Class<?>[] { PreparedStatement.class },
+        new CachedStatementHandler(key, statement, owner));
+  }
+
+  /**
+   * Cierra todos los statements de la caché. Se usa al destruir la conexión.
+   */
+  synchronized void closeAll() {
+    for (Iterator<PreparedStatement> it = statements.values().iterator(); it.hasNext();) {
+      closeQuietly(it.next());
+      it.remove();
+    }
+  }
+
+  private synchronized PreparedStatement take(String key) {
+    return statements.remove(key);
+  }
+
+  private synchronized void giveBack(String key, PreparedStatement statement) {
+    PreparedStatement previous = statements.put(key, statement);
+    if (previous != null && previous != statement) {
+      closeQuietly(previous);
+    }
+  }
+
+  private static void closeQuietly(Statement statement) {
+    try {
+      statement.close();
+    } catch (SQLException e) {
+      // El statement se descarta de todas formas
+    }
+  }
+
+  /**
+   * Handler del proxy de un statement en uso. Cierra los ResultSet abiertos,
+   * restaura las opciones y limpia los parámetros antes de devolver el
+   * statement a la caché.
+   */
+  private class CachedStatementHandler implements InvocationHandler {
+    private final String key;
+    private final PreparedStatement physical;
+    private final Connection owner;
+    private final List<ResultSet> openResults = new ArrayList<>(1);
+    // Valor original de cada opción cambiada, por nombre del setter
+    private Map<String, Object> originales;
+    private boolean descartar;
+    private boolean closed;
+
+    CachedStatementHandler(String key, PreparedStatement physical, Connection owner) {
+      this.key = key;
+      this.physical = physical;
+      this.owner = owner;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close":
+          logicalClose();
+          return null;
+        case "isClosed":
+          return closed;
+        case "getConnection":
+          return owner;
+        case "toString":
+          return "CachedStatement[" + physical + "]";
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        default:
+          break;
+      }
+      if (closed) {
+        throw new SQLException("El statement ya fue cerrado");
+      }
+      if (RESTAURABLES.contains(method.getName())) {
+        recordarOriginal(method.getName());
+      } else if (NO_RESTAURABLES.contains(method.getName())) {
+        descartar = true;
+      }
+      Object result;
+      try {
+        result = method.invoke(physical, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+      if (result instanceof ResultSet) {
+        openResults.add((ResultSet) result);
+      }
+      return result;
+    }
+
+    private void logicalClose() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      for (ResultSet rs : openResults) {
+        try {
+          rs.close();
+        } catch (SQLException e) {
+          // Se ignora, el statement se valida a continuación
+        }
+      }
+      openResults.clear();
+      try {
+        if (physical.isClosed()) {
+          return;
+        }
+        if (descartar) {
+          closeQuietly(physical);
+          return;
+        }
+        restaurarOriginales();
+        physical.clearParameters();
+        physical.clearWarnings();
+        giveBack(key, physical);
+      } catch (SQLException e) {
+        closeQuietly(physical);
+      }
+    }
+
+    private void recordarOriginal(String setter) throws SQLException {
+      if (originales == null) {
+        originales = new HashMap<>(4);
+      } else if (originales.containsKey(setter)) {
+        return;
+      }
+      Object valor = switch (setter) {
+        case "setFetchSize" -> physical.getFetchSize();
+        case "setFetchDirection" -> physical.getFetchDirection();
+        case "setMaxRows" -> physical.getMaxRows();
+        case "setLargeMaxRows" -> physical.getLargeMaxRows();
+        case "setMaxFieldSize" -> physical.getMaxFieldSize();
+        case "setQueryTimeout" -> physical.getQueryTimeout();
+        case "setPoolable" -> physical.isPoolable();
+        default -> throw new IllegalArgumentException(setter);
+      };
+      originales.put(setter, valor);
+    }
+
+    private void restaurarOriginales() throws SQLException {
+      if (originales == null) {
+        return;
+      }
+      for (Map.Entry<String, Object> e : originales.entrySet()) {
+        Object valor = e.getValue();
+        switch (e.getKey()) {
+          case "setFetchSize" -> physical.setFetchSize((Integer) valor);
+          case "setFetchDirection" -> physical.setFetchDirection((Integer) valor);
+          case "setMaxRows" -> physical.setMaxRows((Integer) valor);
+          case "setLargeMaxRows" -> physical.setLargeMaxRows((Long) valor);
+          case "setMaxFieldSize" -> physical.setMaxFieldSize((Integer) valor);
+          case "setQueryTimeout" -> physical.setQueryTimeout((Integer) valor);
+          case "setPoolable" -> physical.setPoolable((Boolean) valor);
+          default -> throw new IllegalArgumentException(e.getKey());
+        }
+      }
+    }
+  }
+}
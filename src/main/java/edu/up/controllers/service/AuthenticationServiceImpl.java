@@ -1,46 +1,95 @@
 package edu.up.controllers.service;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import edu.up.controllers.dao.AuthenticationDAOImpl;
 import edu.up.models.entities.PersonaEntity;
 import edu.up.utils.Logger;
+import edu.up.utils.Session;
 import edu.up.utils.SessionManager;
+import edu.up.utils.SessionRegistry;
+import edu.up.utils.jfr.LoginEvent;
 
 /**
- * Implementación del servicio de autenticación
+ * Implementación del servicio de autenticación.
+ *
+ * autenticar() es el login del cliente de escritorio y deja la sesión en
+ * SessionManager; iniciarSesion() crea una sesión independiente en el
+ * registro y la devuelve, para atender varios logins a la vez.
  */
 public class AuthenticationServiceImpl implements IAuthenticationService {
     
     private final AuthenticationDAOImpl authDAO;
+    // Null: el registro compartido de SessionManager, resuelto al usarlo
+    private final SessionRegistry registry;
     
     public AuthenticationServiceImpl() {
-        this.authDAO = new AuthenticationDAOImpl();
+        this(new AuthenticationDAOImpl());
     }
     
     public AuthenticationServiceImpl(AuthenticationDAOImpl authDAO) {
+        this(authDAO, null);
+    }
+
+    public AuthenticationServiceImpl(AuthenticationDAOImpl authDAO, SessionRegistry registry) {
         this.authDAO = authDAO;
+        this.registry = registry;
     }
 
     @Override
     public boolean autenticar(String usuario, String contrasena) {
-        Logger.info("AuthenticationServiceImpl", "Intentando autenticar usuario: " + usuario);
-        
-        // Primero verificar si es admin (tiene prioridad sobre cualquier usuario de BD)
-        if (authDAO.esAdmin(usuario, contrasena)) {
-            Logger.info("AuthenticationServiceImpl", "Administrador autenticado exitosamente");
-            SessionManager.getInstance().iniciarSesionAdmin();
-            return true;
-        }
-        
-        // Solo si NO es admin, intentar autenticar como persona en BD
-        PersonaEntity persona = authDAO.autenticar(usuario, contrasena);
-        if (persona != null) {
-            Logger.info("AuthenticationServiceImpl", "Usuario autenticado exitosamente: " + 
-                       persona.getNombreCompleto() + " (" + persona.getTipoPersona() + ")");
-            SessionManager.getInstance().iniciarSesion(persona);
-            return true;
+        SessionManager sessionManager = SessionManager.getInstance();
+        return autenticar(usuario, contrasena, sessionManager::iniciarSesion, sessionManager::iniciarSesionAdmin)
+                .isPresent();
+    }
+
+    @Override
+    public Optional<Session> iniciarSesion(String usuario, String contrasena) {
+        SessionRegistry sesiones = registry != null ? registry : SessionManager.getInstance().getSessionRegistry();
+        return autenticar(usuario, contrasena, sesiones::create, sesiones::createAdmin);
+    }
+
+    /**
+     * Valida las credenciales y, si son válidas, crea la sesión con la
+     * función que corresponda según sea administrador o persona.
+     */
+    private Optional<Session> autenticar(String usuario, String contrasena,
+            Function<PersonaEntity, Session> sesionPersona, Supplier<Session> sesionAdmin) {
+        Logger.info("AuthenticationServiceImpl", () -> "Intentando autenticar usuario: " + usuario);
+        LoginEvent evento = new LoginEvent();
+        evento.begin();
+        String resultado = "ERROR";
+        try {
+            // Primero verificar si es admin (tiene prioridad sobre cualquier usuario de BD)
+            if (authDAO.esAdmin(usuario, contrasena)) {
+                Logger.info("AuthenticationServiceImpl", "Administrador autenticado exitosamente");
+                Session session = sesionAdmin.get();
+                resultado = "ADMINISTRADOR";
+                return Optional.of(session);
+            }
+            
+            // Solo si NO es admin, intentar autenticar como persona en BD
+            PersonaEntity persona = authDAO.autenticar(usuario, contrasena);
+            if (persona != null) {
+                Logger.info("AuthenticationServiceImpl", "Usuario autenticado exitosamente: " + 
+                           persona.getNombreCompleto() + " (" + persona.getTipoPersona() + ")");
+                Session session = sesionPersona.apply(persona);
+                resultado = "USUARIO";
+                return Optional.of(session);
+            }
+            
+            Logger.info("AuthenticationServiceImpl", () -> "Credenciales inválidas para usuario: " + usuario);
+            resultado = "INVALIDO";
+            return Optional.empty();
+        } finally {
+            evento.end();
+            if (evento.shouldCommit()) {
+                evento.usuario = usuario;
+                evento.resultado = resultado;
+                evento.commit();
+            }
         }
-        
-        Logger.info("AuthenticationServiceImpl", "Credenciales inválidas para usuario: " + usuario);
-        return false;
     }
 } 
\ No newline at end of file
@@ -2,8 +2,11 @@ package edu.up.controllers.service;
 
 import edu.up.controllers.dao.IBaseDAO;
 import edu.up.utils.Logger;
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public abstract class BaseServiceImpl<T> implements IBaseService<T> {
     
@@ -16,7 +19,7 @@ public abstract class BaseServiceImpl<T> implements IBaseService<T> {
     
     @Override
     public Optional<T> findById(Long id) {
-        Logger.info(getClass().getSimpleName(), "Buscando entidad por ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando entidad por ID: " + id);
         return dao.findById(id);
     }
     
@@ -26,21 +29,58 @@ public abstract class BaseServiceImpl<T> implements IBaseService<T> {
         return dao.findAll();
     }
     
+    @Override
+    public Stream<T> streamAll() {
+        Logger.info(getClass().getSimpleName(), "Recorriendo todas las entidades por streaming");
+        return dao.streamAll();
+    }
+    
+    @Override
+    public Page<T> findPage(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), () -> "Buscando página de " + pageSize + " entidades");
+        return dao.findPage(after, pageSize, includeTotal);
+    }
+    
     @Override
     public T save(T entity) {
-        Logger.info(getClass().getSimpleName(), "Guardando nueva entidad: " + entity);
+        Logger.info(getClass().getSimpleName(), () -> "Guardando nueva entidad: " + entity);
         return dao.save(entity);
     }
     
     @Override
     public void update(T entity) {
-        Logger.info(getClass().getSimpleName(), "Actualizando entidad: " + entity);
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando entidad: " + entity);
         dao.update(entity);
     }
     
     @Override
     public void delete(Long id) {
-        Logger.info(getClass().getSimpleName(), "Eliminando entidad con ID: " + id);
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando entidad con ID: " + id);
         dao.delete(id);
     }
+    
+    @Override
+    public List<T> saveAll(List<T> entities) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + entities.size() + " entidades");
+        return dao.saveAll(entities);
+    }
+    
+    @Override
+    public void updateAll(List<T> entities) {
+        Logger.info(getClass().getSimpleName(), () -> "Actualizando lote de " + entities.size() + " entidades");
+        dao.updateAll(entities);
+    }
+    
+    @Override
+    public void deleteAll(List<Long> ids) {
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando lote de " + ids.size() + " entidades");
+        dao.deleteAll(ids);
+    }
+    
+    @Override
+    public void saveAndUpdateAll(List<T> nuevos, List<T> existentes) {
+        Logger.info(getClass().getSimpleName(), () -> "Guardando lote de " + nuevos.size()
+                + " entidades nuevas y " + existentes.size() + " existentes");
+        dao.saveAndUpdateAll(nuevos, existentes);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,267 @@
+package edu.up.controllers.service;
+
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
+import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
+import edu.up.utils.CacheStatistics;
+import edu.up.utils.LruCache;
+import edu.up.utils.Logger;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de IMedicService que cachea las lecturas en memoria.
+ *
+ * Las búsquedas puntuales (por ID y por DNI) se invalidan solo para el
+ * médico modificado. Los listados dependen de todas las filas, así que
+ * cualquier escritura los descarta completos. streamAll y findPage de
+ * entidades completas no se cachean.
+ *
+ * Las entidades cacheadas se comparten entre llamadas: no deben modificarse.
+ */
+public class CachingMedicService implements IMedicService {
+    private static final String CLAVE_TODOS = "todos";
+    private static final String PREFIJO_NOMBRE = "nombre:";
+
+    private final IMedicService delegate;
+    private final LruCache<Long, Optional<MedicoEntity>> porId;
+    private final LruCache<String, Optional<MedicoEntity>> porDni;
+    private final LruCache<String, List<MedicoEntity>> listas;
+    private final LruCache<String, List<PersonaResumen>> resumenes;
+    private final LruCache<PageKey, Page<PersonaResumen>> paginas;
+
+    /**
+     * @param delegate  servicio real
+     * @param maxSize   entradas máximas de cada caché
+     * @param ttlMillis tiempo de vida de cada entrada
+     */
+    public CachingMedicService(IMedicService delegate, int maxSize, long ttlMillis) {
+        this.delegate = delegate;
+        this.porId = new LruCache<>(maxSize, ttlMillis);
+        this.porDni = new LruCache<>(maxSize, ttlMillis);
+        this.listas = new LruCache<>(maxSize, ttlMillis);
+        this.resumenes = new LruCache<>(maxSize, ttlMillis);
+        this.paginas = new LruCache<>(maxSize, ttlMillis);
+        Logger.info(getClass().getSimpleName(), "Caché de médicos habilitada (maxSize=" + maxSize
+                + ", ttlMs=" + ttlMillis + ")");
+    }
+
+    // Lecturas cacheadas
+
+    @Override
+    public Optional<MedicoEntity> findById(Long id) {
+        return porId.get(id, delegate::findById);
+    }
+
+    @Override
+    public Optional<MedicoEntity> findByCode(String code) {
+        return porDni.get(code, delegate::findByCode);
+    }
+
+    @Override
+    public List<MedicoEntity> findAll() {
+        return listas.get(CLAVE_TODOS, k -> List.copyOf(delegate.findAll()));
+    }
+
+    @Override
+    public List<MedicoEntity> findByName(String name) {
+        return listas.get(PREFIJO_NOMBRE + name, k -> List.copyOf(delegate.findByName(name)));
+    }
+
+    @Override
+    public List<PersonaResumen> findAllResumen() {
+        return resumenes.get(CLAVE_TODOS, k -> List.copyOf(delegate.findAllResumen()));
+    }
+
+    @Override
+    public Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal) {
+        return paginas.get(new PageKey(after, pageSize, includeTotal),
+                k -> delegate.findPageResumen(after, pageSize, includeTotal));
+    }
+
+    // Lecturas sin caché
+
+    @Override
+    public Stream<MedicoEntity> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public Page<MedicoEntity> findPage(PageCursor after, int pageSize, boolean includeTotal) {
+        return delegate.findPage(after, pageSize, includeTotal);
+    }
+
+    // Escrituras con invalidación
+
+    @Override
+    public MedicoEntity save(MedicoEntity entity) {
+        try {
+            return delegate.save(entity);
+        } finally {
+            invalidarMedico(entity.getId(), entity.getDni());
+        }
+    }
+
+    @Override
+    public void update(MedicoEntity entity) {
+        try {
+            delegate.update(entity);
+        } finally {
+            invalidarMedico(entity.getId(), entity.getDni());
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        try {
+            delegate.delete(id);
+        } finally {
+            invalidarMedico(id, null);
+        }
+    }
+
+    @Override
+    public void deleteByCode(String code) {
+        try {
+            delegate.deleteByCode(code);
+        } finally {
+            invalidarMedico(null, code);
+        }
+    }
+
+    @Override
+    public List<MedicoEntity> saveAll(List<MedicoEntity> entities) {
+        try {
+            return delegate.saveAll(entities);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void updateAll(List<MedicoEntity> entities) {
+        try {
+            delegate.updateAll(entities);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAll(List<Long> ids) {
+        try {
+            delegate.deleteAll(ids);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void saveAndUpdateAll(List<MedicoEntity> nuevos, List<MedicoEntity> existentes) {
+        try {
+            delegate.saveAndUpdateAll(nuevos, existentes);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    /**
+     * Descarta todo el contenido. Se usa cuando los médicos se modifican
+     * por fuera del servicio (por ejemplo, la importación masiva).
+     */
+    public void invalidateAll() {
+        porId.invalidateAll();
+        porDni.invalidateAll();
+        invalidarListados();
+        Logger.info(getClass().getSimpleName(), "Caché de médicos invalidada");
+    }
+
+    /**
+     * Descarta las entradas de un médico modificado por fuera del servicio
+     * (por ejemplo, el hash de la contraseña que actualiza el login).
+     */
+    public void invalidate(Long id, String dni) {
+        invalidarMedico(id, dni);
+    }
+
+    /**
+     * Aplica un nuevo tamaño máximo y tiempo de vida a todas las cachés
+     * internas, conservando su contenido.
+     */
+    public void reconfigure(int maxSize, long ttlMillis) {
+        porId.reconfigure(maxSize, ttlMillis);
+        porDni.reconfigure(maxSize, ttlMillis);
+        listas.reconfigure(maxSize, ttlMillis);
+        resumenes.reconfigure(maxSize, ttlMillis);
+        paginas.reconfigure(maxSize, ttlMillis);
+        Logger.info(getClass().getSimpleName(), "Caché de médicos reconfigurada (maxSize=" + maxSize
+                + ", ttlMs=" + ttlMillis + ")");
+    }
+
+    /**
+     * Estadísticas sumadas de todas las cachés internas.
+     */
+    public CacheStatistics getStatistics() {
+        return porId.getStatistics()
+                .plus(porDni.getStatistics())
+                .plus(listas.getStatistics())
+                .plus(resumenes.getStatistics())
+                .plus(paginas.getStatistics());
+    }
+
+    /**
+     * Invalida las entradas de un médico. El DNI anterior de un médico
+     * actualizado no se conoce, por eso también se descartan las entradas
+     * por DNI que apunten al mismo ID y las entradas por ID con el mismo DNI.
+     */
+    private void invalidarMedico(Long id, String dni) {
+        if (id != null) {
+            porId.invalidate(id);
+            porDni.invalidateIf((clave, valor) -> valor.isPresent() && id.equals(valor.get().getId()));
+        }
+        if (dni != null) {
+            porDni.invalidate(dni);
+            porId.invalidateIf((clave, valor) -> valor.isPresent() && dni.equals(valor.get().getDni()));
+        }
+        invalidarListados();
+    }
+
+    private void invalidarListados() {
+        listas.invalidateAll();
+        resumenes.invalidateAll();
+        paginas.invalidateAll();
+    }
+
+    /**
+     * Clave de una página cacheada.
+     */
+    private static final class PageKey {
+        private final PageCursor after;
+        private final int pageSize;
+        private final boolean includeTotal;
+
+        PageKey(PageCursor after, int pageSize, boolean includeTotal) {
+            this.after = after;
+            this.pageSize = pageSize;
+            this.includeTotal = includeTotal;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PageKey)) {
+                return false;
+            }
+            PageKey otra = (PageKey) o;
+            return pageSize == otra.pageSize && includeTotal == otra.includeTotal
+                    && Objects.equals(after, otra.after);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(after, pageSize, includeTotal);
+        }
+    }
+}
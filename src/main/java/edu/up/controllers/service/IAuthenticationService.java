@@ -1,5 +1,9 @@
 package edu.up.controllers.service;
 
+import java.util.Optional;
+
+import edu.up.utils.Session;
+
 /**
  * Servicio de autenticación que maneja el login sin exponer entidades
  */
@@ -12,4 +16,14 @@ public interface IAuthenticationService {
      * @return true si la autenticación fue exitosa, false en caso contrario
      */
     boolean autenticar(String usuario, String contrasena);
+
+    /**
+     * Autentica un usuario y le crea una sesión propia en el SessionRegistry,
+     * sin tocar la sesión de escritorio de SessionManager. Es el camino para
+     * logins concurrentes: cada uno recibe su token y ninguno desplaza a otro.
+     * @param usuario Nombre de usuario
+     * @param contrasena Contraseña
+     * @return la sesión creada, o vacío si las credenciales no son válidas
+     */
+    Optional<Session> iniciarSesion(String usuario, String contrasena);
 } 
\ No newline at end of file
@@ -1,12 +1,21 @@
 package edu.up.controllers.service;
 
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IBaseService<T> {
     Optional<T> findById(Long id);
     List<T> findAll();
+    Stream<T> streamAll();
+    Page<T> findPage(PageCursor after, int pageSize, boolean includeTotal);
     T save(T entity);
     void update(T entity);
     void delete(Long id);
+    List<T> saveAll(List<T> entities);
+    void updateAll(List<T> entities);
+    void deleteAll(List<Long> ids);
+    void saveAndUpdateAll(List<T> nuevos, List<T> existentes);
 } 
\ No newline at end of file
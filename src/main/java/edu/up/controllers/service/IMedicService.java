@@ -1,6 +1,9 @@
 package edu.up.controllers.service;
 
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
 import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,4 +11,6 @@ public interface IMedicService extends IBaseService<MedicoEntity> {
     Optional<MedicoEntity> findByCode(String code);
     List<MedicoEntity> findByName(String name);
     void deleteByCode(String code);
+    List<PersonaResumen> findAllResumen();
+    Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal);
 } 
\ No newline at end of file
@@ -1,7 +1,10 @@
 package edu.up.controllers.service;
 
 import edu.up.controllers.dao.IMedicDAO;
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
 import edu.up.models.entities.MedicoEntity;
+import edu.up.models.projections.PersonaResumen;
 import edu.up.utils.Logger;
 import java.util.List;
 import java.util.Optional;
@@ -18,19 +21,31 @@ public class MedicServiceImpl extends BaseServiceImpl<MedicoEntity> implements I
     
     @Override
     public Optional<MedicoEntity> findByCode(String code) {
-        Logger.info(getClass().getSimpleName(), "Buscando médico por código: " + code);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando médico por código: " + code);
         return medicDAO.findByCode(code);
     }
     
     @Override
     public List<MedicoEntity> findByName(String name) {
-        Logger.info(getClass().getSimpleName(), "Buscando médicos por nombre: " + name);
+        Logger.info(getClass().getSimpleName(), () -> "Buscando médicos por nombre: " + name);
         return medicDAO.findByName(name);
     }
     
     @Override
     public void deleteByCode(String code) {
-        Logger.info(getClass().getSimpleName(), "Eliminando médico por código: " + code);
+        Logger.info(getClass().getSimpleName(), () -> "Eliminando médico por código: " + code);
         medicDAO.deleteByCode(code);
     }
+    
+    @Override
+    public List<PersonaResumen> findAllResumen() {
+        Logger.info(getClass().getSimpleName(), "Buscando resumen de todos los médicos");
+        return medicDAO.findAllResumen();
+    }
+    
+    @Override
+    public Page<PersonaResumen> findPageResumen(PageCursor after, int pageSize, boolean includeTotal) {
+        Logger.info(getClass().getSimpleName(), "Buscando página de resumen de médicos");
+        return medicDAO.findPageResumen(after, pageSize, includeTotal);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,143 @@
+package edu.up.controllers.service;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import edu.up.controllers.exceptions.RateLimitExceededException;
+import edu.up.controllers.infrastructure.ConfigSnapshot;
+import edu.up.controllers.infrastructure.Configuration;
+import edu.up.utils.LruCache;
+import edu.up.utils.Logger;
+import edu.up.utils.Session;
+import edu.up.utils.TokenBucket;
+
+/**
+ * Decorador de IAuthenticationService que limita los intentos de login
+ * antes de llegar a la base de datos.
+ *
+ * Hay un token bucket por usuario y uno global. El de usuario se consume en
+ * cada intento y se devuelve si el login es exitoso, así que en la práctica
+ * solo cuentan los fallidos. El global se consume en todo intento que llega
+ * al servicio real y acota la carga sobre la base aunque se prueben muchos
+ * usuarios distintos. Un intento rechazado lanza RateLimitExceededException
+ * sin consultar la base. autenticar() e iniciarSesion() comparten los
+ * mismos buckets.
+ *
+ * Los buckets por usuario viven en una LruCache acotada que los descarta
+ * tras un tiempo de recarga completa sin usarse: como nadie consumió fichas
+ * en ese lapso, el bucket ya está lleno otra vez y descartarlo no pierde
+ * información. El TTL cuenta desde el último acceso y no desde la creación;
+ * si no, un usuario que insiste sin pausa recibiría un bucket nuevo, lleno,
+ * cada período de recarga y duplicaría su ritmo de intentos.
+ */
+public class RateLimitedAuthenticationService implements IAuthenticationService {
+    private final IAuthenticationService delegate;
+    private final int userCapacity;
+    private final double userTokensPerSecond;
+    private final LruCache<String, TokenBucket> porUsuario;
+    private final TokenBucket global;
+
+    private final LongAdder rechazadosPorUsuario = new LongAdder();
+    private final LongAdder rechazadosGlobal = new LongAdder();
+
+    /**
+     * @param delegate             servicio real
+     * @param userCapacity         intentos fallidos seguidos permitidos por usuario
+     * @param userTokensPerMinute  intentos por usuario que se recuperan por minuto
+     * @param maxTrackedUsers      usuarios con estado guardado como máximo
+     * @param globalCapacity       ráfaga de intentos global
+     * @param globalTokensPerSecond intentos globales por segundo
+     */
+    public RateLimitedAuthenticationService(IAuthenticationService delegate, int userCapacity,
+            double userTokensPerMinute, int maxTrackedUsers, int globalCapacity, double globalTokensPerSecond) {
+        this.delegate = delegate;
+        this.userCapacity = userCapacity;
+        this.userTokensPerSecond = userTokensPerMinute / 60.0;
+        this.global = new TokenBucket(globalCapacity, globalTokensPerSecond);
+        // Redondeo hacia arriba: al vencer, el bucket tiene que estar lleno
+        long recargaMs = TimeUnit.NANOSECONDS.toMillis(
+                new TokenBucket(userCapacity, userTokensPerSecond).getRefillNanos() + 999_999);
+        this.porUsuario = new LruCache<>(maxTrackedUsers, Math.max(1_000L, recargaMs), true);
+        Logger.info(getClass().getSimpleName(), "Límite de login: " + userCapacity + " intentos por usuario ("
+                + userTokensPerMinute + "/min), " + globalCapacity + " globales (" + globalTokensPerSecond + "/s)");
+    }
+
+    /**
+     * Crea el limitador con security.login.* de application.properties.
+     */
+    public static RateLimitedAuthenticationService fromConfiguration(IAuthenticationService delegate) {
+        ConfigSnapshot config = Configuration.current();
+        return new RateLimitedAuthenticationService(delegate,
+                config.getInt("security.login.user.capacity", 5),
+                Double.parseDouble(config.getString("security.login.user.perMinute", "5")),
+                config.getInt("security.login.user.maxTracked", 10_000),
+                config.getInt("security.login.global.capacity", 50),
+                Double.parseDouble(config.getString("security.login.global.perSecond", "20")));
+    }
+
+    @Override
+    public boolean autenticar(String usuario, String contrasena) {
+        return limitar(usuario, () -> delegate.autenticar(usuario, contrasena), autenticado -> autenticado);
+    }
+
+    @Override
+    public Optional<Session> iniciarSesion(String usuario, String contrasena) {
+        return limitar(usuario, () -> delegate.iniciarSesion(usuario, contrasena), Optional::isPresent);
+    }
+
+    /**
+     * Consume los buckets, ejecuta el intento y devuelve el token del usuario
+     * si el intento fue exitoso.
+     */
+    private <T> T limitar(String usuario, Supplier<T> intento, Predicate<T> exitoso) {
+        TokenBucket bucket = porUsuario.get(clave(usuario), k -> new TokenBucket(userCapacity, userTokensPerSecond));
+
+        long espera = bucket.tryAcquire();
+        if (espera > 0) {
+            rechazadosPorUsuario.increment();
+            Logger.warn(getClass().getSimpleName(), () -> "Demasiados intentos fallidos para usuario: " + usuario);
+            throw rechazo("Demasiados intentos fallidos para este usuario", espera);
+        }
+
+        espera = global.tryAcquire();
+        if (espera > 0) {
+            bucket.refund();
+            rechazadosGlobal.increment();
+            Logger.warn(getClass().getSimpleName(), "Límite global de intentos de login alcanzado");
+            throw rechazo("Demasiados intentos de login en el sistema", espera);
+        }
+
+        boolean autenticado = false;
+        try {
+            T resultado = intento.get();
+            autenticado = exitoso.test(resultado);
+            return resultado;
+        } finally {
+            if (autenticado) {
+                bucket.refund();
+            }
+        }
+    }
+
+    public long getRechazadosPorUsuario() {
+        return rechazadosPorUsuario.sum();
+    }
+
+    public long getRechazadosGlobal() {
+        return rechazadosGlobal.sum();
+    }
+
+    private static String clave(String usuario) {
+        return usuario == null ? "" : usuario.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static RateLimitExceededException rechazo(String mensaje, long esperaNanos) {
+        // Redondeo hacia arriba: nunca sugerir reintentar antes de tiempo
+        long esperaMs = TimeUnit.NANOSECONDS.toMillis(esperaNanos + 999_999);
+        return new RateLimitExceededException(mensaje, esperaMs);
+    }
+}
@@ -0,0 +1,9 @@
+package edu.up.models.projections;
+
+/**
+ * Proyección liviana de una persona para listados.
+ * Solo incluye las columnas que muestran las pantallas: no trae usuario,
+ * contraseña ni fechas de auditoría.
+ */
+public record PersonaResumen(Long id, String nombre, String apellido, String dni) {
+}
@@ -0,0 +1,196 @@
+package edu.up.tools;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.up.controllers.dao.IPersonaDAO;
+import edu.up.controllers.infrastructure.ConnectionPool;
+import edu.up.controllers.infrastructure.ConnectionPoolConfig;
+import edu.up.controllers.infrastructure.IDBConnection;
+import edu.up.controllers.infrastructure.MySQLConnectionManager;
+import edu.up.utils.PasswordHasher;
+
+/**
+ * Compara la latencia del login con dos consultas secuenciales (médicos y
+ * luego pacientes, una conexión por consulta) contra la consulta unificada
+ * que usa AuthenticationDAOImpl. Ambas buscan la fila por usuario, como el
+ * login, sin el logging del DAO. Se mide solo el acceso a la base: el hash
+ * se verifica con PasswordHasher fuera del tiempo medido (una vez por valor
+ * guardado), y la columna ok cuenta los intentos con contraseña correcta.
+ *
+ * Usa la base configurada en application.properties y los usuarios de
+ * ejemplo de database_setup.sql. Ejecutar con:
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=edu.up.tools.AuthenticationBenchmark -Dexec.args="2000 500"
+ *
+ * Argumentos opcionales: iteraciones, iteraciones de calentamiento,
+ * usuario:contraseña de médico y usuario:contraseña de paciente.
+ */
+public final class AuthenticationBenchmark {
+    private static final String SEPARADOR = "-".repeat(78);
+    // Consultas por tabla de la estrategia secuencial; el login ya no las usa
+    private static final String SQL_SELECT_MEDICO = "SELECT contrasena FROM medicos WHERE usuario = ?";
+    private static final String SQL_SELECT_PACIENTE = "SELECT contrasena FROM pacientes WHERE usuario = ?";
+
+    /**
+     * Una estrategia de búsqueda a medir.
+     */
+    @FunctionalInterface
+    private interface Estrategia {
+        /**
+         * @return la contraseña guardada del usuario, o null si no existe
+         */
+        String buscarContrasena(String usuario) throws SQLException;
+    }
+
+    private AuthenticationBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iteraciones = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int calentamiento = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        String[] medico = (args.length > 2 ? args[2] : "jperez:medico123").split(":", 2);
+        String[] paciente = (args.length > 3 ? args[3] : "pgarcia:paciente123").split(":", 2);
+
+        try (ConnectionPool pool = new ConnectionPool(MySQLConnectionManager.getInstance(),
+                ConnectionPoolConfig.fromConfiguration());
+             PasswordHasher hasher = PasswordHasher.fromConfiguration()) {
+            Estrategia secuencial = u -> buscarSecuencial(pool, u);
+            Estrategia unificada = u -> buscarUnificada(pool, u);
+            Verificador verificador = new Verificador(hasher);
+
+            System.out.println(SEPARADOR);
+            System.out.printf("%-12s %-12s %10s %10s %10s %10s %8s%n",
+                    "Escenario", "Estrategia", "media(us)", "p50(us)", "p95(us)", "p99(us)", "ok");
+            System.out.println(SEPARADOR);
+            medirEscenario("médico", medico[0], medico[1], secuencial, unificada, verificador,
+                    iteraciones, calentamiento);
+            medirEscenario("paciente", paciente[0], paciente[1], secuencial, unificada, verificador,
+                    iteraciones, calentamiento);
+            medirEscenario("fallido", "no_existe", "invalida", secuencial, unificada, verificador,
+                    iteraciones, calentamiento);
+            System.out.println(SEPARADOR);
+            System.out.println(pool.getStatistics());
+        }
+    }
+
+    private static void medirEscenario(String escenario, String usuario, String contrasena,
+                                       Estrategia secuencial, Estrategia unificada, Verificador verificador,
+                                       int iteraciones, int calentamiento) throws SQLException {
+        medir(secuencial, verificador, usuario, contrasena, calentamiento);
+        medir(unificada, verificador, usuario, contrasena, calentamiento);
+        imprimir(escenario, "secuencial", medir(secuencial, verificador, usuario, contrasena, iteraciones));
+        imprimir(escenario, "unificada", medir(unificada, verificador, usuario, contrasena, iteraciones));
+    }
+
+    private static Resultado medir(Estrategia estrategia, Verificador verificador, String usuario,
+                                   String contrasena, int iteraciones) throws SQLException {
+        long[] muestras = new long[iteraciones];
+        int exitosos = 0;
+        for (int i = 0; i < iteraciones; i++) {
+            long inicio = System.nanoTime();
+            String guardada = estrategia.buscarContrasena(usuario);
+            muestras[i] = System.nanoTime() - inicio;
+            if (verificador.verificar(contrasena, guardada)) {
+                exitosos++;
+            }
+        }
+        return new Resultado(muestras, exitosos);
+    }
+
+    private static void imprimir(String escenario, String estrategia, Resultado r) {
+        System.out.printf("%-12s %-12s %10.1f %10.1f %10.1f %10.1f %8d%n",
+                escenario, estrategia, r.mediaMicros(), r.percentilMicros(0.50),
+                r.percentilMicros(0.95), r.percentilMicros(0.99), r.exitosos);
+    }
+
+    /**
+     * Estrategia anterior: busca en médicos y, si no encuentra, en pacientes,
+     * pidiendo una conexión por consulta.
+     */
+    private static String buscarSecuencial(IDBConnection db, String usuario) throws SQLException {
+        String contrasena = buscar(db, SQL_SELECT_MEDICO, usuario);
+        return contrasena != null ? contrasena : buscar(db, SQL_SELECT_PACIENTE, usuario);
+    }
+
+    /**
+     * Estrategia actual: la consulta UNION ALL del DAO con una conexión; si
+     * el usuario está en ambas tablas gana el médico.
+     */
+    private static String buscarUnificada(IDBConnection db, String usuario) throws SQLException {
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(IPersonaDAO.SQL_SELECT_BY_USUARIO)) {
+            stmt.setString(1, usuario);
+            stmt.setString(2, usuario);
+            try (ResultSet rs = stmt.executeQuery()) {
+                String contrasena = null;
+                while (rs.next()) {
+                    if (IPersonaDAO.TIPO_MEDICO.equals(rs.getString("tipo"))) {
+                        return rs.getString("contrasena");
+                    }
+                    contrasena = rs.getString("contrasena");
+                }
+                return contrasena;
+            }
+        }
+    }
+
+    private static String buscar(IDBConnection db, String sql, String usuario) throws SQLException {
+        try (Connection conn = db.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, usuario);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString("contrasena") : null;
+            }
+        }
+    }
+
+    /**
+     * Verifica contraseñas con PasswordHasher recordando el resultado por
+     * valor guardado, para no pagar PBKDF2 en cada iteración.
+     */
+    private static final class Verificador {
+        private final PasswordHasher hasher;
+        private final Map<String, Boolean> resultados = new HashMap<>();
+
+        Verificador(PasswordHasher hasher) {
+            this.hasher = hasher;
+        }
+
+        boolean verificar(String contrasena, String guardada) {
+            if (guardada == null) {
+                return false;
+            }
+            return resultados.computeIfAbsent(contrasena + '\0' + guardada,
+                    k -> hasher.verify(contrasena, guardada));
+        }
+    }
+
+    private static final class Resultado {
+        private final long[] muestras;
+        private final int exitosos;
+
+        Resultado(long[] muestras, int exitosos) {
+            this.muestras = muestras.clone();
+            Arrays.sort(this.muestras);
+            this.exitosos = exitosos;
+        }
+
+        double mediaMicros() {
+            return Arrays.stream(muestras).average().orElse(0) / 1_000.0;
+        }
+
+        double percentilMicros(double p) {
+            if (muestras.length == 0) {
+                return 0;
+            }
+            int indice = (int) Math.ceil(p * muestras.length) - 1;
+            return muestras[Math.max(0, Math.min(indice, muestras.length - 1))] / 1_000.0;
+        }
+    }
+}
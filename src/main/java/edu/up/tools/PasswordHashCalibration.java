@@ -0,0 +1,135 @@
+package edu.up.tools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.up.utils.PasswordHasher;
+
+/**
+ * Elige security.password.iterations para esta máquina: el mayor costo de
+ * PBKDF2 cuyo p95 queda por debajo de la latencia objetivo de login, medido
+ * con tantas verificaciones simultáneas como permite maxParallelism (que es
+ * lo que ve un usuario durante una ráfaga de logins).
+ *
+ * No usa la base de datos. Ejecutar con:
+ *
+ *   mvn -q compile exec:java -Dexec.mainClass=edu.up.tools.PasswordHashCalibration -Dexec.args="250 2"
+ *
+ * Argumentos opcionales: latencia objetivo en ms (250), verificaciones
+ * simultáneas (la mitad de los núcleos) y muestras por costo (20).
+ *
+ * Con -Dexec.args="hash <contraseña>" imprime el hash con el costo
+ * configurado, para usarlo en admin.password.
+ */
+public final class PasswordHashCalibration {
+    private static final String SEPARADOR = "-".repeat(60);
+    private static final int COSTO_INICIAL = 10_000;
+    private static final int COSTO_MAXIMO = 10_000_000;
+    private static final String CONTRASENA = "calibracion-Turnero-2025";
+
+    private PasswordHashCalibration() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 2 && "hash".equals(args[0])) {
+            try (PasswordHasher hasher = PasswordHasher.fromConfiguration()) {
+                System.out.println(hasher.hash(args[1]));
+            }
+            return;
+        }
+        double objetivoMs = args.length > 0 ? Double.parseDouble(args[0]) : 250;
+        int paralelas = args.length > 1 ? Integer.parseInt(args[1])
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int muestras = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        ExecutorService pool = Executors.newFixedThreadPool(paralelas);
+        try {
+            // Calentamiento del JIT: el primer par de segundos mide código interpretado
+            long finCalentamiento = System.nanoTime() + 3_000_000_000L;
+            while (System.nanoTime() < finCalentamiento) {
+                medir(pool, paralelas, COSTO_INICIAL, paralelas);
+            }
+
+            System.out.println(SEPARADOR);
+            System.out.printf("Objetivo p95 %.0f ms con %d verificaciones simultáneas%n", objetivoMs, paralelas);
+            System.out.println(SEPARADOR);
+            System.out.printf("%12s %12s %12s%n", "iteraciones", "p50(ms)", "p95(ms)");
+
+            // Duplicar el costo hasta pasarse del objetivo
+            int elegido = 0;
+            double p95Elegido = 0;
+            int costo = COSTO_INICIAL;
+            double p95 = 0;
+            while (costo <= COSTO_MAXIMO) {
+                double[] tiempos = medir(pool, paralelas, costo, muestras);
+                p95 = percentil(tiempos, 0.95);
+                System.out.printf("%12d %12.1f %12.1f%n", costo, percentil(tiempos, 0.50), p95);
+                if (p95 > objetivoMs) {
+                    break;
+                }
+                elegido = costo;
+                p95Elegido = p95;
+                costo *= 2;
+            }
+
+            // PBKDF2 escala lineal con las iteraciones: interpolar entre los dos últimos costos
+            if (elegido > 0 && costo <= COSTO_MAXIMO) {
+                double porIteracion = (p95 - p95Elegido) / (costo - elegido);
+                int interpolado = (int) (elegido + (objetivoMs - p95Elegido) / porIteracion);
+                int redondeado = Math.max(elegido, interpolado / 1_000 * 1_000);
+                double[] tiempos = medir(pool, paralelas, redondeado, muestras);
+                if (percentil(tiempos, 0.95) <= objetivoMs) {
+                    elegido = redondeado;
+                    System.out.printf("%12d %12.1f %12.1f%n", redondeado,
+                            percentil(tiempos, 0.50), percentil(tiempos, 0.95));
+                }
+            }
+
+            System.out.println(SEPARADOR);
+            if (elegido == 0) {
+                System.out.printf("Ni %d iteraciones entran en %.0f ms: revisar el objetivo o el paralelismo%n",
+                        COSTO_INICIAL, objetivoMs);
+            } else {
+                System.out.println("Valor sugerido para application.properties:");
+                System.out.println("security.password.iterations=" + elegido);
+                System.out.println("security.password.maxParallelism=" + paralelas);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Calcula muestras hashes con el costo dado, de a paralelas por vez.
+     * @return duración de cada hash en ms
+     */
+    private static double[] medir(ExecutorService pool, int paralelas, int costo, int muestras) throws Exception {
+        double[] tiempos = new double[muestras];
+        int hechas = 0;
+        while (hechas < muestras) {
+            int lote = Math.min(paralelas, muestras - hechas);
+            List<Future<Long>> futuros = new ArrayList<>(lote);
+            for (int i = 0; i < lote; i++) {
+                futuros.add(pool.submit(() -> {
+                    long inicio = System.nanoTime();
+                    PasswordHasher.hash(CONTRASENA, costo);
+                    return System.nanoTime() - inicio;
+                }));
+            }
+            for (Future<Long> futuro : futuros) {
+                tiempos[hechas++] = futuro.get() / 1_000_000.0;
+            }
+        }
+        Arrays.sort(tiempos);
+        return tiempos;
+    }
+
+    private static double percentil(double[] ordenados, double p) {
+        int indice = (int) Math.ceil(p * ordenados.length) - 1;
+        return ordenados[Math.max(0, Math.min(indice, ordenados.length - 1))];
+    }
+}
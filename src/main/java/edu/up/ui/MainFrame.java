@@ -7,11 +7,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
+import javax.swing.Timer;
 
 import edu.up.controllers.ApplicationContext;
+import edu.up.controllers.infrastructure.Configuration;
 import edu.up.ui.forms.LoginForm;
 import edu.up.ui.sections.HeaderSection;
 import edu.up.ui.sections.StatusSection;
@@ -19,8 +22,12 @@ import edu.up.ui.views.AdministrationView;
 import edu.up.ui.views.ConfigurationView;
 import edu.up.ui.views.HomeView;
 import edu.up.ui.views.IView;
+import edu.up.ui.views.LazyView;
 import edu.up.ui.views.MedicView;
+import edu.up.utils.Logger;
 import edu.up.utils.SessionManager;
+import edu.up.utils.jfr.ViewSwitchEvent;
+import edu.up.utils.metrics.MetricsRegistry;
 
 /**
  * Ventana principal de la aplicación con gestión automática de vistas.
@@ -29,8 +36,14 @@ import edu.up.utils.SessionManager;
 public class MainFrame extends JFrame {
   private static final String WINDOW_TITLE = "Turnero médico - UP";
   private static final Dimension MIN_WINDOW_SIZE = new Dimension(640, 480);
+  // Espera tras abrir la ventana antes de precargar vistas, y entre vista y vista
+  private static final int DEFAULT_PREFETCH_DELAY_MS = 1500;
   
   private StatusSection statusSection;
+  // Vista visible, para avisarle cuando se navega a otra
+  private IView currentView;
+  // Vistas diferidas que probablemente se abran, en orden de precarga
+  private final List<LazyView> prefetchViews = new ArrayList<>();
 
   /**
    * Constructor que inicializa la ventana principal y todos sus componentes.
@@ -53,7 +66,9 @@ public class MainFrame extends JFrame {
     IView initialView; // Variable local para la vista inicial
 
     // Inicializar vistas y configurar UI
+    long inicio = System.nanoTime();
     initialView = initializeViewsAndCards(allViews, viewMap, contentPanel);
+    Logger.info("MainFrame", "Vistas inicializadas en " + (System.nanoTime() - inicio) / 1_000_000L + " ms");
     initializeWindow();
 
     // Obtener vistas principales para el header
@@ -69,6 +84,8 @@ public class MainFrame extends JFrame {
     
     // Actualizar la barra de estado con la información del usuario autenticado
     statusSection.actualizarInformacionUsuario();
+
+    schedulePrefetch();
   }
   
   /**
@@ -92,18 +109,22 @@ public class MainFrame extends JFrame {
 
   /**
    * Inicializa las vistas y las agrega al CardLayout sin configurar acciones.
+   * Las vistas livianas se construyen ahora; las que cargan datos se
+   * envuelven en LazyView y se construyen al navegar a ellas o al precargarlas.
    * 
    * @return La vista inicial de la aplicación
    */
   private IView initializeViewsAndCards(List<IView> allViews, Map<String, IView> viewMap, JPanel contentPanel) {
     // Crear instancias de las vistas principales
-    HomeView homeView = new HomeView();
-    ConfigurationView configView = new ConfigurationView();
-    AdministrationView adminView = new AdministrationView();
+    HomeView homeView = timedBuild("HOME", HomeView::new);
+    ConfigurationView configView = timedBuild("CONFIG", ConfigurationView::new);
+    AdministrationView adminView = timedBuild("ADMIN", AdministrationView::new);
 
     // Obtener controladores del contexto de aplicación
     ApplicationContext context = ApplicationContext.getInstance();
-    MedicView medicView = new MedicView(context.getMedicController());
+    LazyView medicView = new LazyView(MedicView.NAME, MedicView.TITLE,
+        () -> new MedicView(context.getMedicController()));
+    prefetchViews.add(medicView);
 
     // Agregar la vista de médicos a la vista de administración
     adminView.addView(medicView);
@@ -116,6 +137,44 @@ public class MainFrame extends JFrame {
     return homeView;
   }
 
+  /**
+   * Construye una vista registrando cuánto tardó.
+   */
+  private <V extends IView> V timedBuild(String name, Supplier<V> factory) {
+    long inicio = System.nanoTime();
+    V view = factory.get();
+    long duracion = System.nanoTime() - inicio;
+    MetricsRegistry.getInstance().timer("ui.vista." + name + ".construir").record(duracion);
+    Logger.info("MainFrame", "Vista " + name + " construida en " + duracion / 1_000_000L + " ms");
+    return view;
+  }
+
+  /**
+   * Precarga las vistas diferidas cuando la ventana ya está visible, una por
+   * tick del timer para no bloquear el EDT con todas juntas.
+   * Se desactiva con ui.prefetch.enabled=false.
+   */
+  private void schedulePrefetch() {
+    if (prefetchViews.isEmpty() || !Configuration.getBooleanProperty("ui.prefetch.enabled", true)) {
+      return;
+    }
+    int delay = Configuration.getIntProperty("ui.prefetch.delayMs", DEFAULT_PREFETCH_DELAY_MS);
+    List<LazyView> pendientes = new ArrayList<>(prefetchViews);
+    Timer timer = new Timer(delay, null);
+    timer.addActionListener(e -> {
+      // Saltear las que el usuario ya abrió
+      while (!pendientes.isEmpty() && pendientes.get(0).isBuilt()) {
+        pendientes.remove(0);
+      }
+      if (pendientes.isEmpty() || !isDisplayable()) {
+        timer.stop();
+        return;
+      }
+      pendientes.remove(0).prefetch();
+    });
+    timer.start();
+  }
+
   /**
    * Configura las acciones de menú
    */
@@ -160,7 +219,7 @@ public class MainFrame extends JFrame {
       JPanel contentPanel) {
     headerSection.setMenuAction(view.getName(), () -> {
       if (view.hasPermission()) {
-        cardLayout.show(contentPanel, view.getName());
+        showView(cardLayout, contentPanel, view);
       }
     });
   }
@@ -226,7 +285,34 @@ public class MainFrame extends JFrame {
    * Muestra la vista inicial de la aplicación.
    */
   private void showInitialView(CardLayout cardLayout, JPanel contentPanel, IView initialView) {
-    cardLayout.show(contentPanel, initialView.getName());
+    showView(cardLayout, contentPanel, initialView);
+  }
+
+  /**
+   * Muestra una vista avisando a la anterior que se oculta y a la nueva que
+   * se muestra (las vistas diferidas se construyen en ese momento).
+   */
+  private void showView(CardLayout cardLayout, JPanel contentPanel, IView view) {
+    if (currentView == view) {
+      return;
+    }
+    ViewSwitchEvent evento = new ViewSwitchEvent();
+    evento.begin();
+    IView anterior = currentView;
+    if (anterior != null) {
+      anterior.onHide();
+    }
+    currentView = view;
+    long inicio = System.nanoTime();
+    view.onShow();
+    cardLayout.show(contentPanel, view.getName());
+    MetricsRegistry.getInstance().timer("ui.vista." + view.getName() + ".mostrar").recordSince(inicio);
+    evento.end();
+    if (evento.shouldCommit()) {
+      evento.desde = anterior != null ? anterior.getName() : null;
+      evento.hacia = view.getName();
+      evento.commit();
+    }
   }
   
   /**
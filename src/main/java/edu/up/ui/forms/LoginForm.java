@@ -21,6 +21,7 @@ import javax.swing.JTextField;
 import javax.swing.border.EmptyBorder;
 
 import edu.up.controllers.LoginController;
+import edu.up.ui.workers.UiTask;
 
 /**
  * Formulario de login para autenticación de usuarios
@@ -36,6 +37,7 @@ public class LoginForm extends JDialog {
     
     private LoginController loginController;
     private boolean loginExitoso = false;
+    private boolean autenticando = false;
     
     public LoginForm(JFrame parent, LoginController loginController) {
         super(parent, "Iniciar Sesión", true);
@@ -157,13 +159,41 @@ public class LoginForm extends JDialog {
         usuarioField.requestFocusInWindow();
     }
     
+    /**
+     * Verificar la contraseña es costoso a propósito: la validación corre
+     * fuera del EDT y el formulario queda deshabilitado mientras tanto.
+     */
     private void realizarLogin() {
+        if (autenticando) {
+            return;
+        }
         String usuario = usuarioField.getText();
         String contrasena = new String(contrasenaField.getPassword());
         
         // Delegar toda la lógica al controlador
-        LoginController.LoginResult resultado = loginController.validarCredenciales(usuario, contrasena);
-        
+        setAutenticando(true);
+        UiTask.run(() -> loginController.validarCredenciales(usuario, contrasena),
+                resultado -> {
+                    setAutenticando(false);
+                    procesarResultado(resultado);
+                },
+                error -> {
+                    setAutenticando(false);
+                    procesarResultado(new LoginController.LoginResult(false,
+                            "Error al conectar con el sistema. Intente nuevamente."));
+                });
+    }
+    
+    private void setAutenticando(boolean valor) {
+        autenticando = valor;
+        usuarioField.setEnabled(!valor);
+        contrasenaField.setEnabled(!valor);
+        loginButton.setEnabled(!valor);
+        cancelButton.setEnabled(!valor);
+        loginButton.setText(valor ? "Verificando..." : "Iniciar Sesión");
+    }
+    
+    private void procesarResultado(LoginController.LoginResult resultado) {
         if (resultado.isExitoso()) {
             loginExitoso = true;
             dispose();
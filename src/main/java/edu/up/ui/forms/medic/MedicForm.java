@@ -162,6 +162,15 @@ public class MedicForm {
   }
 
   // Métodos para configurar listeners de botones
+  /**
+   * Habilita o deshabilita los botones mientras se procesa una operación.
+   */
+  public void setAccionesHabilitadas(boolean habilitadas) {
+    btnGuardar.setEnabled(habilitadas);
+    btnEliminar.setEnabled(habilitadas);
+    btnLimpiar.setEnabled(habilitadas);
+  }
+
   public void setGuardarListener(ActionListener listener) {
     btnGuardar.addActionListener(listener);
   }
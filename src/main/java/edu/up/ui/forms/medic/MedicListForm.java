@@ -3,14 +3,16 @@ package edu.up.ui.forms.medic;
 import java.awt.BorderLayout;
 import java.awt.FlowLayout;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.swing.JButton;
+import javax.swing.JLabel;
 import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.event.ListSelectionListener;
-import javax.swing.table.DefaultTableModel;
 
 import edu.up.controllers.dto.MedicoDTO;
 import edu.up.models.entities.MedicoEntity;
@@ -21,24 +23,22 @@ import edu.up.models.entities.MedicoEntity;
  */
 public class MedicListForm {
   private final JPanel panel;
-  private final DefaultTableModel tableModel;
+  private final MedicTableModel tableModel;
   private final JTable medicosTable;
   private final JButton btnRefrescar;
+  private final JProgressBar progressBar;
+  private final JLabel lblEstado;
 
   public MedicListForm() {
     this.panel = new JPanel(new BorderLayout());
 
     // Configurar modelo de tabla
-    String[] columnNames = { "ID", "Nombre", "Apellido", "DNI/Código" };
-    this.tableModel = new DefaultTableModel(columnNames, 0) {
-      @Override
-      public boolean isCellEditable(int row, int column) {
-        return false; // Tabla no editable directamente
-      }
-    };
+    this.tableModel = new MedicTableModel();
 
     this.medicosTable = new JTable(tableModel);
     this.btnRefrescar = new JButton("Refrescar Lista");
+    this.progressBar = new JProgressBar();
+    this.lblEstado = new JLabel(" ");
 
     initializeUI();
   }
@@ -54,10 +54,21 @@ public class MedicListForm {
     scrollPane.setBorder(javax.swing.BorderFactory.createEmptyBorder());
     panel.add(scrollPane, BorderLayout.CENTER);
 
+    // Indicador de carga a la izquierda
+    progressBar.setIndeterminate(true);
+    progressBar.setVisible(false);
+    JPanel statusPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+    statusPanel.add(progressBar);
+    statusPanel.add(lblEstado);
+
     // Panel para el botón de refrescar
     JPanel refreshPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
     refreshPanel.add(btnRefrescar);
-    panel.add(refreshPanel, BorderLayout.SOUTH);
+
+    JPanel southPanel = new JPanel(new BorderLayout());
+    southPanel.add(statusPanel, BorderLayout.WEST);
+    southPanel.add(refreshPanel, BorderLayout.EAST);
+    panel.add(southPanel, BorderLayout.SOUTH);
   }
 
   // Getters para acceder al panel y componentes
@@ -71,39 +82,76 @@ public class MedicListForm {
 
   // Métodos para manejar datos de la tabla
   public void cargarMedicos(List<MedicoEntity> medicos) {
-    // Limpiar tabla
-    tableModel.setRowCount(0);
-
-    // Cargar médicos
+    List<MedicoDTO> dtos = new ArrayList<>(medicos.size());
     for (MedicoEntity medico : medicos) {
-      Object[] row = {
-          medico.getId(),
-          medico.getNombre(),
-          medico.getApellido(),
-          medico.getDni()
-      };
-      tableModel.addRow(row);
+      dtos.add(new MedicoDTO(medico.getId(), medico.getNombre(), medico.getApellido(), medico.getDni()));
     }
+    tableModel.setRows(dtos);
   }
 
   public void cargarMedicosDTO(List<MedicoDTO> medicos) {
-    // Limpiar tabla
-    tableModel.setRowCount(0);
-
-    // Cargar médicos
-    for (MedicoDTO medico : medicos) {
-      Object[] row = {
-          medico.getId(),
-          medico.getNombre(),
-          medico.getApellido(),
-          medico.getDni()
-      };
-      tableModel.addRow(row);
+    tableModel.setRows(medicos);
+  }
+
+  /**
+   * Agrega médicos al final de la tabla sin borrar los existentes.
+   * Se usa para mostrar una carga paginada a medida que llegan las páginas;
+   * durante un refresco, cada página reemplaza el tramo que ya estaba cargado.
+   */
+  public void agregarMedicosDTO(List<MedicoDTO> medicos) {
+    tableModel.appendRows(medicos);
+  }
+
+  /**
+   * Aplica la primera página de un refresco sobre las filas cargadas
+   * aplicando solo las diferencias; las filas de páginas posteriores se
+   * conservan, para no perder la selección ni el scroll.
+   */
+  public void actualizarMedicosDTO(List<MedicoDTO> medicos) {
+    tableModel.applySnapshot(medicos);
+  }
+
+  /**
+   * Agrega o actualiza un médico en su posición de la tabla.
+   */
+  public void actualizarMedicoDTO(MedicoDTO medico) {
+    tableModel.upsert(medico);
+  }
+
+  /**
+   * Quita un médico de la tabla.
+   */
+  public void quitarMedico(Long id) {
+    if (id != null) {
+      tableModel.removeById(id);
     }
   }
 
+  /**
+   * Indica si quedan páginas por cargar y quién debe cargarlas cuando el
+   * usuario llegue al final de la tabla.
+   */
+  public void setHayMas(boolean hayMas) {
+    tableModel.setHasMore(hayMas);
+  }
+
+  public void setCargarMasListener(Runnable listener) {
+    tableModel.setLoadMoreListener(listener);
+  }
+
+  /**
+   * Muestra u oculta el indicador de operación en curso.
+   *
+   * @param cargando true mientras hay una operación en segundo plano
+   * @param mensaje  texto a mostrar junto al indicador
+   */
+  public void setCargando(boolean cargando, String mensaje) {
+    progressBar.setVisible(cargando);
+    lblEstado.setText(mensaje == null || mensaje.isEmpty() ? " " : mensaje);
+  }
+
   public void limpiarTabla() {
-    tableModel.setRowCount(0);
+    tableModel.clear();
   }
 
   public int getSelectedRow() {
@@ -136,12 +184,7 @@ public class MedicListForm {
   public MedicoDTO getMedicoDTOFromSelectedRow() {
     int selectedRow = getSelectedRow();
     if (selectedRow >= 0) {
-      Long id = (Long) getValueAt(selectedRow, 0);
-      String nombre = (String) getValueAt(selectedRow, 1);
-      String apellido = (String) getValueAt(selectedRow, 2);
-      String dni = (String) getValueAt(selectedRow, 3);
-
-      return new MedicoDTO(id, nombre, apellido, dni);
+      return tableModel.getMedicoAt(selectedRow);
     }
     return null;
   }
@@ -0,0 +1,502 @@
+package edu.up.ui.forms.medic;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
+
+import edu.up.controllers.dto.MedicoDTO;
+
+/**
+ * Modelo de tabla de médicos con almacenamiento por columnas en arreglos.
+ *
+ * A diferencia de DefaultTableModel no guarda un Vector de celdas por fila:
+ * cada columna es un arreglo y los IDs se guardan como long. Las cargas
+ * disparan un único evento por lote en lugar de uno por fila.
+ *
+ * Si hay más filas en el servidor, al pintar las últimas filas cargadas se
+ * avisa al listener de "cargar más" para traer la página siguiente.
+ *
+ * Los cambios puntuales (upsert, removeById, applySnapshot) disparan solo
+ * eventos de inserción, actualización o borrado de las filas afectadas,
+ * agrupados en rangos, así la tabla conserva la selección y el scroll.
+ *
+ * Al refrescar, la primera página se aplica sobre las filas cargadas sin
+ * descartar las que siguen: esas quedan como "viejas" y cada página
+ * siguiente reemplaza el tramo viejo que le corresponde. Las que no
+ * aparezcan en ninguna página se borran cuando llega la última.
+ */
+public class MedicTableModel extends AbstractTableModel {
+  private static final long serialVersionUID = 1L;
+
+  private static final String[] COLUMN_NAMES = { "ID", "Nombre", "Apellido", "DNI/Código" };
+  private static final Class<?>[] COLUMN_CLASSES = { Long.class, String.class, String.class, String.class };
+  private static final int INITIAL_CAPACITY = 64;
+  // Filas antes del final a partir de las cuales se pide la página siguiente
+  private static final int PREFETCH_MARGIN = 50;
+  // Con más rangos que estos, un único evento de datos cambiados es más barato
+  private static final int MAX_RANGE_EVENTS = 32;
+
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private String[] nombres = new String[INITIAL_CAPACITY];
+  private String[] apellidos = new String[INITIAL_CAPACITY];
+  private String[] dnis = new String[INITIAL_CAPACITY];
+  private int size;
+  // Filas [0, fresh) confirmadas por el último refresco; el resto son viejas
+  private int fresh;
+
+  // Mismo orden que los listados: apellido, nombre, id. Primaria ignora
+  // mayúsculas y acentos, como la intercalación utf8mb4_unicode_ci de la base.
+  private final transient Collator collator = newCollator();
+
+  private boolean hasMore;
+  private boolean loadMoreRequested;
+  private transient Runnable loadMoreListener;
+
+  @Override
+  public int getRowCount() {
+    return size;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return COLUMN_NAMES.length;
+  }
+
+  @Override
+  public String getColumnName(int column) {
+    return COLUMN_NAMES[column];
+  }
+
+  @Override
+  public Class<?> getColumnClass(int column) {
+    return COLUMN_CLASSES[column];
+  }
+
+  @Override
+  public boolean isCellEditable(int row, int column) {
+    return false; // Tabla no editable directamente
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    if (row >= fresh - PREFETCH_MARGIN) {
+      requestMore();
+    }
+    switch (column) {
+      case 0:
+        return ids[row];
+      case 1:
+        return nombres[row];
+      case 2:
+        return apellidos[row];
+      case 3:
+        return dnis[row];
+      default:
+        throw new IndexOutOfBoundsException("Columna inválida: " + column);
+    }
+  }
+
+  /**
+   * Devuelve la fila como DTO.
+   */
+  public MedicoDTO getMedicoAt(int row) {
+    return new MedicoDTO(ids[row], nombres[row], apellidos[row], dnis[row]);
+  }
+
+  /**
+   * Reemplaza todas las filas con un único evento.
+   */
+  public void setRows(List<MedicoDTO> medicos) {
+    size = 0;
+    ensureCapacity(medicos.size());
+    for (MedicoDTO medico : medicos) {
+      put(medico);
+    }
+    fresh = size;
+    fireTableDataChanged();
+  }
+
+  /**
+   * Agrega la página siguiente. Si quedan filas viejas de antes del último
+   * refresco, la página reemplaza el tramo viejo que cubre; si no, se agrega
+   * al final con un único evento de inserción.
+   */
+  public void appendRows(List<MedicoDTO> medicos) {
+    loadMoreRequested = false;
+    if (fresh < size) {
+      merge(fresh, medicos);
+      return;
+    }
+    if (medicos.isEmpty()) {
+      return;
+    }
+    int first = size;
+    ensureCapacity(size + medicos.size());
+    for (MedicoDTO medico : medicos) {
+      put(medico);
+    }
+    fresh = size;
+    fireTableRowsInserted(first, size - 1);
+  }
+
+  /**
+   * Aplica una nueva versión de la primera página comparando por ID. Las
+   * filas cargadas hasta el último médico de la instantánea se reemplazan
+   * por ella (borrando, actualizando o insertando solo lo que cambió); las
+   * cargadas más allá se conservan hasta que lleguen sus páginas.
+   *
+   * @param medicos nueva instantánea, en el mismo orden que la tabla
+   */
+  public void applySnapshot(List<MedicoDTO> medicos) {
+    merge(0, medicos);
+  }
+
+  /**
+   * Reemplaza por medicos las filas desde la posición indicada hasta la
+   * última que ordena antes que el último de medicos. En O(n): un pase de
+   * borrado y uno de inserción/actualización, con un evento por rango.
+   */
+  private void merge(int desde, List<MedicoDTO> medicos) {
+    Map<Long, Integer> posiciones = new HashMap<>(medicos.size() * 2);
+    for (int i = 0; i < medicos.size(); i++) {
+      posiciones.put(idOf(medicos.get(i)), i);
+    }
+    int hasta = desde;
+    if (!medicos.isEmpty()) {
+      MedicoDTO ultimo = medicos.get(medicos.size() - 1);
+      while (hasta < size && compareRows(hasta, ultimo) <= 0) {
+        hasta++;
+      }
+    }
+
+    // Borrado: filas del tramo que ya no están, filas que cambiaron de
+    // orden (se reinsertan en su lugar) y filas viejas posteriores que
+    // aparecen en la página (se movieron dentro de ella)
+    boolean[] existia = new boolean[medicos.size()];
+    boolean[] igual = new boolean[medicos.size()];
+    List<int[]> borrados = new ArrayList<>();
+    int destino = desde;
+    int ultimaPosicion = -1;
+    for (int row = desde; row < size; row++) {
+      Integer posicion = posiciones.get(ids[row]);
+      boolean conservar;
+      if (row < hasta) {
+        conservar = posicion != null && posicion > ultimaPosicion;
+        if (conservar) {
+          ultimaPosicion = posicion;
+          existia[posicion] = true;
+          igual[posicion] = sameContent(row, medicos.get(posicion));
+        }
+      } else {
+        conservar = posicion == null;
+      }
+      if (conservar) {
+        move(row, destino++);
+      } else {
+        addRange(borrados, row);
+      }
+    }
+    int borradas = size - destino;
+    Arrays.fill(nombres, destino, size, null);
+    Arrays.fill(apellidos, destino, size, null);
+    Arrays.fill(dnis, destino, size, null);
+    size = destino;
+    if (borradas > 0) {
+      fresh = Math.min(fresh, size);
+    }
+    boolean datosCambiados = borrados.size() > MAX_RANGE_EVENTS;
+    if (!datosCambiados) {
+      // De atrás hacia adelante: los índices de cada rango siguen valiendo
+      for (int i = borrados.size() - 1; i >= 0; i--) {
+        fireTableRowsDeleted(borrados.get(i)[0], borrados.get(i)[1]);
+      }
+    }
+
+    // Inserción y actualización: el tramo conservado pasa a ser medicos
+    int conservadas = 0;
+    for (boolean e : existia) {
+      conservadas += e ? 1 : 0;
+    }
+    int insertadas = medicos.size() - conservadas;
+    ensureCapacity(size + insertadas);
+    int finTramo = desde + conservadas;
+    int mover = size - finTramo;
+    System.arraycopy(ids, finTramo, ids, finTramo + insertadas, mover);
+    System.arraycopy(nombres, finTramo, nombres, finTramo + insertadas, mover);
+    System.arraycopy(apellidos, finTramo, apellidos, finTramo + insertadas, mover);
+    System.arraycopy(dnis, finTramo, dnis, finTramo + insertadas, mover);
+    List<int[]> insertados = new ArrayList<>();
+    List<int[]> actualizados = new ArrayList<>();
+    for (int i = 0; i < medicos.size(); i++) {
+      set(desde + i, medicos.get(i));
+      if (!existia[i]) {
+        addRange(insertados, desde + i);
+      } else if (!igual[i]) {
+        addRange(actualizados, desde + i);
+      }
+    }
+    size += insertadas;
+    fresh = desde + medicos.size();
+
+    if (datosCambiados || insertados.size() + actualizados.size() > MAX_RANGE_EVENTS) {
+      fireTableDataChanged();
+      return;
+    }
+    // En orden ascendente: cada rango ya cuenta con los insertados antes
+    for (int[] rango : insertados) {
+      fireTableRowsInserted(rango[0], rango[1]);
+    }
+    for (int[] rango : actualizados) {
+      fireTableRowsUpdated(rango[0], rango[1]);
+    }
+  }
+
+  /**
+   * Agrega la fila al último rango si es contigua, o empieza uno nuevo.
+   */
+  private static void addRange(List<int[]> rangos, int row) {
+    if (!rangos.isEmpty()) {
+      int[] ultimo = rangos.get(rangos.size() - 1);
+      if (ultimo[1] == row - 1) {
+        ultimo[1] = row;
+        return;
+      }
+    }
+    rangos.add(new int[] { row, row });
+  }
+
+  /**
+   * Inserta o actualiza un médico en su posición ordenada.
+   * Si ordena después de la última fila cargada y quedan páginas por
+   * traer, no se agrega: llegará con la página correspondiente.
+   *
+   * @return fila donde quedó el médico, o -1 si no se agregó
+   */
+  public int upsert(MedicoDTO medico) {
+    long id = idOf(medico);
+    int actual = indexOf(id, 0);
+    if (actual >= 0) {
+      boolean enOrden = (actual == 0 || compareRows(actual - 1, medico) < 0)
+          && (actual == size - 1 || compareRows(actual + 1, medico) > 0);
+      if (enOrden) {
+        set(actual, medico);
+        fireTableRowsUpdated(actual, actual);
+        return actual;
+      }
+      removeRow(actual);
+    }
+
+    int destino = insertionPoint(medico);
+    if (destino == size && hasMore) {
+      return -1;
+    }
+    insertRow(destino, medico);
+    return destino;
+  }
+
+  /**
+   * Quita un médico de la tabla.
+   *
+   * @return true si estaba cargado
+   */
+  public boolean removeById(long id) {
+    int row = indexOf(id, 0);
+    if (row < 0) {
+      return false;
+    }
+    removeRow(row);
+    return true;
+  }
+
+  /**
+   * Fila de un médico cargado, o -1 si no está.
+   */
+  public int indexOf(long id) {
+    return indexOf(id, 0);
+  }
+
+  public void clear() {
+    size = 0;
+    fresh = 0;
+    hasMore = false;
+    loadMoreRequested = false;
+    // Liberar los arreglos si crecieron mucho
+    if (ids.length > INITIAL_CAPACITY) {
+      ids = new long[INITIAL_CAPACITY];
+      nombres = new String[INITIAL_CAPACITY];
+      apellidos = new String[INITIAL_CAPACITY];
+      dnis = new String[INITIAL_CAPACITY];
+    } else {
+      Arrays.fill(nombres, null);
+      Arrays.fill(apellidos, null);
+      Arrays.fill(dnis, null);
+    }
+    fireTableDataChanged();
+  }
+
+  /**
+   * Indica si el servidor tiene más filas después de las cargadas.
+   */
+  public void setHasMore(boolean hasMore) {
+    this.hasMore = hasMore;
+    this.loadMoreRequested = false;
+    // Llegó la última página: las filas viejas que quedan ya no existen
+    if (!hasMore && fresh < size) {
+      int first = fresh;
+      int last = size - 1;
+      Arrays.fill(nombres, fresh, size, null);
+      Arrays.fill(apellidos, fresh, size, null);
+      Arrays.fill(dnis, fresh, size, null);
+      size = fresh;
+      fireTableRowsDeleted(first, last);
+    }
+  }
+
+  public boolean hasMore() {
+    return hasMore;
+  }
+
+  /**
+   * Listener que se invoca (en el EDT) cuando se necesita la página siguiente.
+   */
+  public void setLoadMoreListener(Runnable loadMoreListener) {
+    this.loadMoreListener = loadMoreListener;
+  }
+
+  private void requestMore() {
+    if (!hasMore || loadMoreRequested || loadMoreListener == null) {
+      return;
+    }
+    loadMoreRequested = true;
+    // Se difiere para no modificar el modelo mientras la tabla se pinta
+    SwingUtilities.invokeLater(loadMoreListener);
+  }
+
+  private void put(MedicoDTO medico) {
+    set(size, medico);
+    size++;
+  }
+
+  private void set(int row, MedicoDTO medico) {
+    ids[row] = idOf(medico);
+    nombres[row] = medico.getNombre();
+    apellidos[row] = medico.getApellido();
+    dnis[row] = medico.getDni();
+  }
+
+  private void move(int from, int to) {
+    if (from != to) {
+      ids[to] = ids[from];
+      nombres[to] = nombres[from];
+      apellidos[to] = apellidos[from];
+      dnis[to] = dnis[from];
+    }
+  }
+
+  private void insertRow(int row, MedicoDTO medico) {
+    if (row < fresh || fresh == size) {
+      fresh++;
+    }
+    ensureCapacity(size + 1);
+    int mover = size - row;
+    System.arraycopy(ids, row, ids, row + 1, mover);
+    System.arraycopy(nombres, row, nombres, row + 1, mover);
+    System.arraycopy(apellidos, row, apellidos, row + 1, mover);
+    System.arraycopy(dnis, row, dnis, row + 1, mover);
+    set(row, medico);
+    size++;
+    fireTableRowsInserted(row, row);
+  }
+
+  private void removeRow(int row) {
+    if (row < fresh) {
+      fresh--;
+    }
+    int mover = size - row - 1;
+    System.arraycopy(ids, row + 1, ids, row, mover);
+    System.arraycopy(nombres, row + 1, nombres, row, mover);
+    System.arraycopy(apellidos, row + 1, apellidos, row, mover);
+    System.arraycopy(dnis, row + 1, dnis, row, mover);
+    size--;
+    nombres[size] = null;
+    apellidos[size] = null;
+    dnis[size] = null;
+    fireTableRowsDeleted(row, row);
+  }
+
+  private int indexOf(long id, int desde) {
+    for (int row = desde; row < size; row++) {
+      if (ids[row] == id) {
+        return row;
+      }
+    }
+    return -1;
+  }
+
+  private boolean sameContent(int row, MedicoDTO medico) {
+    return Objects.equals(nombres[row], medico.getNombre())
+        && Objects.equals(apellidos[row], medico.getApellido())
+        && Objects.equals(dnis[row], medico.getDni());
+  }
+
+  /**
+   * Búsqueda binaria de la posición ordenada de un médico.
+   */
+  private int insertionPoint(MedicoDTO medico) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (compareRows(mid, medico) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Compara la fila indicada contra un médico con el orden del listado.
+   */
+  private int compareRows(int row, MedicoDTO medico) {
+    int cmp = compareText(apellidos[row], medico.getApellido());
+    if (cmp == 0) {
+      cmp = compareText(nombres[row], medico.getNombre());
+    }
+    return cmp != 0 ? cmp : Long.compare(ids[row], idOf(medico));
+  }
+
+  private int compareText(String a, String b) {
+    return collator.compare(a == null ? "" : a, b == null ? "" : b);
+  }
+
+  private static long idOf(MedicoDTO medico) {
+    return medico.getId() != null ? medico.getId() : 0L;
+  }
+
+  private static Collator newCollator() {
+    Collator collator = Collator.getInstance(Locale.forLanguageTag("es"));
+    collator.setStrength(Collator.PRIMARY);
+    return collator;
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= ids.length) {
+      return;
+    }
+    int capacity = Math.max(required, ids.length + (ids.length >> 1));
+    ids = Arrays.copyOf(ids, capacity);
+    nombres = Arrays.copyOf(nombres, capacity);
+    apellidos = Arrays.copyOf(apellidos, capacity);
+    dnis = Arrays.copyOf(dnis, capacity);
+  }
+}
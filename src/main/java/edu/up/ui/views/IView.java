@@ -53,6 +53,22 @@ public interface IView {
     return getSubViews() != null && getSubViews().length > 0;
   }
 
+  /**
+   * Se invoca (en el EDT) cada vez que la vista pasa a mostrarse.
+   * Las vistas que cargan datos deberían hacerlo aquí y no en el constructor.
+   */
+  default void onShow() {
+    // Implementación por defecto vacía
+  }
+
+  /**
+   * Se invoca (en el EDT) cuando se navega a otra vista, por ejemplo para
+   * cancelar cargas en curso.
+   */
+  default void onHide() {
+    // Implementación por defecto vacía
+  }
+
   /**
    * Agrega una vista como submenú de esta vista
    * Solo implementado en vistas que actúan como contenedores de menú
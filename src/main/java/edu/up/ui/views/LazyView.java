@@ -0,0 +1,108 @@
+package edu.up.ui.views;
+
+import java.awt.BorderLayout;
+import java.util.function.Supplier;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import edu.up.utils.Logger;
+import edu.up.utils.metrics.MetricsRegistry;
+
+/**
+ * Envoltorio que difiere la construcción de una vista hasta que se la
+ * necesita por primera vez.
+ *
+ * Nombre y título se conocen de antemano para armar el menú; getPanel()
+ * devuelve un contenedor vacío que se completa con el panel real al primer
+ * onShow() o al precargarla con prefetch(). Toda la construcción ocurre en
+ * el EDT y se registra cuánto tardó.
+ */
+public class LazyView implements IView {
+  private final String name;
+  private final String menuTitle;
+  private final Supplier<? extends IView> factory;
+  private final JPanel container;
+  private IView view;
+
+  /**
+   * @param name      nombre de la vista (el mismo que devolverá la vista real)
+   * @param menuTitle título del menú
+   * @param factory   construye la vista real; se invoca una sola vez
+   */
+  public LazyView(String name, String menuTitle, Supplier<? extends IView> factory) {
+    this.name = name;
+    this.menuTitle = menuTitle;
+    this.factory = factory;
+    this.container = new JPanel(new BorderLayout());
+  }
+
+  /**
+   * Construye la vista si todavía no existe, sin mostrarla.
+   * Pensado para precargar en momentos ociosos las vistas que el usuario
+   * probablemente abra después.
+   */
+  public void prefetch() {
+    if (view == null) {
+      build("precarga");
+    }
+  }
+
+  public boolean isBuilt() {
+    return view != null;
+  }
+
+  @Override
+  public JPanel getPanel() {
+    return container;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getMenuTitle() {
+    return menuTitle;
+  }
+
+  @Override
+  public boolean hasPermission() {
+    // Sin construir no hay a quién preguntar; las vistas actuales siempre permiten
+    return view == null || view.hasPermission();
+  }
+
+  @Override
+  public IView[] getSubViews() {
+    return null; // Las vistas diferidas no tienen submenús
+  }
+
+  @Override
+  public void onShow() {
+    if (view == null) {
+      build("primera navegación");
+    }
+    view.onShow();
+  }
+
+  @Override
+  public void onHide() {
+    if (view != null) {
+      view.onHide();
+    }
+  }
+
+  private void build(String motivo) {
+    if (!SwingUtilities.isEventDispatchThread()) {
+      throw new IllegalStateException("Las vistas deben construirse en el EDT");
+    }
+    long inicio = System.nanoTime();
+    view = factory.get();
+    container.add(view.getPanel(), BorderLayout.CENTER);
+    container.revalidate();
+    long duracion = System.nanoTime() - inicio;
+    MetricsRegistry.getInstance().timer("ui.vista." + name + ".construir").record(duracion);
+    Logger.info("LazyView", "Vista " + name + " construida (" + motivo + ") en " + duracion / 1_000_000L + " ms");
+  }
+}
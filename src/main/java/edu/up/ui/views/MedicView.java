@@ -3,6 +3,9 @@ package edu.up.ui.views;
 import java.awt.BorderLayout;
 import java.awt.Font;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
@@ -13,30 +16,41 @@ import edu.up.controllers.MedicController;
 import edu.up.controllers.dto.MedicoDTO;
 import edu.up.ui.forms.medic.MedicForm;
 import edu.up.ui.forms.medic.MedicListForm;
+import edu.up.ui.workers.PagedLoader;
+import edu.up.ui.workers.UiTask;
 
 /**
  * Vista para el CRUD de médicos del turnero.
  * Actúa como coordinador entre los formularios y la lógica de negocio.
  * Usa DTOs para separar la vista del modelo.
+ * Todas las llamadas al controlador se ejecutan fuera del EDT y la lista
+ * se carga recién cuando la vista se muestra.
  */
 public class MedicView implements IView {
-  private static final String NAME = "MEDIC";
-  private static final String TITLE = "Médicos";
+  public static final String NAME = "MEDIC";
+  public static final String TITLE = "Médicos";
+  // Médicos por página al cargar la lista
+  private static final int PAGE_SIZE = 200;
   private final JPanel panel;
   private final MedicController medicController;
   private final MedicForm medicForm;
   private final MedicListForm medicListForm;
   private MedicoDTO selectedMedico = null;
 
+  // Carga paginada de la lista; se cancela al refrescar o al salir de la vista
+  private final PagedLoader<MedicoDTO> medicosLoader;
+  private long totalMedicos = -1;
+
   public MedicView(MedicController medicController) {
     this.medicController = medicController;
     this.panel = new JPanel(new BorderLayout());
     this.medicForm = new MedicForm();
     this.medicListForm = new MedicListForm();
+    this.medicosLoader = new PagedLoader<>(medicController::obtenerPaginaMedicos, PAGE_SIZE,
+        new MedicosPageListener());
 
     initializeUI();
     setupEventListeners();
-    loadMedicos();
   }
 
   private void initializeUI() {
@@ -77,6 +91,22 @@ public class MedicView implements IView {
       }
     });
     medicListForm.setRefrescarListener(e -> loadMedicos());
+    medicListForm.setCargarMasListener(this::cargarMasMedicos);
+  }
+
+  @Override
+  public void onShow() {
+    // Cargar la lista la primera vez o retomar la carga cancelada al salir
+    if (!medicosLoader.isLoaded()) {
+      loadMedicos();
+    } else {
+      cargarMasMedicos();
+    }
+  }
+
+  @Override
+  public void onHide() {
+    cancelarCarga();
   }
 
   private void guardarMedico() {
@@ -99,20 +129,17 @@ public class MedicView implements IView {
       medico.setId(selectedMedico.getId());
     }
 
-    // Delegar la operación al controlador
-    MedicController.OperationResult resultado = medicController.guardarMedico(medico);
-
-    if (resultado.isExitoso()) {
-      JOptionPane.showMessageDialog(panel,
-          resultado.getMensaje(),
-          "Éxito", JOptionPane.INFORMATION_MESSAGE);
-      limpiarFormulario();
-      loadMedicos();
-    } else {
-      JOptionPane.showMessageDialog(panel,
-          resultado.getMensaje(),
-          "Error", JOptionPane.ERROR_MESSAGE);
-    }
+    // Delegar la operación al controlador en segundo plano y ubicar en la
+    // tabla el médico tal como quedó guardado
+    boolean esNuevo = medico.getId() == null;
+    ejecutarOperacion("Guardando médico...", () -> medicController.guardarMedico(medico), resultado -> {
+      if (resultado.getMedico() != null) {
+        medicListForm.actualizarMedicoDTO(resultado.getMedico());
+        if (esNuevo && totalMedicos >= 0) {
+          totalMedicos++;
+        }
+      }
+    });
   }
 
   private void eliminarMedico() {
@@ -130,20 +157,49 @@ public class MedicView implements IView {
 
     if (confirmResult == JOptionPane.YES_OPTION) {
       Long id = (Long) medicListForm.getValueAt(selectedRow, 0);
-      MedicController.OperationResult resultado = medicController.eliminarMedico(id);
+      ejecutarOperacion("Eliminando médico...", () -> medicController.eliminarMedico(id), resultado -> {
+        medicListForm.quitarMedico(id);
+        if (totalMedicos > 0) {
+          totalMedicos--;
+        }
+      });
+    }
+  }
+
+  /**
+   * Ejecuta una operación de escritura fuera del EDT con los botones
+   * deshabilitados y, si tuvo éxito, aplica el cambio en la tabla sin
+   * recargar la lista.
+   *
+   * @param alTerminar actualiza la tabla con el resultado exitoso
+   */
+  private void ejecutarOperacion(String mensaje, Callable<MedicController.OperationResult> operacion,
+      Consumer<MedicController.OperationResult> alTerminar) {
+    medicForm.setAccionesHabilitadas(false);
+    medicListForm.setCargando(true, mensaje);
 
+    UiTask.run(operacion, resultado -> {
+      medicForm.setAccionesHabilitadas(true);
       if (resultado.isExitoso()) {
+        alTerminar.accept(resultado);
+        medicListForm.setCargando(false, estadoLista());
         JOptionPane.showMessageDialog(panel,
             resultado.getMensaje(),
             "Éxito", JOptionPane.INFORMATION_MESSAGE);
         limpiarFormulario();
-        loadMedicos();
       } else {
+        medicListForm.setCargando(false, estadoLista());
         JOptionPane.showMessageDialog(panel,
             resultado.getMensaje(),
             "Error", JOptionPane.ERROR_MESSAGE);
       }
-    }
+    }, error -> {
+      medicForm.setAccionesHabilitadas(true);
+      medicListForm.setCargando(false, estadoLista());
+      JOptionPane.showMessageDialog(panel,
+          "Error inesperado: " + error.getMessage(),
+          "Error", JOptionPane.ERROR_MESSAGE);
+    });
   }
 
   private void cargarMedicoEnFormulario() {
@@ -157,15 +213,57 @@ public class MedicView implements IView {
     medicListForm.clearSelection();
   }
 
+  /**
+   * Recarga la lista desde la primera página. Las páginas siguientes se
+   * piden a medida que el usuario se acerca al final de la tabla.
+   * Las filas actuales quedan visibles hasta que llega la primera página,
+   * que se aplica como diferencia sobre ellas.
+   */
   private void loadMedicos() {
-    try {
-      // Cargar médicos usando el controlador
-      List<MedicoDTO> medicos = medicController.obtenerTodosMedicos();
-      medicListForm.cargarMedicosDTO(medicos);
-    } catch (Exception e) {
-      medicListForm.limpiarTabla();
+    medicListForm.setCargando(true, "Cargando médicos...");
+    medicosLoader.reload();
+  }
+
+  private void cargarMasMedicos() {
+    if (medicosLoader.hasMore() && !medicosLoader.isLoading()) {
+      medicListForm.setCargando(true, "Cargando más médicos...");
+      medicosLoader.loadMore();
+    }
+  }
+
+  private void cancelarCarga() {
+    if (medicosLoader.isLoading()) {
+      medicosLoader.cancel();
+      medicListForm.setCargando(false, estadoLista());
+    }
+  }
+
+  private String estadoLista() {
+    int cargados = medicListForm.getTable().getModel().getRowCount();
+    return totalMedicos >= 0 ? cargados + " de " + totalMedicos + " médicos" : cargados + " médicos";
+  }
+
+  /**
+   * Recibe las páginas del loader (en el EDT) y las vuelca en la tabla.
+   */
+  private class MedicosPageListener implements PagedLoader.Listener<MedicoDTO> {
+    @Override
+    public void onPage(List<MedicoDTO> items, boolean first, boolean hasMore, OptionalLong total) {
+      if (first) {
+        totalMedicos = total.orElse(-1);
+        medicListForm.actualizarMedicosDTO(items);
+      } else {
+        medicListForm.agregarMedicosDTO(items);
+      }
+      medicListForm.setHayMas(hasMore);
+      medicListForm.setCargando(false, estadoLista());
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      medicListForm.setCargando(false, estadoLista());
       JOptionPane.showMessageDialog(panel,
-          "Error al cargar médicos: " + e.getMessage(),
+          "Error al cargar médicos: " + error.getMessage(),
           "Error", JOptionPane.ERROR_MESSAGE);
     }
   }
@@ -0,0 +1,134 @@
+package edu.up.ui.workers;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import edu.up.controllers.dao.Page;
+import edu.up.controllers.dao.PageCursor;
+import edu.up.utils.Logger;
+
+/**
+ * Carga un listado paginado bajo demanda y fuera del EDT.
+ *
+ * reload() pide la primera página (con el total) y loadMore() la siguiente,
+ * normalmente cuando el usuario se acerca al final de la tabla. Solo hay una
+ * página en vuelo a la vez. Al recargar o cancelar, la página en vuelo se
+ * descarta para que una carga vieja nunca se mezcle con una nueva.
+ *
+ * Todos los métodos y callbacks se ejecutan en el EDT.
+ *
+ * @param <T> tipo de las filas
+ */
+public final class PagedLoader<T> {
+
+  /**
+   * Fuente de páginas, normalmente un método del controlador.
+   */
+  @FunctionalInterface
+  public interface PageSource<T> {
+    Page<T> fetch(PageCursor after, int pageSize, boolean includeTotal);
+  }
+
+  /**
+   * Recibe las páginas cargadas.
+   */
+  public interface Listener<T> {
+    /**
+     * @param items   filas de la página
+     * @param first   true si es la primera página de una recarga
+     * @param hasMore true si quedan páginas por pedir
+     * @param total   total de filas, informado solo con la primera página
+     */
+    void onPage(List<T> items, boolean first, boolean hasMore, OptionalLong total);
+
+    void onError(Throwable error);
+  }
+
+  private final PageSource<T> source;
+  private final int pageSize;
+  private final Listener<T> listener;
+
+  private UiTask<Page<T>> inFlight;
+  // Identifica la petición vigente; las respuestas de otras se descartan
+  private int generation;
+  private PageCursor cursor;
+  private boolean hasMore;
+  private boolean loaded;
+
+  public PagedLoader(PageSource<T> source, int pageSize, Listener<T> listener) {
+    this.source = source;
+    this.pageSize = pageSize;
+    this.listener = listener;
+  }
+
+  /**
+   * Descarta lo cargado y pide la primera página.
+   */
+  public void reload() {
+    cancel();
+    cursor = null;
+    hasMore = false;
+    loaded = false;
+    fetch(true);
+  }
+
+  /**
+   * Pide la página siguiente si hay más y no hay otra en vuelo.
+   */
+  public void loadMore() {
+    if (hasMore && inFlight == null) {
+      fetch(false);
+    }
+  }
+
+  /**
+   * Cancela la página en vuelo, si la hay.
+   */
+  public void cancel() {
+    generation++;
+    if (inFlight != null) {
+      inFlight.cancel(false);
+      inFlight = null;
+      Logger.info("PagedLoader", "Carga de página cancelada");
+    }
+  }
+
+  public boolean hasMore() {
+    return hasMore;
+  }
+
+  public boolean isLoading() {
+    return inFlight != null;
+  }
+
+  /**
+   * true si ya llegó al menos la primera página desde el último reload().
+   */
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  private void fetch(boolean first) {
+    PageCursor after = cursor;
+    int requestGeneration = ++generation;
+    inFlight = UiTask.run(
+        () -> source.fetch(after, pageSize, first),
+        page -> {
+          if (requestGeneration != generation) {
+            return;
+          }
+          inFlight = null;
+          loaded = true;
+          cursor = page.getNextCursor();
+          hasMore = page.hasNext();
+          listener.onPage(page.getItems(), first, hasMore, page.getTotalCount());
+        },
+        error -> {
+          if (requestGeneration != generation) {
+            return;
+          }
+          inFlight = null;
+          listener.onError(error);
+        });
+  }
+}
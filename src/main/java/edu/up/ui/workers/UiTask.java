@@ -0,0 +1,63 @@
+package edu.up.ui.workers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import javax.swing.SwingWorker;
+
+import edu.up.utils.Logger;
+
+/**
+ * Ejecuta una llamada al controlador fuera del Event Dispatch Thread y
+ * entrega el resultado (o el error) de vuelta en el EDT.
+ * Si la tarea se cancela antes de terminar, no se invoca ningún callback.
+ *
+ * @param <T> tipo del resultado
+ */
+public final class UiTask<T> extends SwingWorker<T, Void> {
+  private final Callable<T> action;
+  private final Consumer<T> onSuccess;
+  private final Consumer<Throwable> onError;
+
+  private UiTask(Callable<T> action, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+    this.action = action;
+    this.onSuccess = onSuccess;
+    this.onError = onError;
+  }
+
+  /**
+   * Crea y arranca la tarea.
+   *
+   * @param action    trabajo a ejecutar en segundo plano
+   * @param onSuccess recibe el resultado en el EDT
+   * @param onError   recibe el error en el EDT
+   * @return la tarea en ejecución, para poder cancelarla
+   */
+  public static <T> UiTask<T> run(Callable<T> action, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+    UiTask<T> task = new UiTask<>(action, onSuccess, onError);
+    task.execute();
+    return task;
+  }
+
+  @Override
+  protected T doInBackground() throws Exception {
+    return action.call();
+  }
+
+  @Override
+  protected void done() {
+    if (isCancelled()) {
+      return;
+    }
+    try {
+      onSuccess.accept(get());
+    } catch (ExecutionException e) {
+      Logger.error("UiTask", "Error en tarea en segundo plano", e.getCause());
+      onError.accept(e.getCause());
+    } catch (InterruptedException | CancellationException e) {
+      // Cancelada mientras terminaba: se descarta el resultado
+    }
+  }
+}
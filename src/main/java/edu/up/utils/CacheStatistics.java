@@ -0,0 +1,61 @@
+package edu.up.utils;
+
+/**
+ * Instantánea inmutable de las estadísticas de una caché.
+ */
+public class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final int size;
+
+    public CacheStatistics(long hits, long misses, long evictions, long expirations, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.size = size;
+    }
+
+    /**
+     * Suma las estadísticas de dos cachés.
+     */
+    public CacheStatistics plus(CacheStatistics otra) {
+        return new CacheStatistics(hits + otra.hits, misses + otra.misses,
+                evictions + otra.evictions, expirations + otra.expirations, size + otra.size);
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /** Entradas descartadas por superar el tamaño máximo. */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** Entradas descartadas por vencer su tiempo de vida. */
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Caché: %d entradas, aciertos=%d, fallos=%d (%.1f%%), desalojos=%d, expiradas=%d",
+                size, hits, misses, getHitRate() * 100, evictions, expirations);
+    }
+}
@@ -1,45 +1,27 @@
 package edu.up.utils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
+import edu.up.controllers.infrastructure.Configuration;
 
 /**
- * Gestor de configuración para cargar propiedades desde application.properties
+ * Acceso a las propiedades de application.properties.
+ * Delega en Configuration, que carga el archivo una sola vez y mantiene la
+ * versión vigente; aquí no se guarda ningún estado propio.
  */
 public class ConfigurationManager {
-    private static final String CONFIG_FILE = "application.properties";
-    private static Properties properties;
-    
-    static {
-        loadProperties();
-    }
-    
-    private static void loadProperties() {
-        properties = new Properties();
-        try (InputStream inputStream = ConfigurationManager.class.getClassLoader()
-                .getResourceAsStream(CONFIG_FILE)) {
-            
-            if (inputStream != null) {
-                properties.load(inputStream);
-                Logger.info("ConfigurationManager", "Propiedades cargadas exitosamente");
-            } else {
-                Logger.error("ConfigurationManager", "No se pudo encontrar el archivo " + CONFIG_FILE, null);
-            }
-        } catch (IOException e) {
-            Logger.error("ConfigurationManager", "Error al cargar propiedades", e);
-        }
+
+    private ConfigurationManager() {
+        throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
     }
-    
+
     /**
      * Obtiene el valor de una propiedad
      * @param key Clave de la propiedad
      * @return Valor de la propiedad o null si no existe
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return Configuration.current().getString(key);
     }
-    
+
     /**
      * Obtiene el valor de una propiedad con un valor por defecto
      * @param key Clave de la propiedad
@@ -47,27 +29,27 @@ public class ConfigurationManager {
      * @return Valor de la propiedad o valor por defecto
      */
     public static String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return Configuration.current().getString(key, defaultValue);
     }
-    
+
     // Propiedades específicas para fácil acceso
     public static String getDbUser() {
-        return getProperty("db.user", "root");
+        return Configuration.current().getDbUser();
     }
-    
+
     public static String getDbPassword() {
-        return getProperty("db.password", "");
+        return Configuration.current().getDbPassword();
     }
-    
+
     public static String getDbUrl() {
-        return getProperty("db.url", "jdbc:mysql://localhost:3306/turnero_medico");
+        return Configuration.current().getDbUrl();
     }
-    
+
     public static String getAdminUser() {
-        return getProperty("admin.user", "admin");
+        return Configuration.current().getAdminUser();
     }
-    
+
     public static String getAdminPassword() {
-        return getProperty("admin.password", "admin");
+        return Configuration.current().getAdminPassword();
     }
-} 
\ No newline at end of file
+}
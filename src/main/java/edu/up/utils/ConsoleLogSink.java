@@ -0,0 +1,29 @@
+package edu.up.utils;
+
+import java.io.PrintWriter;
+
+/**
+ * Salida por consola, con un flush por lote de mensajes.
+ */
+class ConsoleLogSink implements LogSink {
+  private final PrintWriter out;
+
+  ConsoleLogSink(PrintWriter out) {
+    this.out = out;
+  }
+
+  @Override
+  public void write(CharSequence line) {
+    out.append(line).println();
+  }
+
+  @Override
+  public void endBatch() {
+    out.flush();
+  }
+
+  @Override
+  public void close() {
+    out.flush();
+  }
+}
@@ -0,0 +1,168 @@
+package edu.up.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores no negativos (latencias en nanosegundos, filas,
+ * etc.) que se puede registrar desde muchos hilos sin locks.
+ *
+ * Usa cubetas log-lineales: cada potencia de dos se divide en 32 cubetas
+ * iguales, así que los percentiles tienen un error relativo menor al 3% en
+ * cualquier escala, con un arreglo fijo de contadores atómicos. record()
+ * es un incremento atómico más un par de actualizaciones de LongAdder; el
+ * máximo se guarda exacto.
+ *
+ * Las lecturas recorren los contadores sin detener las escrituras: con
+ * registros concurrentes el resultado es aproximado, lo que alcanza para
+ * monitoreo.
+ */
+public final class Histogram {
+  private static final int SUB_BITS = 5;
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+  private static final int SUB_MASK = SUB_COUNT - 1;
+  private static final int BUCKETS = (64 - SUB_BITS + 1) << SUB_BITS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Registra un valor; los negativos cuentan como cero.
+   */
+  public void record(long value) {
+    long v = Math.max(0L, value);
+    counts.incrementAndGet(indexOf(v));
+    count.increment();
+    sum.add(v);
+    if (v > max.get()) {
+      max.accumulateAndGet(v, Math::max);
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public double getMean() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * Valor por debajo del cual cae el porcentaje pedido de los registros.
+   *
+   * @param percentile entre 0 y 100
+   * @return el punto medio de la cubeta correspondiente, o 0 si está vacío
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    double p = Math.min(100.0, Math.max(0.0, percentile));
+    long objetivo = Math.max(1L, (long) Math.ceil(p / 100.0 * total));
+    long acumulado = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      acumulado += snapshot[i];
+      if (acumulado >= objetivo) {
+        return Math.min(max.get(), medio(i));
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Instantánea de los valores habituales, para informes y exportación.
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(getCount(), getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+        getValueAtPercentile(99), getValueAtPercentile(99.9), getMax());
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_COUNT) {
+      return (int) value;
+    }
+    int exponente = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponente - SUB_BITS)) & SUB_MASK;
+    return ((exponente - SUB_BITS + 1) << SUB_BITS) + sub;
+  }
+
+  private static long medio(int index) {
+    if (index < SUB_COUNT) {
+      return index;
+    }
+    int bloque = index >>> SUB_BITS;
+    int sub = index & SUB_MASK;
+    int desplazamiento = bloque - 1;
+    long inferior = ((long) (SUB_COUNT | sub)) << desplazamiento;
+    return inferior + ((1L << desplazamiento) >>> 1);
+  }
+
+  /**
+   * Valores de un histograma en un instante.
+   */
+  public static final class Snapshot {
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    Snapshot(long count, double mean, long p50, long p90, long p99, long p999, long max) {
+      this.count = count;
+      this.mean = mean;
+      this.p50 = p50;
+      this.p90 = p90;
+      this.p99 = p99;
+      this.p999 = p999;
+      this.max = max;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getMean() {
+      return mean;
+    }
+
+    public long getP50() {
+      return p50;
+    }
+
+    public long getP90() {
+      return p90;
+    }
+
+    public long getP99() {
+      return p99;
+    }
+
+    public long getP999() {
+      return p999;
+    }
+
+    public long getMax() {
+      return max;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package edu.up.utils;
+
+/**
+ * Destino de las líneas de log. Lo usa únicamente el hilo escritor del
+ * Logger, salvo close(), que puede llamarse desde el hook de cierre.
+ */
+interface LogSink {
+
+  /**
+   * Escribe una línea (sin el salto de línea final).
+   */
+  void write(CharSequence line);
+
+  /**
+   * Se invoca al terminar cada lote de mensajes, por ejemplo para hacer flush.
+   */
+  void endBatch();
+
+  /**
+   * Se invoca periódicamente cuando no llegan mensajes.
+   */
+  default void idle() {
+    // Implementación por defecto vacía
+  }
+
+  /**
+   * Vuelca lo pendiente y libera los recursos.
+   */
+  void close();
+}
@@ -1,19 +1,103 @@
 package edu.up.utils;
 
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Logger simple para la aplicación que muestra mensajes en consola
  * con formato de fecha/hora y nivel de log.
  * Configurado para manejar correctamente caracteres UTF-8 en Windows.
+ *
+ * La escritura es asíncrona: quien loguea solo copia nivel, clase, mensaje y
+ * hora en un buffer circular preasignado, y un hilo de fondo formatea y
+ * escribe los mensajes por lotes con un único flush por lote. El prefijo de
+ * fecha se formatea una vez por segundo.
+ *
+ * Si el buffer se llena se aplica la política logger.overflowPolicy:
+ * BLOCK espera lugar, DROP descarta el mensaje y SAMPLE, a partir de 3/4 de
+ * ocupación, deja pasar uno de cada logger.sampleRate mensajes. Los errores
+ * siempre esperan lugar. Los descartes se informan en la salida.
+ *
+ * Las líneas van a la consola (logger.console.enabled) y, si se habilita
+ * logger.file.enabled, a un archivo con rotación por tamaño y por día (ver
+ * RollingFileLogSink).
+ *
+ * Cada mensaje tiene un nivel (DEBUG, INFO, WARN, ERROR). logger.level fija
+ * el mínimo general y logger.level.&lt;clase o paquete&gt; lo ajusta para una
+ * clase (por el nombre que se pasa como className) o para un paquete (por el
+ * paquete de la clase que loguea). Los mensajes por debajo del mínimo se
+ * descartan antes de encolarse; para no pagar la concatenación en esos casos
+ * conviene usar las variantes con Supplier o consultar isEnabled.
+ *
+ * La configuración se lee de las mismas fuentes y en el mismo orden que
+ * Configuration: application.properties del classpath, el archivo externo
+ * indicado por config.file (por defecto application.properties en el
+ * directorio de trabajo) y, por encima de ambos, propiedades de sistema con
+ * la misma clave. Se lee directamente y no a través de Configuration porque
+ * esa clase a su vez usa el Logger al cargarse.
+ *
+ * Solo logger.level y logger.level.* cambian en caliente, con
+ * configureLevels(). Las salidas (logger.console.enabled,
+ * logger.file.*), logger.bufferSize, logger.batchSize,
+ * logger.overflowPolicy y logger.sampleRate se fijan al cargar la clase y
+ * requieren reiniciar.
  */
 public class Logger {
+  private static final String CONFIG_FILE = "application.properties";
+  // Misma propiedad de sistema que usa Configuration para el archivo externo
+  private static final String EXTERNAL_FILE_PROPERTY = "config.file";
   private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+  private static final ZoneId ZONE = ZoneId.systemDefault();
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int DEFAULT_BATCH_SIZE = 256;
+  private static final int DEFAULT_SAMPLE_RATE = 10;
+  // Tiempo máximo que se espera al vaciar el buffer al cerrar la aplicación
+  private static final long SHUTDOWN_FLUSH_MS = 2000;
+  // Cada cuánto se avisa a las salidas si no llegan mensajes (para el force() del archivo)
+  private static final long IDLE_TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final String DEFAULT_FILE_PATH = "logs/turnero.log";
+  private static final int DEFAULT_FILE_MAX_SIZE_MB = 50;
+  private static final int DEFAULT_FILE_BUFFER_KB = 256;
+  private static final int DEFAULT_FILE_FORCE_INTERVAL_MS = 1000;
+  private static final int DEFAULT_FILE_MAX_HISTORY = 10;
+
+  /**
+   * Niveles de log, de menor a mayor severidad. OFF solo se usa en la
+   * configuración para silenciar una clase o paquete.
+   */
+  public enum Level {
+    DEBUG, INFO, WARN, ERROR, OFF
+  }
+
+  /**
+   * Qué hacer cuando el buffer de mensajes está lleno.
+   */
+  public enum OverflowPolicy {
+    BLOCK, DROP, SAMPLE
+  }
 
   // Configuración de salida que maneja encoding correctamente
   private static final PrintWriter out = initializePrintWriter();
@@ -26,132 +110,623 @@ public class Logger {
         // Usar la codificación predeterminada de la consola en Windows
         String consoleEncoding = System.getProperty("console.encoding", "CP850");
         return new PrintWriter(
-            new OutputStreamWriter(System.out, Charset.forName(consoleEncoding)), true);
+            new OutputStreamWriter(System.out, Charset.forName(consoleEncoding)), false);
       } else {
         // En otros sistemas usar UTF-8
         return new PrintWriter(
-            new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true);
+            new OutputStreamWriter(System.out, StandardCharsets.UTF_8), false);
       }
     } catch (Exception e) {
       // Fallback a System.out normal si hay algún error
-      return new PrintWriter(System.out, true);
+      return new PrintWriter(System.out, false);
     }
   }
 
   // Prefijos con colores ANSI para diferentes niveles
+  private static final String DEBUG_PREFIX = "[DEBUG]";
   private static final String INFO_PREFIX = "[INFO]";
   private static final String WARN_PREFIX = "[WARN]";
   private static final String ERROR_PREFIX = "[ERROR]";
 
+  /**
+   * Casillero del buffer circular; se reutiliza para no crear objetos por mensaje.
+   */
+  private static final class Slot {
+    long timestamp;
+    String level;
+    String className;
+    String message;
+    Throwable throwable;
+
+    void copyFrom(Slot other) {
+      timestamp = other.timestamp;
+      level = other.level;
+      className = other.className;
+      message = other.message;
+      throwable = other.throwable;
+    }
+
+    void clear() {
+      className = null;
+      message = null;
+      throwable = null;
+    }
+  }
+
+  private static final Properties settings = loadSettings();
+  private static final OverflowPolicy overflowPolicy = parsePolicy(setting("logger.overflowPolicy", "BLOCK"));
+  private static final int sampleRate = Math.max(1, intSetting("logger.sampleRate", DEFAULT_SAMPLE_RATE));
+  private static final int batchSize = Math.max(1, intSetting("logger.batchSize", DEFAULT_BATCH_SIZE));
+  private static final LogSink[] sinks = createSinks();
+
+  private static final String LEVEL_KEY = "logger.level";
+  // Niveles vigentes; configureLevels() publica una instancia nueva
+  private static volatile LevelConfig levels = new LevelConfig(settings);
+  private static final StackWalker stackWalker =
+      StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+  private static final Slot[] ring = newSlots(powerOfTwo(intSetting("logger.bufferSize", DEFAULT_BUFFER_SIZE)));
+  private static final int mask = ring.length - 1;
+  private static final int sampleThreshold = ring.length - ring.length / 4;
+
+  private static final ReentrantLock lock = new ReentrantLock();
+  private static final Condition notEmpty = lock.newCondition();
+  private static final Condition notFull = lock.newCondition();
+  private static final Condition drained = lock.newCondition();
+  // Contadores crecientes: posición de escritura, de lectura y ya escrita en la salida
+  private static long tail;
+  private static long head;
+  private static long written;
+  private static long dropped;
+  private static long sampleCounter;
+
+  // Estado exclusivo del hilo escritor
+  private static final Slot[] batch = newSlots(batchSize);
+  private static final StringBuilder line = new StringBuilder(256);
+  private static long cachedSecond = Long.MIN_VALUE;
+  private static String cachedTimestamp;
+
+  static {
+    Thread writer = new Thread(Logger::drainLoop, "logger-writer");
+    writer.setDaemon(true);
+    writer.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      flush(SHUTDOWN_FLUSH_MS);
+      for (LogSink sink : sinks) {
+        sink.close();
+      }
+    }, "logger-shutdown"));
+  }
+
   // Constructor privado para evitar instanciación
   private Logger() {
     throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
   }
 
+  /**
+   * Indica si un mensaje del nivel dado se registraría para la clase dada.
+   * Es barato: tras la primera consulta por clase es una búsqueda en un mapa.
+   *
+   * @param level     Nivel del mensaje
+   * @param className Nombre de la clase que genera el log (o null)
+   */
+  public static boolean isEnabled(Level level, String className) {
+    LevelConfig config = levels;
+    if (level.compareTo(config.lowest) < 0) {
+      return false;
+    }
+    if (config.configured.isEmpty() || className == null) {
+      return level.compareTo(config.root) >= 0;
+    }
+    Level efectivo = config.resolved.get(className);
+    if (efectivo == null) {
+      efectivo = config.resolve(className, callerClass());
+      config.resolved.putIfAbsent(className, efectivo);
+    }
+    return level.compareTo(efectivo) >= 0;
+  }
+
+  /**
+   * Reemplaza los niveles de log (logger.level y logger.level.*) por los de
+   * las propiedades dadas. Las propiedades de sistema siguen teniendo
+   * prioridad. Se usa al recargar la configuración en caliente.
+   */
+  public static void configureLevels(Map<String, String> properties) {
+    Properties nuevas = new Properties();
+    nuevas.putAll(properties);
+    levels = new LevelConfig(nuevas);
+  }
+
+  public static boolean isDebugEnabled(String className) {
+    return isEnabled(Level.DEBUG, className);
+  }
+
+  public static boolean isInfoEnabled(String className) {
+    return isEnabled(Level.INFO, className);
+  }
+
+  /**
+   * Registra un mensaje de depuración.
+   *
+   * @param className Nombre de la clase que genera el log
+   * @param message   Mensaje a registrar
+   */
+  public static void debug(String className, String message) {
+    if (isEnabled(Level.DEBUG, className)) {
+      log(DEBUG_PREFIX, className, message, null);
+    }
+  }
+
+  /**
+   * Registra un mensaje de depuración que solo se construye si el nivel está habilitado.
+   *
+   * @param className Nombre de la clase que genera el log
+   * @param message   Proveedor del mensaje
+   */
+  public static void debug(String className, Supplier<String> message) {
+    if (isEnabled(Level.DEBUG, className)) {
+      log(DEBUG_PREFIX, className, message.get(), null);
+    }
+  }
+
   /**
    * Registra un mensaje de información.
-   * 
+   *
    * @param message Mensaje a registrar
    */
   public static void info(String message) {
-    log(INFO_PREFIX, message);
+    if (isEnabled(Level.INFO, null)) {
+      log(INFO_PREFIX, null, message, null);
+    }
   }
 
   /**
    * Registra un mensaje de información con contexto adicional.
-   * 
+   *
    * @param className Nombre de la clase que genera el log
    * @param message   Mensaje a registrar
    */
   public static void info(String className, String message) {
-    log(INFO_PREFIX, className, message);
+    if (isEnabled(Level.INFO, className)) {
+      log(INFO_PREFIX, className, message, null);
+    }
+  }
+
+  /**
+   * Registra un mensaje de información que solo se construye si el nivel está habilitado.
+   *
+   * @param className Nombre de la clase que genera el log
+   * @param message   Proveedor del mensaje
+   */
+  public static void info(String className, Supplier<String> message) {
+    if (isEnabled(Level.INFO, className)) {
+      log(INFO_PREFIX, className, message.get(), null);
+    }
   }
 
   /**
    * Registra un mensaje de advertencia.
-   * 
+   *
    * @param message Mensaje a registrar
    */
   public static void warn(String message) {
-    log(WARN_PREFIX, message);
+    if (isEnabled(Level.WARN, null)) {
+      log(WARN_PREFIX, null, message, null);
+    }
   }
 
   /**
    * Registra un mensaje de advertencia con contexto adicional.
-   * 
+   *
    * @param className Nombre de la clase que genera el log
    * @param message   Mensaje a registrar
    */
   public static void warn(String className, String message) {
-    log(WARN_PREFIX, className, message);
+    if (isEnabled(Level.WARN, className)) {
+      log(WARN_PREFIX, className, message, null);
+    }
+  }
+
+  /**
+   * Registra una advertencia que solo se construye si el nivel está habilitado.
+   *
+   * @param className Nombre de la clase que genera el log
+   * @param message   Proveedor del mensaje
+   */
+  public static void warn(String className, Supplier<String> message) {
+    if (isEnabled(Level.WARN, className)) {
+      log(WARN_PREFIX, className, message.get(), null);
+    }
   }
 
   /**
    * Registra un mensaje de error.
-   * 
+   *
    * @param message Mensaje a registrar
    */
   public static void error(String message) {
-    log(ERROR_PREFIX, message);
+    if (isEnabled(Level.ERROR, null)) {
+      log(ERROR_PREFIX, null, message, null);
+    }
   }
 
   /**
    * Registra un mensaje de error con contexto adicional.
-   * 
+   *
    * @param className Nombre de la clase que genera el log
    * @param message   Mensaje a registrar
    */
   public static void error(String className, String message) {
-    log(ERROR_PREFIX, className, message);
+    if (isEnabled(Level.ERROR, className)) {
+      log(ERROR_PREFIX, className, message, null);
+    }
   }
 
   /**
    * Registra un mensaje de error con excepción.
-   * 
+   *
    * @param message   Mensaje a registrar
    * @param throwable Excepción asociada
    */
   public static void error(String message, Throwable throwable) {
-    log(ERROR_PREFIX, message);
-    if (throwable != null) {
-      out.println("  Causa: " + throwable.getMessage());
+    if (isEnabled(Level.ERROR, null)) {
+      log(ERROR_PREFIX, null, message, throwable);
     }
   }
 
   /**
    * Registra un mensaje de error con contexto adicional y excepción.
-   * 
+   *
    * @param className Nombre de la clase que genera el log
    * @param message   Mensaje a registrar
    * @param throwable Excepción asociada
    */
   public static void error(String className, String message, Throwable throwable) {
-    log(ERROR_PREFIX, className, message);
+    if (isEnabled(Level.ERROR, className)) {
+      log(ERROR_PREFIX, className, message, throwable);
+    }
+  }
+
+  /**
+   * Espera a que los mensajes registrados hasta ahora se escriban en la salida.
+   *
+   * @param timeoutMs espera máxima en milisegundos
+   * @return true si se escribieron todos a tiempo
+   */
+  public static boolean flush(long timeoutMs) {
+    long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    lock.lock();
+    try {
+      long objetivo = tail;
+      while (written < objetivo) {
+        long restante = limite - System.nanoTime();
+        if (restante <= 0) {
+          return false;
+        }
+        drained.awaitNanos(restante);
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Cantidad de mensajes descartados por buffer lleno desde el inicio.
+   */
+  public static long getDroppedCount() {
+    lock.lock();
+    try {
+      return dropped;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public static OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Encola un mensaje en el buffer circular aplicando la política de desborde.
+   * No formatea nada: eso lo hace el hilo escritor.
+   */
+  private static void log(String level, String className, String message, Throwable throwable) {
+    long timestamp = System.currentTimeMillis();
+    boolean esError = ERROR_PREFIX.equals(level);
+    lock.lock();
+    try {
+      int ocupados = (int) (tail - head);
+      if (!esError && overflowPolicy != OverflowPolicy.BLOCK) {
+        if (ocupados >= ring.length
+            || (overflowPolicy == OverflowPolicy.SAMPLE && ocupados >= sampleThreshold
+                && sampleCounter++ % sampleRate != 0)) {
+          dropped++;
+          return;
+        }
+      }
+      while (tail - head >= ring.length) {
+        notFull.awaitUninterruptibly();
+      }
+
+      Slot slot = ring[(int) tail & mask];
+      slot.timestamp = timestamp;
+      slot.level = level;
+      slot.className = className;
+      slot.message = message;
+      slot.throwable = throwable;
+      tail++;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Bucle del hilo escritor: toma hasta batchSize mensajes, los escribe y
+   * hace un solo flush por lote.
+   */
+  private static void drainLoop() {
+    long informados = 0;
+    while (true) {
+      int cantidad;
+      long descartados;
+      lock.lock();
+      try {
+        if (tail == head) {
+          notEmpty.awaitNanos(IDLE_TICK_NANOS);
+        }
+        cantidad = (int) Math.min(tail - head, batch.length);
+        for (int i = 0; i < cantidad; i++) {
+          Slot slot = ring[(int) head & mask];
+          batch[i].copyFrom(slot);
+          slot.clear();
+          head++;
+        }
+        descartados = dropped;
+        notFull.signalAll();
+      } catch (InterruptedException e) {
+        // El escritor no se interrumpe; si ocurre, se sigue esperando
+        continue;
+      } finally {
+        lock.unlock();
+      }
+
+      if (cantidad == 0) {
+        for (LogSink sink : sinks) {
+          sink.idle();
+        }
+        continue;
+      }
+
+      try {
+        if (descartados > informados) {
+          writeLine(System.currentTimeMillis(), WARN_PREFIX, "Logger",
+              (descartados - informados) + " mensajes descartados por buffer lleno (" + overflowPolicy + ")", null);
+          informados = descartados;
+        }
+        for (int i = 0; i < cantidad; i++) {
+          Slot slot = batch[i];
+          writeLine(slot.timestamp, slot.level, slot.className, slot.message, slot.throwable);
+          slot.clear();
+        }
+        for (LogSink sink : sinks) {
+          sink.endBatch();
+        }
+      } catch (RuntimeException e) {
+        // El escritor no debe morir por un mensaje problemático
+        System.err.println("Logger: error al escribir el log: " + e);
+      }
+
+      lock.lock();
+      try {
+        written += cantidad;
+        drained.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Escribe una línea con formato estándar: fecha, nivel, [clase] y mensaje.
+   */
+  private static void writeLine(long timestamp, String level, String className, String message,
+      Throwable throwable) {
+    line.setLength(0);
+    line.append(timestampPrefix(timestamp)).append(' ').append(level).append(' ');
+    if (className != null) {
+      line.append('[').append(className).append("] ");
+    }
+    line.append(message);
+    writeToSinks(line);
     if (throwable != null) {
-      out.println("  Causa: " + throwable.getMessage());
+      line.setLength(0);
+      line.append("  Causa: ").append(throwable.getMessage());
+      writeToSinks(line);
+    }
+  }
+
+  private static void writeToSinks(CharSequence texto) {
+    for (LogSink sink : sinks) {
+      sink.write(texto);
     }
   }
 
   /**
-   * Método privado para generar el log con formato estándar.
-   * 
-   * @param level   Nivel del log (INFO, WARN, ERROR)
-   * @param message Mensaje a registrar
+   * Crea las salidas configuradas. Si el archivo no puede abrirse se sigue
+   * solo con la consola.
    */
-  private static void log(String level, String message) {
-    String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-    out.println(String.format("%s %s %s", timestamp, level, message));
+  private static LogSink[] createSinks() {
+    List<LogSink> creados = new ArrayList<>();
+    if (Boolean.parseBoolean(setting("logger.console.enabled", "true"))) {
+      creados.add(new ConsoleLogSink(out));
+    }
+    if (Boolean.parseBoolean(setting("logger.file.enabled", "false"))) {
+      try {
+        creados.add(new RollingFileLogSink(
+            Paths.get(setting("logger.file.path", DEFAULT_FILE_PATH)),
+            intSetting("logger.file.maxSizeMb", DEFAULT_FILE_MAX_SIZE_MB) * 1024L * 1024L,
+            Boolean.parseBoolean(setting("logger.file.rollDaily", "true")),
+            Boolean.parseBoolean(setting("logger.file.compress", "true")),
+            intSetting("logger.file.forceIntervalMs", DEFAULT_FILE_FORCE_INTERVAL_MS),
+            intSetting("logger.file.bufferKb", DEFAULT_FILE_BUFFER_KB) * 1024,
+            intSetting("logger.file.maxHistory", DEFAULT_FILE_MAX_HISTORY)));
+      } catch (Exception e) {
+        System.err.println("Logger: no se pudo abrir el archivo de log: " + e);
+        if (creados.isEmpty()) {
+          creados.add(new ConsoleLogSink(out));
+        }
+      }
+    }
+    return creados.toArray(new LogSink[0]);
   }
 
   /**
-   * Método privado para generar el log con formato estándar y contexto.
-   * 
-   * @param level     Nivel del log (INFO, WARN, ERROR)
-   * @param className Nombre de la clase
-   * @param message   Mensaje a registrar
+   * Fecha formateada, cacheada por segundo.
+   */
+  private static String timestampPrefix(long timestamp) {
+    long second = Math.floorDiv(timestamp, 1000L);
+    if (second != cachedSecond) {
+      cachedSecond = second;
+      cachedTimestamp = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZONE).format(TIMESTAMP_FORMAT);
+    }
+    return cachedTimestamp;
+  }
+
+  /**
+   * Primera clase de la pila que no es el Logger. Solo se usa una vez por
+   * className, al resolver su nivel.
    */
-  private static void log(String level, String className, String message) {
-    String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-    out.println(String.format("%s %s [%s] %s", timestamp, level, className, message));
+  private static Class<?> callerClass() {
+    return stackWalker.walk(frames -> frames
+        .map(StackWalker.StackFrame::getDeclaringClass)
+        .filter(c -> c != Logger.class)
+        .findFirst()
+        .orElse(null));
+  }
+
+  private static Level parseLevel(String value, Level defaultValue) {
+    try {
+      return Level.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return defaultValue;
+    }
+  }
+
+  private static Properties loadSettings() {
+    Properties properties = new Properties();
+    try (InputStream input = Logger.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+      if (input != null) {
+        properties.load(input);
+      }
+    } catch (Exception e) {
+      // Sin archivo se usan los valores por defecto
+    }
+    Path externo = Paths.get(System.getProperty(EXTERNAL_FILE_PROPERTY, CONFIG_FILE));
+    if (Files.isRegularFile(externo)) {
+      try (Reader reader = Files.newBufferedReader(externo, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      } catch (Exception e) {
+        // Configuration informa el error al cargar; acá rigen los valores ya leídos
+      }
+    }
+    return properties;
+  }
+
+  private static String setting(String key, String defaultValue) {
+    return System.getProperty(key, settings.getProperty(key, defaultValue)).trim();
+  }
+
+  private static int intSetting(String key, int defaultValue) {
+    try {
+      return Integer.parseInt(setting(key, String.valueOf(defaultValue)));
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static OverflowPolicy parsePolicy(String value) {
+    try {
+      return OverflowPolicy.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      return OverflowPolicy.BLOCK;
+    }
+  }
+
+  private static int powerOfTwo(int size) {
+    int capacity = Integer.highestOneBit(Math.max(2, size));
+    return capacity < size ? capacity << 1 : capacity;
+  }
+
+  private static Slot[] newSlots(int size) {
+    Slot[] slots = new Slot[size];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = new Slot();
+    }
+    return slots;
+  }
+
+  /**
+   * Niveles configurados, inmutables salvo la caché de niveles resueltos,
+   * que se descarta junto con la instancia al reconfigurar.
+   */
+  private static final class LevelConfig {
+    final Level root;
+    // Niveles por clase o paquete (clave sin el prefijo logger.level.)
+    final Map<String, Level> configured;
+    // Nivel más bajo habilitado en algún lado: por debajo se descarta sin buscar nada
+    final Level lowest;
+    // Nivel efectivo ya resuelto para cada className
+    final Map<String, Level> resolved = new ConcurrentHashMap<>();
+
+    LevelConfig(Properties properties) {
+      Properties todas = new Properties();
+      todas.putAll(properties);
+      todas.putAll(System.getProperties());
+      this.root = parseLevel(todas.getProperty(LEVEL_KEY, "INFO").trim(), Level.INFO);
+
+      Map<String, Level> porNombre = new HashMap<>();
+      String prefijo = LEVEL_KEY + ".";
+      Level minimo = root;
+      for (String key : todas.stringPropertyNames()) {
+        if (key.startsWith(prefijo) && key.length() > prefijo.length()) {
+          Level level = parseLevel(todas.getProperty(key).trim(), null);
+          if (level != null) {
+            porNombre.put(key.substring(prefijo.length()), level);
+            if (level.compareTo(minimo) < 0) {
+              minimo = level;
+            }
+          }
+        }
+      }
+      this.configured = porNombre;
+      this.lowest = minimo;
+    }
+
+    /**
+     * Busca el nivel configurado más específico: primero el className tal
+     * como se pasó, luego la clase que loguea y sus paquetes, de más largo a
+     * más corto. Si no hay ninguno rige logger.level.
+     */
+    Level resolve(String className, Class<?> caller) {
+      Level level = configured.get(className);
+      if (level != null) {
+        return level;
+      }
+      String nombre = className.contains(".") ? className : caller != null ? caller.getName() : null;
+      while (nombre != null) {
+        level = configured.get(nombre);
+        if (level != null) {
+          return level;
+        }
+        int punto = nombre.lastIndexOf('.');
+        nombre = punto > 0 ? nombre.substring(0, punto) : null;
+      }
+      return root;
+    }
   }
 }
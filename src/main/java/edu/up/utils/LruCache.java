@@ -0,0 +1,171 @@
+package edu.up.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria acotada por tamaño (LRU) y por tiempo de vida (TTL).
+ * El TTL cuenta desde que se guardó la entrada o, si se pide al crearla,
+ * desde el último acceso (la entrada vence tras ese tiempo sin usarse).
+ *
+ * Las lecturas que no encuentran el valor lo cargan fuera del lock. Si
+ * mientras tanto se invalidó la caché, el valor cargado se devuelve pero no
+ * se guarda, para no reinsertar un dato que ya quedó viejo.
+ */
+public class LruCache<K, V> {
+    // Solo se modifican con reconfigure(), bajo el lock de la caché
+    private int maxSize;
+    private long ttlNanos;
+    private final boolean expireAfterAccess;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Se incrementa en cada invalidación; descarta cargas iniciadas antes
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * @param maxSize    cantidad máxima de entradas
+     * @param ttlMillis  tiempo de vida de cada entrada; 0 o negativo no expira
+     */
+    public LruCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, false);
+    }
+
+    /**
+     * @param maxSize           cantidad máxima de entradas
+     * @param ttlMillis         tiempo de vida de cada entrada; 0 o negativo no expira
+     * @param expireAfterAccess si el TTL cuenta desde el último acceso en
+     *                          lugar de desde que se guardó
+     */
+    public LruCache(int maxSize, long ttlMillis, boolean expireAfterAccess) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser mayor a cero");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000L : 0L;
+        this.expireAfterAccess = expireAfterAccess;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Devuelve el valor cacheado o lo carga con el loader y lo guarda.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                long now = System.nanoTime();
+                if (!isExpired(entry, now)) {
+                    if (expireAfterAccess) {
+                        entry.stampNanos = now;
+                    }
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+                expirations.increment();
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+
+        V value = loader.apply(key);
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, System.nanoTime()));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Elimina una entrada.
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    /**
+     * Elimina las entradas que cumplen la condición.
+     */
+    public synchronized void invalidateIf(BiPredicate<? super K, ? super V> condition) {
+        generation++;
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Entry<V>> e = it.next();
+            if (condition.test(e.getKey(), e.getValue().value)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Vacía la caché.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    /**
+     * Cambia el tamaño máximo y el tiempo de vida sin vaciar la caché.
+     * Si el nuevo tamaño es menor se descartan las entradas menos usadas; el
+     * nuevo TTL rige también para las entradas ya guardadas.
+     */
+    public synchronized void reconfigure(int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser mayor a cero");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis > 0 ? ttlMillis * 1_000_000L : 0L;
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size());
+    }
+
+    private boolean isExpired(Entry<V> entry, long nowNanos) {
+        return ttlNanos > 0 && nowNanos - entry.stampNanos > ttlNanos;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        // Cuándo se guardó o, con expireAfterAccess, cuándo se usó por última vez
+        private long stampNanos;
+
+        Entry(V value, long stampNanos) {
+            this.value = value;
+            this.stampNanos = stampNanos;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package edu.up.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+import edu.up.controllers.infrastructure.ConfigSnapshot;
+import edu.up.controllers.infrastructure.Configuration;
+
+/**
+ * Hash de contraseñas con PBKDF2-HMAC-SHA256 del JDK.
+ *
+ * El valor guardado tiene el formato pbkdf2$iteraciones$sal$hash (sal y hash
+ * en Base64), así cada fila conserva su propia sal y su costo; subir
+ * security.password.iterations no invalida los hashes existentes, solo hace
+ * que needsRehash() los marque para recalcular en el próximo login.
+ *
+ * La verificación corre en un pool propio de pocos hilos y cola acotada:
+ * cada derivación ocupa un núcleo durante decenas o cientos de milisegundos,
+ * y sin límite una ráfaga de logins dejaría sin CPU al resto de la
+ * aplicación. Si la cola se llena, verify() falla de inmediato en lugar de
+ * encolar indefinidamente.
+ *
+ * Los valores sin el prefijo pbkdf2$ se tratan como contraseñas heredadas en
+ * texto plano y se comparan en tiempo constante.
+ */
+public final class PasswordHasher implements AutoCloseable {
+  public static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+  private static final String PREFIX = "pbkdf2";
+  private static final String SEPARATOR = "$";
+  private static final int SALT_BYTES = 16;
+  private static final int KEY_BITS = 256;
+  public static final int DEFAULT_ITERATIONS = 210_000;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+  private final int iterations;
+  private final ThreadPoolExecutor verifier;
+
+  /**
+   * @param iterations     costo para los hashes nuevos
+   * @param maxParallelism verificaciones simultáneas como máximo
+   * @param queueSize      verificaciones en espera como máximo
+   */
+  public PasswordHasher(int iterations, int maxParallelism, int queueSize) {
+    if (iterations < 1) {
+      throw new IllegalArgumentException("Las iteraciones deben ser mayores a cero");
+    }
+    this.iterations = iterations;
+    int hilos = Math.max(1, maxParallelism);
+    AtomicInteger contador = new AtomicInteger();
+    this.verifier = new ThreadPoolExecutor(hilos, hilos, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueSize)), r -> {
+          Thread thread = new Thread(r, "password-verifier-" + contador.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    verifier.allowCoreThreadTimeOut(true);
+  }
+
+  /**
+   * Crea el hasher con security.password.* de application.properties.
+   */
+  public static PasswordHasher fromConfiguration() {
+    ConfigSnapshot config = Configuration.current();
+    int porDefecto = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new PasswordHasher(
+        config.getInt("security.password.iterations", DEFAULT_ITERATIONS),
+        config.getInt("security.password.maxParallelism", porDefecto),
+        config.getInt("security.password.queueSize", 32));
+  }
+
+  public int getIterations() {
+    return iterations;
+  }
+
+  /**
+   * Calcula el hash de una contraseña con una sal nueva, en el hilo actual.
+   */
+  public String hash(String password) {
+    return hash(password, iterations);
+  }
+
+  /**
+   * Hash para guardar una contraseña recibida: los valores que ya son un
+   * hash de PasswordHasher se devuelven tal cual y null sigue siendo null.
+   */
+  public String hashIfPlain(String password) {
+    return password == null || isHashed(password) ? password : hash(password);
+  }
+
+  /**
+   * Calcula el hash con un costo dado, en el hilo actual. Lo usa la
+   * herramienta de calibración para medir cada costo.
+   */
+  public static String hash(String password, int iterations) {
+    byte[] salt = new byte[SALT_BYTES];
+    RANDOM.nextBytes(salt);
+    byte[] hash = derive(password, salt, iterations, KEY_BITS);
+    return PREFIX + SEPARATOR + iterations + SEPARATOR + ENCODER.encodeToString(salt)
+        + SEPARATOR + ENCODER.encodeToString(hash);
+  }
+
+  /**
+   * Verifica una contraseña contra el valor guardado. La derivación corre en
+   * el pool acotado y el hilo actual espera el resultado, así que no debe
+   * llamarse desde el Event Dispatch Thread.
+   *
+   * @return false si no coincide o si el valor guardado está mal formado
+   * @throws RuntimeException si hay demasiadas verificaciones en curso
+   */
+  public boolean verify(String password, String stored) {
+    if (password == null || stored == null) {
+      return false;
+    }
+    if (!isHashed(stored)) {
+      return constantTimeEquals(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+    }
+    String[] partes = stored.split("\\" + SEPARATOR);
+    if (partes.length != 4) {
+      return false;
+    }
+    int costo;
+    byte[] salt;
+    byte[] esperado;
+    try {
+      costo = Integer.parseInt(partes[1]);
+      salt = DECODER.decode(partes[2]);
+      esperado = DECODER.decode(partes[3]);
+    } catch (IllegalArgumentException e) {
+      Logger.warn("PasswordHasher", "Hash de contraseña mal formado");
+      return false;
+    }
+    if (costo < 1 || esperado.length == 0) {
+      return false;
+    }
+
+    Future<byte[]> calculo;
+    try {
+      calculo = verifier.submit(() -> derive(password, salt, costo, esperado.length * 8));
+    } catch (RejectedExecutionException e) {
+      throw new RuntimeException("Demasiadas verificaciones de contraseña en curso", e);
+    }
+    try {
+      return constantTimeEquals(calculo.get(), esperado);
+    } catch (InterruptedException e) {
+      calculo.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrumpido mientras se verificaba la contraseña", e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Error al verificar la contraseña", e.getCause());
+    }
+  }
+
+  /**
+   * Indica si el valor guardado debe recalcularse: contraseñas en texto plano
+   * o hashes con un costo menor al configurado.
+   */
+  public boolean needsRehash(String stored) {
+    if (!isHashed(stored)) {
+      return true;
+    }
+    String[] partes = stored.split("\\" + SEPARATOR);
+    try {
+      return partes.length != 4 || Integer.parseInt(partes[1]) < iterations;
+    } catch (NumberFormatException e) {
+      return true;
+    }
+  }
+
+  public static boolean isHashed(String stored) {
+    return stored != null && stored.startsWith(PREFIX + SEPARATOR);
+  }
+
+  @Override
+  public void close() {
+    verifier.shutdownNow();
+  }
+
+  private static byte[] derive(String password, byte[] salt, int iterations, int keyBits) {
+    char[] chars = password.toCharArray();
+    PBEKeySpec spec = new PBEKeySpec(chars, salt, iterations, keyBits);
+    try {
+      return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+    } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+      throw new IllegalStateException("PBKDF2 no disponible en este JDK", e);
+    } finally {
+      spec.clearPassword();
+      Arrays.fill(chars, '\0');
+    }
+  }
+
+  private static boolean constantTimeEquals(byte[] a, byte[] b) {
+    return MessageDigest.isEqual(a, b);
+  }
+}
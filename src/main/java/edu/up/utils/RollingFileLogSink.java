@@ -0,0 +1,320 @@
+package edu.up.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Salida a archivo con rotación por tamaño y por día.
+ *
+ * Las líneas se codifican en UTF-8 dentro de un buffer directo grande y se
+ * escriben al FileChannel recién cuando el buffer se llena o termina el
+ * lote. El force() al disco se agrupa: como mucho uno cada forceIntervalMs
+ * (0 fuerza en cada lote, negativo nunca fuerza y deja el volcado al sistema
+ * operativo).
+ *
+ * Al rotar, el archivo actual se renombra con la fecha y hora
+ * (turnero-20250101-235959.log), se comprime opcionalmente con gzip en un
+ * hilo de fondo y se conservan solo los últimos maxHistory archivos rotados.
+ *
+ * Los errores de E/S no pueden registrarse con el Logger, así que se
+ * informan por System.err y el sink se desactiva.
+ */
+class RollingFileLogSink implements LogSink {
+  private static final DateTimeFormatter ROTATED_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+  private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+  private static final String GZIP_EXTENSION = ".gz";
+
+  private final Path path;
+  private final String baseName;
+  private final String extension;
+  private final long maxBytes;
+  private final boolean rollDaily;
+  private final long forceIntervalNanos;
+  private final int maxHistory;
+  private final ExecutorService compressor;
+
+  private final ByteBuffer buffer;
+  private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+  private FileChannel channel;
+  private long size;
+  private long nextRollMillis;
+  private long lastForce = System.nanoTime();
+  private boolean unforced;
+  private boolean closed;
+
+  /**
+   * @param path            archivo de log activo
+   * @param maxBytes        tamaño a partir del cual se rota (0 o menos no rota por tamaño)
+   * @param rollDaily       si además se rota al cambiar el día
+   * @param compress        si los archivos rotados se comprimen con gzip
+   * @param forceIntervalMs intervalo mínimo entre force() al disco
+   * @param bufferBytes     tamaño del buffer directo
+   * @param maxHistory      archivos rotados a conservar
+   */
+  RollingFileLogSink(Path path, long maxBytes, boolean rollDaily, boolean compress, long forceIntervalMs,
+      int bufferBytes, int maxHistory) throws IOException {
+    this.path = path.toAbsolutePath();
+    String fileName = this.path.getFileName().toString();
+    int punto = fileName.lastIndexOf('.');
+    this.baseName = punto > 0 ? fileName.substring(0, punto) : fileName;
+    this.extension = punto > 0 ? fileName.substring(punto) : "";
+    this.maxBytes = maxBytes;
+    this.rollDaily = rollDaily;
+    this.forceIntervalNanos = forceIntervalMs < 0 ? -1 : forceIntervalMs * 1_000_000L;
+    this.maxHistory = maxHistory;
+    this.buffer = ByteBuffer.allocateDirect(Math.max(8192, bufferBytes));
+    this.compressor = compress ? Executors.newSingleThreadExecutor(r -> {
+      Thread thread = new Thread(r, "logger-gzip");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+
+    Path directorio = this.path.getParent();
+    if (directorio != null) {
+      Files.createDirectories(directorio);
+    }
+    open();
+  }
+
+  @Override
+  public synchronized void write(CharSequence line) {
+    if (closed) {
+      return;
+    }
+    try {
+      if (debeRotar()) {
+        rotate();
+      }
+      encode(line);
+      if (buffer.remaining() < LINE_SEPARATOR.length) {
+        drain();
+      }
+      buffer.put(LINE_SEPARATOR);
+    } catch (IOException e) {
+      fallar("Error al escribir el log en " + path, e);
+    }
+  }
+
+  @Override
+  public synchronized void endBatch() {
+    if (closed) {
+      return;
+    }
+    try {
+      drain();
+      forceSiCorresponde();
+    } catch (IOException e) {
+      fallar("Error al escribir el log en " + path, e);
+    }
+  }
+
+  @Override
+  public synchronized void idle() {
+    if (closed || !unforced) {
+      return;
+    }
+    try {
+      forceSiCorresponde();
+    } catch (IOException e) {
+      fallar("Error al sincronizar el log en " + path, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      drain();
+      channel.force(false);
+      channel.close();
+    } catch (IOException e) {
+      System.err.println("Logger: error al cerrar " + path + ": " + e);
+    }
+    if (compressor != null) {
+      compressor.shutdown();
+    }
+  }
+
+  private void open() throws IOException {
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
+    size = channel.size();
+    LocalDate manana = LocalDate.now().plusDays(1);
+    nextRollMillis = manana.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private boolean debeRotar() {
+    long pendiente = size + buffer.position();
+    return (maxBytes > 0 && pendiente >= maxBytes && pendiente > 0)
+        || (rollDaily && System.currentTimeMillis() >= nextRollMillis && pendiente > 0);
+  }
+
+  /**
+   * Codifica la línea directamente en el buffer, vaciándolo al canal cada
+   * vez que se llena.
+   */
+  private void encode(CharSequence line) throws IOException {
+    CharBuffer chars = CharBuffer.wrap(line);
+    encoder.reset();
+    while (true) {
+      CoderResult resultado = encoder.encode(chars, buffer, true);
+      if (resultado.isOverflow()) {
+        drain();
+        continue;
+      }
+      if (encoder.flush(buffer).isOverflow()) {
+        drain();
+        encoder.flush(buffer);
+      }
+      return;
+    }
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      size += channel.write(buffer);
+      unforced = true;
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Agrupa los force(): solo sincroniza si pasó el intervalo desde el último.
+   */
+  private void forceSiCorresponde() throws IOException {
+    if (forceIntervalNanos < 0 || !unforced) {
+      return;
+    }
+    long ahora = System.nanoTime();
+    if (ahora - lastForce >= forceIntervalNanos) {
+      channel.force(false);
+      lastForce = ahora;
+      unforced = false;
+    }
+  }
+
+  private void rotate() throws IOException {
+    drain();
+    channel.force(false);
+    channel.close();
+    unforced = false;
+
+    Path rotado = nombreRotado();
+    Files.move(path, rotado);
+    open();
+
+    if (compressor != null) {
+      compressor.execute(() -> {
+        comprimir(rotado);
+        depurarHistorial();
+      });
+    } else {
+      depurarHistorial();
+    }
+  }
+
+  private Path nombreRotado() {
+    String sello = LocalDateTime.now().format(ROTATED_FORMAT);
+    Path candidato = path.resolveSibling(baseName + "-" + sello + extension);
+    int indice = 1;
+    while (Files.exists(candidato) || Files.exists(candidato.resolveSibling(candidato.getFileName() + GZIP_EXTENSION))) {
+      candidato = path.resolveSibling(baseName + "-" + sello + "." + indice++ + extension);
+    }
+    return candidato;
+  }
+
+  private void comprimir(Path archivo) {
+    Path comprimido = archivo.resolveSibling(archivo.getFileName() + GZIP_EXTENSION);
+    try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(comprimido), 64 * 1024)) {
+      Files.copy(archivo, out);
+    } catch (IOException e) {
+      System.err.println("Logger: no se pudo comprimir " + archivo + ": " + e);
+      try {
+        Files.deleteIfExists(comprimido);
+      } catch (IOException ignorada) {
+        // Queda el archivo sin comprimir
+      }
+      return;
+    }
+    try {
+      Files.delete(archivo);
+    } catch (IOException e) {
+      System.err.println("Logger: no se pudo borrar " + archivo + ": " + e);
+    }
+  }
+
+  /**
+   * Borra los archivos rotados más viejos, dejando los últimos maxHistory.
+   * Se ordena por fecha de modificación porque varias rotaciones en el mismo
+   * segundo solo se distinguen por un índice en el nombre.
+   */
+  private void depurarHistorial() {
+    if (maxHistory <= 0) {
+      return;
+    }
+    List<Path> rotados = new ArrayList<>();
+    try (DirectoryStream<Path> archivos = Files.newDirectoryStream(path.getParent(), baseName + "-*" + extension + "*")) {
+      for (Path archivo : archivos) {
+        rotados.add(archivo);
+      }
+    } catch (IOException e) {
+      System.err.println("Logger: no se pudo listar " + path.getParent() + ": " + e);
+      return;
+    }
+    rotados.sort(Comparator.comparing(RollingFileLogSink::modificado).thenComparing(Comparator.naturalOrder()));
+    for (int i = 0; i < rotados.size() - maxHistory; i++) {
+      try {
+        Files.deleteIfExists(rotados.get(i));
+      } catch (IOException e) {
+        System.err.println("Logger: no se pudo borrar " + rotados.get(i) + ": " + e);
+      }
+    }
+  }
+
+  private static FileTime modificado(Path archivo) {
+    try {
+      return Files.getLastModifiedTime(archivo);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  private void fallar(String mensaje, IOException e) {
+    System.err.println("Logger: " + mensaje + ": " + e + ". Se desactiva la salida a archivo.");
+    closed = true;
+    try {
+      channel.close();
+    } catch (IOException ignorada) {
+      // Ya se informó el error original
+    }
+  }
+}
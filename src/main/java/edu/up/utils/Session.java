@@ -0,0 +1,128 @@
+package edu.up.utils;
+
+import edu.up.models.entities.PersonaEntity;
+
+/**
+ * Sesión de un usuario autenticado, identificada por un token opaco.
+ *
+ * El rol y el nombre a mostrar se calculan una sola vez al crearla. Lo único
+ * que cambia es el instante del último acceso, que se actualiza con una
+ * escritura volatile y sin locks; el SessionRegistry lo usa para decidir la
+ * expiración por inactividad.
+ */
+public final class Session {
+
+  /**
+   * Rol del usuario de la sesión.
+   */
+  public enum Rol {
+    ADMINISTRADOR("Administrador"),
+    MEDICO("Médico"),
+    PACIENTE("Paciente"),
+    OTRO("Usuario");
+
+    private final String descripcion;
+
+    Rol(String descripcion) {
+      this.descripcion = descripcion;
+    }
+
+    public String getDescripcion() {
+      return descripcion;
+    }
+  }
+
+  private final String token;
+  private final PersonaEntity persona;
+  private final Rol rol;
+  private final String nombre;
+  private final long creadaMillis;
+  // 0 si la sesión no expira por inactividad
+  private final long idleTimeoutNanos;
+  private volatile long ultimoAccesoNanos;
+  private volatile boolean cerrada;
+
+  // Posición en la rueda de expiración; la maneja SessionRegistry bajo su lock
+  long deadlineTick;
+
+  Session(String token, PersonaEntity persona, boolean admin, long idleTimeoutNanos) {
+    this.token = token;
+    this.persona = persona;
+    this.rol = admin ? Rol.ADMINISTRADOR : rolDe(persona);
+    this.nombre = admin ? "Administrador del Sistema" : persona.getNombreCompleto();
+    this.creadaMillis = System.currentTimeMillis();
+    this.idleTimeoutNanos = idleTimeoutNanos;
+    this.ultimoAccesoNanos = System.nanoTime();
+  }
+
+  public String getToken() {
+    return token;
+  }
+
+  /**
+   * @return la persona autenticada, o null si es la sesión del administrador
+   */
+  public PersonaEntity getPersona() {
+    return persona;
+  }
+
+  public Rol getRol() {
+    return rol;
+  }
+
+  public String getNombre() {
+    return nombre;
+  }
+
+  public long getCreadaMillis() {
+    return creadaMillis;
+  }
+
+  public boolean isCerrada() {
+    return cerrada;
+  }
+
+  boolean expira() {
+    return idleTimeoutNanos > 0;
+  }
+
+  void touch(long nowNanos) {
+    ultimoAccesoNanos = nowNanos;
+  }
+
+  /**
+   * Instante (en nanoTime) a partir del cual la sesión vence si no se usa.
+   */
+  long vencimientoNanos() {
+    return ultimoAccesoNanos + idleTimeoutNanos;
+  }
+
+  boolean vencida(long nowNanos) {
+    return expira() && nowNanos - vencimientoNanos() >= 0;
+  }
+
+  void cerrar() {
+    cerrada = true;
+  }
+
+  private static Rol rolDe(PersonaEntity persona) {
+    String tipo = persona.getTipoPersona();
+    if (tipo == null) {
+      return Rol.OTRO;
+    }
+    switch (tipo) {
+      case "Médico":
+        return Rol.MEDICO;
+      case "Paciente":
+        return Rol.PACIENTE;
+      default:
+        return Rol.OTRO;
+    }
+  }
+
+  @Override
+  public String toString() {
+    // Solo un prefijo del token: el token completo permite usar la sesión
+    return "Session{" + rol + ", " + nombre + ", token=" + token.substring(0, 6) + "…}";
+  }
+}
@@ -1,114 +1,172 @@
 package edu.up.utils;
 
+import java.util.Optional;
+
+import edu.up.controllers.infrastructure.ConfigSnapshot;
+import edu.up.controllers.infrastructure.Configuration;
 import edu.up.models.entities.PersonaEntity;
 
 /**
- * Gestor de sesión para mantener información del usuario autenticado
+ * Gestor de sesión para mantener información del usuario autenticado.
+ *
+ * Es la fachada del cliente de escritorio sobre SessionRegistry: guarda el
+ * token de la sesión de esta ventana y delega todo lo demás en el registro,
+ * que admite muchas sesiones concurrentes. La sesión de escritorio usa
+ * session.desktop.idleTimeoutMinutes (0 por defecto, no expira).
  */
 public class SessionManager {
-    private static SessionManager instance;
-    private PersonaEntity usuarioActual;
-    private boolean esAdmin;
-    
+    private final SessionRegistry registry;
+    private final long desktopIdleTimeoutMs;
+    private volatile Session actual;
+
     private SessionManager() {
-        this.usuarioActual = null;
-        this.esAdmin = false;
+        ConfigSnapshot config = Configuration.current();
+        long idleTimeoutMs = config.getLong("session.idleTimeoutMinutes", 30) * 60_000L;
+        long tickMs = config.getLong("session.wheelTickMs", 1000);
+        this.registry = new SessionRegistry(idleTimeoutMs, tickMs);
+        this.desktopIdleTimeoutMs = config.getLong("session.desktop.idleTimeoutMinutes", 0) * 60_000L;
     }
-    
+
+    private static final class Holder {
+        private static final SessionManager INSTANCE = new SessionManager();
+    }
+
     /**
      * Obtiene la instancia única del SessionManager (Singleton)
      */
     public static SessionManager getInstance() {
-        if (instance == null) {
-            instance = new SessionManager();
-        }
-        return instance;
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Registro compartido de sesiones, para quien necesite manejar varias.
+     */
+    public SessionRegistry getSessionRegistry() {
+        return registry;
     }
-    
+
     /**
-     * Inicia sesión con un usuario (persona)
+     * Inicia sesión con un usuario (persona) como sesión de esta ventana,
+     * cerrando la anterior. Para sesiones concurrentes usar el registro.
      * @param persona Usuario que inicia sesión
+     * @return la sesión iniciada
      */
-    public void iniciarSesion(PersonaEntity persona) {
-        this.usuarioActual = persona;
-        this.esAdmin = false;
-        Logger.info("SessionManager", "Sesión iniciada para: " + persona.getNombreCompleto() + 
-                   " (" + persona.getTipoPersona() + ")");
+    public Session iniciarSesion(PersonaEntity persona) {
+        return reemplazar(registry.create(persona, desktopIdleTimeoutMs));
     }
-    
+
     /**
-     * Inicia sesión como administrador
+     * Inicia sesión como administrador en esta ventana, cerrando la anterior
+     * @return la sesión iniciada
      */
-    public void iniciarSesionAdmin() {
-        this.usuarioActual = null;
-        this.esAdmin = true;
-        Logger.info("SessionManager", "Sesión de administrador iniciada");
+    public Session iniciarSesionAdmin() {
+        return reemplazar(registry.createAdmin(desktopIdleTimeoutMs));
     }
-    
+
     /**
      * Cierra la sesión actual
      */
-    public void cerrarSesion() {
-        if (esAdmin) {
-            Logger.info("SessionManager", "Sesión de administrador cerrada");
-        } else if (usuarioActual != null) {
-            Logger.info("SessionManager", "Sesión cerrada para: " + usuarioActual.getNombreCompleto());
+    public synchronized void cerrarSesion() {
+        Session session = actual;
+        actual = null;
+        if (session != null) {
+            registry.close(session.getToken());
         }
-        this.usuarioActual = null;
-        this.esAdmin = false;
     }
-    
+
+    /**
+     * Token de la sesión actual
+     * @return Token o null si no hay sesión vigente
+     */
+    public String getTokenActual() {
+        Session session = vigente();
+        return session != null ? session.getToken() : null;
+    }
+
     /**
      * Obtiene el usuario actual (persona)
      * @return Usuario actual o null si no hay persona autenticada o es admin
      */
     public PersonaEntity getUsuarioActual() {
-        return usuarioActual;
+        Session session = vigente();
+        return session != null ? session.getPersona() : null;
     }
-    
+
     /**
      * Obtiene el nombre del usuario/admin actual
      * @return Nombre del usuario o admin
      */
     public String getNombreUsuario() {
-        if (esAdmin) {
-            return "Administrador del Sistema";
-        }
-        return usuarioActual.getNombreCompleto();
+        Session session = vigente();
+        return session != null ? session.getNombre() : null;
     }
-    
+
     /**
      * Obtiene el tipo de usuario actual
      * @return Tipo de usuario
      */
     public String getTipoUsuario() {
-        if (esAdmin) {
-            return "Administrador";
+        Session session = vigente();
+        if (session == null) {
+            return null;
         }
-        return usuarioActual.getTipoPersona();
+        if (session.getRol() == Session.Rol.ADMINISTRADOR) {
+            return session.getRol().getDescripcion();
+        }
+        return session.getPersona().getTipoPersona();
     }
-    
+
     /**
      * Verifica si el usuario actual es médico
      * @return true si es médico, false en caso contrario
      */
     public boolean esMedico() {
-        return !esAdmin && usuarioActual != null && "Médico".equals(usuarioActual.getTipoPersona());
+        return tieneRol(Session.Rol.MEDICO);
     }
-    
+
     /**
      * Verifica si el usuario actual es paciente
      * @return true si es paciente, false en caso contrario
      */
     public boolean esPaciente() {
-        return !esAdmin && usuarioActual != null && "Paciente".equals(usuarioActual.getTipoPersona());
+        return tieneRol(Session.Rol.PACIENTE);
     }
-    
+
     /**
      * Verifica si el usuario actual es administrador
      * @return true si es administrador, false en caso contrario
      */
     public boolean esAdministrador() {
-        return esAdmin;
+        return tieneRol(Session.Rol.ADMINISTRADOR);
+    }
+
+    private synchronized Session reemplazar(Session nueva) {
+        Session anterior = actual;
+        actual = nueva;
+        if (anterior != null) {
+            registry.close(anterior.getToken());
+        }
+        return nueva;
+    }
+
+    private boolean tieneRol(Session.Rol rol) {
+        Session session = vigente();
+        return session != null && session.getRol() == rol;
+    }
+
+    /**
+     * La sesión actual si sigue vigente en el registro; registra el acceso.
+     */
+    private Session vigente() {
+        Session session = actual;
+        if (session == null) {
+            return null;
+        }
+        Optional<Session> encontrada = registry.get(session.getToken());
+        if (encontrada.isEmpty()) {
+            actual = null;
+            return null;
+        }
+        return session;
     }
-} 
\ No newline at end of file
+}
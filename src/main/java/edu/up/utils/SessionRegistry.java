@@ -0,0 +1,247 @@
+package edu.up.utils;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import edu.up.models.entities.PersonaEntity;
+
+/**
+ * Registro de sesiones concurrentes, indexadas por token.
+ *
+ * Las sesiones viven en un ConcurrentHashMap, así que crear, buscar y cerrar
+ * no bloquean entre sí. La expiración por inactividad usa una rueda de
+ * tiempo (timer wheel): cada sesión se anota en la ranura del tick en que
+ * vencería y un hilo de fondo procesa solo la ranura del tick actual, sin
+ * recorrer todas las sesiones. Usar una sesión no la mueve de ranura (solo
+ * actualiza su último acceso); al llegar a su ranura se revisa y, si se usó
+ * mientras tanto, se vuelve a anotar más adelante.
+ *
+ * Una sesión vencida también se descarta al buscarla, aunque la rueda
+ * todavía no haya pasado por su ranura.
+ */
+public class SessionRegistry implements AutoCloseable {
+  private static final int TOKEN_BYTES = 32;
+  private static final int WHEEL_SIZE = 512;
+
+  private final ConcurrentHashMap<String, Session> sesiones = new ConcurrentHashMap<>();
+  private final SecureRandom random = new SecureRandom();
+  private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+  private final long idleTimeoutNanos;
+
+  // Rueda de expiración; ranuras y tick actual protegidos por wheelLock
+  private final Object wheelLock = new Object();
+  private final List<List<Session>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private final long tickNanos;
+  private final long startNanos = System.nanoTime();
+  private long currentTick;
+  private final ScheduledExecutorService ticker;
+
+  private final AtomicInteger activas = new AtomicInteger();
+  private final AtomicInteger pico = new AtomicInteger();
+  private final LongAdder creadas = new LongAdder();
+  private final LongAdder cerradas = new LongAdder();
+  private final LongAdder expiradas = new LongAdder();
+
+  /**
+   * @param idleTimeoutMs inactividad tras la cual vence una sesión; 0 o menos no vence
+   * @param tickMs        resolución de la rueda de expiración
+   */
+  public SessionRegistry(long idleTimeoutMs, long tickMs) {
+    if (tickMs <= 0) {
+      throw new IllegalArgumentException("El tick de expiración debe ser mayor a cero");
+    }
+    this.idleTimeoutNanos = idleTimeoutMs > 0 ? TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs) : 0L;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayList<>());
+    }
+    this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "session-expiry");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Crea una sesión para una persona con el tiempo de inactividad por defecto.
+   */
+  public Session create(PersonaEntity persona) {
+    return register(persona, false, idleTimeoutNanos);
+  }
+
+  /**
+   * Crea una sesión para una persona con un tiempo de inactividad propio.
+   *
+   * @param idleTimeoutMs 0 o menos para que no venza
+   */
+  public Session create(PersonaEntity persona, long idleTimeoutMs) {
+    return register(persona, false, toNanos(idleTimeoutMs));
+  }
+
+  public Session createAdmin() {
+    return register(null, true, idleTimeoutNanos);
+  }
+
+  public Session createAdmin(long idleTimeoutMs) {
+    return register(null, true, toNanos(idleTimeoutMs));
+  }
+
+  /**
+   * Busca una sesión vigente y registra el acceso.
+   *
+   * @return la sesión, o vacío si no existe, se cerró o venció
+   */
+  public Optional<Session> get(String token) {
+    if (token == null) {
+      return Optional.empty();
+    }
+    Session session = sesiones.get(token);
+    if (session == null) {
+      return Optional.empty();
+    }
+    long now = System.nanoTime();
+    if (session.vencida(now)) {
+      expire(session);
+      return Optional.empty();
+    }
+    session.touch(now);
+    return Optional.of(session);
+  }
+
+  /**
+   * Cierra una sesión (logout).
+   *
+   * @return true si la sesión existía
+   */
+  public boolean close(String token) {
+    Session session = token != null ? sesiones.remove(token) : null;
+    if (session == null) {
+      return false;
+    }
+    session.cerrar();
+    activas.decrementAndGet();
+    cerradas.increment();
+    Logger.info("SessionRegistry", () -> "Sesión cerrada: " + session);
+    return true;
+  }
+
+  public int getActiveCount() {
+    return activas.get();
+  }
+
+  public SessionStatistics getStatistics() {
+    return new SessionStatistics(activas.get(), pico.get(), creadas.sum(), cerradas.sum(), expiradas.sum());
+  }
+
+  /**
+   * Detiene la rueda de expiración. Las sesiones existentes se conservan.
+   */
+  @Override
+  public void close() {
+    ticker.shutdownNow();
+  }
+
+  private Session register(PersonaEntity persona, boolean admin, long idleNanos) {
+    if (!admin && persona == null) {
+      throw new IllegalArgumentException("La sesión requiere una persona");
+    }
+    Session session;
+    do {
+      session = new Session(newToken(), persona, admin, idleNanos);
+    } while (sesiones.putIfAbsent(session.getToken(), session) != null);
+
+    creadas.increment();
+    pico.accumulateAndGet(activas.incrementAndGet(), Math::max);
+    if (session.expira()) {
+      schedule(session);
+    }
+    Session creada = session;
+    Logger.info("SessionRegistry", () -> "Sesión iniciada: " + creada);
+    return session;
+  }
+
+  private String newToken() {
+    byte[] bytes = new byte[TOKEN_BYTES];
+    random.nextBytes(bytes);
+    return encoder.encodeToString(bytes);
+  }
+
+  /**
+   * Anota la sesión en la ranura del tick en que vencería.
+   */
+  private void schedule(Session session) {
+    synchronized (wheelLock) {
+      long tick = Math.max(ceilTick(session.vencimientoNanos()), currentTick + 1);
+      session.deadlineTick = tick;
+      wheel.get((int) (tick % WHEEL_SIZE)).add(session);
+    }
+  }
+
+  /**
+   * Avanza la rueda hasta el tick actual procesando solo las ranuras
+   * alcanzadas. Las sesiones que se usaron desde que se anotaron se vuelven
+   * a anotar según su nuevo vencimiento.
+   */
+  private void advance() {
+    try {
+      long now = System.nanoTime();
+      long target = (now - startNanos) / tickNanos;
+      List<Session> vencidas = new ArrayList<>();
+      synchronized (wheelLock) {
+        while (currentTick < target) {
+          currentTick++;
+          Iterator<Session> it = wheel.get((int) (currentTick % WHEEL_SIZE)).iterator();
+          while (it.hasNext()) {
+            Session session = it.next();
+            // Las anotadas para una vuelta posterior de la rueda se quedan
+            if (session.deadlineTick <= currentTick) {
+              it.remove();
+              vencidas.add(session);
+            }
+          }
+        }
+      }
+      for (Session session : vencidas) {
+        if (session.isCerrada()) {
+          continue;
+        }
+        if (session.vencida(now)) {
+          expire(session);
+        } else {
+          schedule(session);
+        }
+      }
+    } catch (RuntimeException e) {
+      Logger.error("SessionRegistry", "Error al expirar sesiones", e);
+    }
+  }
+
+  private void expire(Session session) {
+    if (sesiones.remove(session.getToken(), session)) {
+      session.cerrar();
+      activas.decrementAndGet();
+      expiradas.increment();
+      Logger.info("SessionRegistry", () -> "Sesión vencida por inactividad: " + session);
+    }
+  }
+
+  private long ceilTick(long nanos) {
+    long elapsed = nanos - startNanos;
+    return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+  }
+
+  private static long toNanos(long millis) {
+    return millis > 0 ? TimeUnit.MILLISECONDS.toNanos(millis) : 0L;
+  }
+}
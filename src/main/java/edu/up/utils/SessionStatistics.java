@@ -0,0 +1,49 @@
+package edu.up.utils;
+
+/**
+ * Instantánea inmutable de los contadores del SessionRegistry.
+ */
+public class SessionStatistics {
+  private final int activas;
+  private final int pico;
+  private final long creadas;
+  private final long cerradas;
+  private final long expiradas;
+
+  public SessionStatistics(int activas, int pico, long creadas, long cerradas, long expiradas) {
+    this.activas = activas;
+    this.pico = pico;
+    this.creadas = creadas;
+    this.cerradas = cerradas;
+    this.expiradas = expiradas;
+  }
+
+  public int getActivas() {
+    return activas;
+  }
+
+  /** Máximo de sesiones activas simultáneas desde el inicio. */
+  public int getPico() {
+    return pico;
+  }
+
+  public long getCreadas() {
+    return creadas;
+  }
+
+  /** Sesiones cerradas por logout. */
+  public long getCerradas() {
+    return cerradas;
+  }
+
+  /** Sesiones vencidas por inactividad. */
+  public long getExpiradas() {
+    return expiradas;
+  }
+
+  @Override
+  public String toString() {
+    return "SessionStatistics{activas=" + activas + ", pico=" + pico + ", creadas=" + creadas
+        + ", cerradas=" + cerradas + ", expiradas=" + expiradas + "}";
+  }
+}
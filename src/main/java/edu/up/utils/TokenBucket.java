@@ -0,0 +1,75 @@
+package edu.up.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin locks, implementado como GCRA (generic cell rate
+ * algorithm).
+ *
+ * En lugar de guardar la cantidad de fichas y la hora de la última recarga,
+ * guarda un único instante teórico de llegada (TAT): cada ficha consumida lo
+ * corre un intervalo hacia adelante y la solicitud se rechaza si quedaría más
+ * de capacity intervalos por delante del reloj. Así el estado entra en un
+ * AtomicLong y tryAcquire es un compareAndSet, sin hilos de recarga.
+ */
+public final class TokenBucket {
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final AtomicLong tat;
+
+  /**
+   * @param capacity        fichas disponibles de una vez (ráfaga)
+   * @param tokensPerSecond ritmo de recarga
+   */
+  public TokenBucket(int capacity, double tokensPerSecond) {
+    if (capacity < 1 || tokensPerSecond <= 0) {
+      throw new IllegalArgumentException("La capacidad y el ritmo del token bucket deben ser positivos");
+    }
+    this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+    this.burstNanos = intervalNanos * capacity;
+    this.tat = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * Intenta consumir una ficha.
+   *
+   * @return 0 si se concedió; si no, los nanosegundos hasta que haya una
+   */
+  public long tryAcquire() {
+    long now = System.nanoTime();
+    while (true) {
+      long actual = tat.get();
+      long siguiente = Math.max(actual, now) + intervalNanos;
+      long exceso = siguiente - now - burstNanos;
+      if (exceso > 0) {
+        return exceso;
+      }
+      if (tat.compareAndSet(actual, siguiente)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Devuelve una ficha consumida con tryAcquire.
+   */
+  public void refund() {
+    long now = System.nanoTime();
+    while (true) {
+      long actual = tat.get();
+      if (actual - now <= 0) {
+        return;
+      }
+      if (tat.compareAndSet(actual, Math.max(now, actual - intervalNanos))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Tiempo que tarda el bucket vacío en volver a estar lleno.
+   */
+  public long getRefillNanos() {
+    return burstNanos;
+  }
+}
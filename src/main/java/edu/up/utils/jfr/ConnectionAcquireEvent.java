@@ -0,0 +1,25 @@
+package edu.up.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Apertura de una conexión física a la base de datos.
+ */
+@Name("edu.up.ConnectionAcquire")
+@Label("Apertura de conexión")
+@Category({ "Turnero", "Base de datos" })
+@Description("Apertura de una conexión JDBC física en MySQLConnectionManager")
+public final class ConnectionAcquireEvent extends jdk.jfr.Event {
+  @Label("URL")
+  public String url;
+
+  @Label("Dedicada")
+  @Description("Conexión con propiedades propias que no pasa por el pool")
+  public boolean dedicada;
+
+  @Label("Exitosa")
+  public boolean exitosa;
+}
@@ -0,0 +1,32 @@
+package edu.up.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ejecución de una sentencia SQL, desde execute* hasta que se termina de
+ * leer el ResultSet. La traza de pila identifica el método del DAO.
+ */
+@Name("edu.up.DatabaseQuery")
+@Label("Consulta SQL")
+@Category({ "Turnero", "Base de datos" })
+@Description("Ejecución de una sentencia SQL y lectura de sus filas")
+@StackTrace(true)
+public final class DatabaseQueryEvent extends jdk.jfr.Event {
+  @Label("Sentencia")
+  @Description("Constante SQL del DAO o texto abreviado")
+  public String sentencia;
+
+  @Label("SQL")
+  public String sql;
+
+  @Label("Filas")
+  @Description("Filas leídas, o afectadas en las actualizaciones; -1 si no se conoce")
+  public long filas;
+
+  @Label("Exitosa")
+  public boolean exitosa;
+}
@@ -0,0 +1,104 @@
+package edu.up.utils.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import edu.up.controllers.infrastructure.ConfigSnapshot;
+import edu.up.controllers.infrastructure.Configuration;
+import edu.up.utils.Logger;
+import jdk.jfr.Recording;
+
+/**
+ * Grabación continua de JDK Flight Recorder para analizar incidentes
+ * después de que ocurren.
+ *
+ * Con jfr.enabled=true se inicia al arrancar una grabación en disco acotada
+ * por antigüedad (jfr.maxAgeMinutes) y tamaño (jfr.maxSizeMb): JFR descarta
+ * los fragmentos más viejos, así que siempre están los últimos minutos. Tras
+ * un "se colgó", se vuelca con dump() o desde afuera con:
+ *
+ *   jcmd &lt;pid&gt; JFR.dump name=turnero filename=incidente.jfr
+ *
+ * Además de la configuración de JFR elegida (jfr.settings, "default" o
+ * "profile") se habilitan los eventos propios de la aplicación.
+ */
+public final class FlightRecording {
+  public static final String NOMBRE = "turnero";
+  private static final DateTimeFormatter SELLO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private static Recording recording;
+  private static Path directorio;
+
+  private FlightRecording() {
+    throw new UnsupportedOperationException("Esta es una clase de utilidad y no debe ser instanciada");
+  }
+
+  /**
+   * Inicia la grabación continua si jfr.enabled es true.
+   */
+  public static synchronized void startFromConfiguration() {
+    ConfigSnapshot config = Configuration.current();
+    if (!config.getBoolean("jfr.enabled", false) || recording != null) {
+      return;
+    }
+    try {
+      directorio = Paths.get(config.getString("jfr.directory", "logs/jfr")).toAbsolutePath();
+      Files.createDirectories(directorio);
+
+      Recording nueva = new Recording(jdk.jfr.Configuration.getConfiguration(config.getString("jfr.settings", "default")));
+      nueva.setName(NOMBRE);
+      nueva.setToDisk(true);
+      nueva.setMaxAge(Duration.ofMinutes(config.getLong("jfr.maxAgeMinutes", 30)));
+      nueva.setMaxSize(config.getLong("jfr.maxSizeMb", 250) * 1024L * 1024L);
+      if (config.getBoolean("jfr.dumpOnExit", true)) {
+        nueva.setDumpOnExit(true);
+        nueva.setDestination(archivoNuevo("salida"));
+      }
+      long umbralConsultaMs = config.getLong("jfr.queryThresholdMs", 0);
+      nueva.enable(DatabaseQueryEvent.class).withThreshold(Duration.ofMillis(umbralConsultaMs)).withStackTrace();
+      nueva.enable(ConnectionAcquireEvent.class);
+      nueva.enable(LoginEvent.class);
+      nueva.enable(ViewSwitchEvent.class);
+      nueva.start();
+      recording = nueva;
+      Logger.info("FlightRecording", "Grabación JFR continua iniciada (" + nueva.getMaxAge().toMinutes()
+          + " min, " + nueva.getMaxSize() / (1024 * 1024) + " MB) en " + directorio);
+    } catch (IOException | ParseException | RuntimeException e) {
+      Logger.error("FlightRecording", "No se pudo iniciar la grabación JFR", e);
+    }
+  }
+
+  /**
+   * Vuelca lo grabado hasta ahora a un archivo nuevo en jfr.directory.
+   *
+   * @return el archivo escrito
+   * @throws IllegalStateException si no hay grabación en curso
+   */
+  public static synchronized Path dump() {
+    if (recording == null) {
+      throw new IllegalStateException("No hay una grabación JFR en curso");
+    }
+    try {
+      Path archivo = archivoNuevo("incidente");
+      recording.dump(archivo);
+      Logger.info("FlightRecording", "Grabación JFR volcada en " + archivo);
+      return archivo;
+    } catch (IOException e) {
+      throw new RuntimeException("Error al volcar la grabación JFR", e);
+    }
+  }
+
+  public static synchronized boolean isRecording() {
+    return recording != null;
+  }
+
+  private static Path archivoNuevo(String motivo) {
+    return directorio.resolve(NOMBRE + "-" + motivo + "-" + LocalDateTime.now().format(SELLO) + ".jfr");
+  }
+}
@@ -0,0 +1,22 @@
+package edu.up.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Intento de autenticación, incluida la verificación de la contraseña.
+ */
+@Name("edu.up.Login")
+@Label("Login")
+@Category({ "Turnero", "Autenticación" })
+@Description("Intento de autenticación en AuthenticationServiceImpl")
+public final class LoginEvent extends jdk.jfr.Event {
+  @Label("Usuario")
+  public String usuario;
+
+  @Label("Resultado")
+  @Description("ADMINISTRADOR, USUARIO, INVALIDO o ERROR")
+  public String resultado;
+}
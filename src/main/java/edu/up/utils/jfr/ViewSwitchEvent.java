@@ -0,0 +1,22 @@
+package edu.up.utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Cambio de vista en la ventana principal, incluido onHide/onShow y la
+ * construcción de una vista diferida.
+ */
+@Name("edu.up.ViewSwitch")
+@Label("Cambio de vista")
+@Category({ "Turnero", "Interfaz" })
+@Description("Cambio de tarjeta del CardLayout en MainFrame")
+public final class ViewSwitchEvent extends jdk.jfr.Event {
+  @Label("Vista anterior")
+  public String desde;
+
+  @Label("Vista nueva")
+  public String hacia;
+}
@@ -0,0 +1,27 @@
+package edu.up.utils.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador monótono. Usa LongAdder, que reparte los incrementos concurrentes
+ * en celdas separadas en lugar de competir por un único valor.
+ */
+public final class Counter implements CounterMBean {
+  private final LongAdder count = new LongAdder();
+
+  Counter() {
+  }
+
+  public void increment() {
+    count.increment();
+  }
+
+  public void add(long n) {
+    count.add(n);
+  }
+
+  @Override
+  public long getCount() {
+    return count.sum();
+  }
+}
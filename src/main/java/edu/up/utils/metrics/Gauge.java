@@ -0,0 +1,25 @@
+package edu.up.utils.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Valor instantáneo que se calcula recién cuando se lo consulta (tamaño de
+ * un pool, sesiones activas, etc.), así que no cuesta nada mientras nadie
+ * lo mira.
+ */
+public final class Gauge implements GaugeMBean {
+  private final DoubleSupplier supplier;
+
+  Gauge(DoubleSupplier supplier) {
+    this.supplier = supplier;
+  }
+
+  @Override
+  public double getValue() {
+    try {
+      return supplier.getAsDouble();
+    } catch (RuntimeException e) {
+      return Double.NaN;
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package edu.up.utils.metrics;
+
+/**
+ * Vista JMX de un Gauge.
+ */
+public interface GaugeMBean {
+  double getValue();
+}
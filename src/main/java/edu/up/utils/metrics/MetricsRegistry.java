@@ -0,0 +1,170 @@
+package edu.up.utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import edu.up.utils.Logger;
+
+/**
+ * Registro de métricas de la aplicación: contadores, timers y gauges por
+ * nombre (por ejemplo "medic.guardarMedico").
+ *
+ * Pedir dos veces el mismo nombre devuelve la misma métrica, así que las
+ * clases pueden obtenerlas en campos estáticos sin coordinarse. Si JMX está
+ * habilitado (enableJmx), cada métrica se publica como MBean bajo
+ * edu.up:type=Counter|Timer|Gauge,name=... y se puede ver con jconsole.
+ * startReporting() además vuelca todas las métricas al log periódicamente.
+ */
+public final class MetricsRegistry {
+  private static final String DOMINIO = "edu.up";
+
+  private final ConcurrentHashMap<String, Object> metricas = new ConcurrentHashMap<>();
+  private volatile MBeanServer mbeanServer;
+  private ScheduledExecutorService reporter;
+  private ScheduledFuture<?> reportTask;
+
+  private MetricsRegistry() {
+  }
+
+  private static final class Holder {
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+  }
+
+  public static MetricsRegistry getInstance() {
+    return Holder.INSTANCE;
+  }
+
+  public Counter counter(String nombre) {
+    return registrar(nombre, Counter.class, Counter::new);
+  }
+
+  public Timer timer(String nombre) {
+    return registrar(nombre, Timer.class, Timer::new);
+  }
+
+  /**
+   * Registra un gauge. Si ya existía uno con ese nombre se reemplaza, para
+   * que un componente recreado publique sus propios valores.
+   */
+  public Gauge gauge(String nombre, DoubleSupplier supplier) {
+    Gauge gauge = new Gauge(supplier);
+    metricas.put(nombre, gauge);
+    publicar(nombre, gauge, true);
+    return gauge;
+  }
+
+  /**
+   * Publica en el MBeanServer de la plataforma las métricas registradas y las
+   * que se registren después.
+   */
+  public synchronized void enableJmx() {
+    if (mbeanServer != null) {
+      return;
+    }
+    mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    metricas.forEach((nombre, metrica) -> publicar(nombre, metrica, false));
+    Logger.info("MetricsRegistry", "Métricas publicadas por JMX en el dominio " + DOMINIO);
+  }
+
+  /**
+   * Vuelca todas las métricas al log cada intervalo; 0 o menos lo detiene.
+   */
+  public synchronized void startReporting(long intervaloMs) {
+    if (reportTask != null) {
+      reportTask.cancel(false);
+      reportTask = null;
+    }
+    if (intervaloMs <= 0) {
+      return;
+    }
+    if (reporter == null) {
+      reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    reportTask = reporter.scheduleAtFixedRate(this::reportar, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Valores actuales de todas las métricas, ordenados por nombre.
+   */
+  public Map<String, String> snapshot() {
+    Map<String, String> resultado = new TreeMap<>();
+    metricas.forEach((nombre, metrica) -> resultado.put(nombre, describir(metrica)));
+    return resultado;
+  }
+
+  private <M> M registrar(String nombre, Class<M> tipo, Supplier<M> factory) {
+    Object existente = metricas.get(nombre);
+    if (existente == null) {
+      existente = metricas.computeIfAbsent(nombre, n -> {
+        M nueva = factory.get();
+        publicar(n, nueva, false);
+        return nueva;
+      });
+    }
+    if (!tipo.isInstance(existente)) {
+      throw new IllegalArgumentException("La métrica " + nombre + " ya existe como "
+          + existente.getClass().getSimpleName());
+    }
+    return tipo.cast(existente);
+  }
+
+  private void publicar(String nombre, Object metrica, boolean reemplazar) {
+    MBeanServer server = mbeanServer;
+    if (server == null) {
+      return;
+    }
+    try {
+      ObjectName objectName = new ObjectName(DOMINIO + ":type=" + metrica.getClass().getSimpleName()
+          + ",name=" + ObjectName.quote(nombre));
+      if (reemplazar && server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+      server.registerMBean(metrica, objectName);
+    } catch (InstanceAlreadyExistsException e) {
+      // Otra llamada concurrente la publicó primero
+    } catch (JMException e) {
+      Logger.warn("MetricsRegistry", "No se pudo publicar la métrica " + nombre + " por JMX: " + e.getMessage());
+    }
+  }
+
+  private void reportar() {
+    try {
+      StringBuilder sb = new StringBuilder("Métricas:");
+      snapshot().forEach((nombre, valor) -> sb.append(System.lineSeparator())
+          .append("  ").append(nombre).append(' ').append(valor));
+      Logger.info("MetricsRegistry", sb.toString());
+    } catch (RuntimeException e) {
+      Logger.error("MetricsRegistry", "Error al volcar las métricas", e);
+    }
+  }
+
+  private static String describir(Object metrica) {
+    if (metrica instanceof Counter) {
+      return "count=" + ((Counter) metrica).getCount();
+    }
+    if (metrica instanceof Timer) {
+      Timer timer = (Timer) metrica;
+      return String.format("count=%d mean=%.2fms p50=%.2fms p99=%.2fms max=%.2fms",
+          timer.getCount(), timer.getMeanMillis(), timer.getP50Millis(), timer.getP99Millis(),
+          timer.getMaxMillis());
+    }
+    return "value=" + ((Gauge) metrica).getValue();
+  }
+}
@@ -0,0 +1,74 @@
+package edu.up.utils.metrics;
+
+import java.util.function.Supplier;
+
+import edu.up.utils.Histogram;
+
+/**
+ * Mide duraciones sobre un Histogram sin locks. El uso típico es tomar
+ * System.nanoTime() al empezar y llamar a recordSince() en un finally.
+ */
+public final class Timer implements TimerMBean {
+  private static final double NANOS_POR_MS = 1_000_000.0;
+
+  private final Histogram histogram = new Histogram();
+
+  /**
+   * Timer suelto, que no se publica. Para verlo por JMX y en el log hay que
+   * pedirlo a MetricsRegistry.
+   */
+  public Timer() {
+  }
+
+  public void record(long nanos) {
+    histogram.record(nanos);
+  }
+
+  /**
+   * Registra el tiempo transcurrido desde un System.nanoTime() anterior.
+   */
+  public void recordSince(long inicioNanos) {
+    histogram.record(System.nanoTime() - inicioNanos);
+  }
+
+  /**
+   * Ejecuta y mide una operación, también si termina con una excepción.
+   */
+  public <T> T time(Supplier<T> operacion) {
+    long inicio = System.nanoTime();
+    try {
+      return operacion.get();
+    } finally {
+      recordSince(inicio);
+    }
+  }
+
+  public Histogram.Snapshot snapshot() {
+    return histogram.snapshot();
+  }
+
+  @Override
+  public long getCount() {
+    return histogram.getCount();
+  }
+
+  @Override
+  public double getMeanMillis() {
+    return histogram.getMean() / NANOS_POR_MS;
+  }
+
+  @Override
+  public double getP50Millis() {
+    return histogram.getValueAtPercentile(50) / NANOS_POR_MS;
+  }
+
+  @Override
+  public double getP99Millis() {
+    return histogram.getValueAtPercentile(99) / NANOS_POR_MS;
+  }
+
+  @Override
+  public double getMaxMillis() {
+    return histogram.getMax() / NANOS_POR_MS;
+  }
+}
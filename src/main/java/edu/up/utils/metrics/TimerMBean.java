@@ -0,0 +1,16 @@
+package edu.up.utils.metrics;
+
+/**
+ * Vista JMX de un Timer. Los tiempos están en milisegundos.
+ */
+public interface TimerMBean {
+  long getCount();
+
+  double getMeanMillis();
+
+  double getP50Millis();
+
+  double getP99Millis();
+
+  double getMaxMillis();
+}